@@ -289,8 +289,8 @@ stop() {
     log_info "Sending TERM signal to process (PID: $pid)..."
     kill -TERM "$pid"
 
-    # Wait for graceful shutdown (max 30 seconds)
-    local timeout=30
+    # Wait for graceful shutdown including Socket.IO drain (max 60 seconds)
+    local timeout=60
     local elapsed=0
     while is_running "$pid" && [ $elapsed -lt $timeout ]; do
         sleep 1
@@ -0,0 +1,155 @@
+package com.ktb.chatapp.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.concurrent.Callable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+/**
+ * 로컬 Caffeine(L1) + Redis(L2) 2단계 캐시
+ *
+ * - 조회: L1 → L2 → 값 로더 순으로 확인하고, 하위 계층에서 찾은 값은 L1에 채운다.
+ * - 삭제: L2를 먼저 지운 뒤 L1을 지우고 다른 노드에 삭제를 전파한다 (TwoTierCacheManager).
+ * - L1 항목은 l1Ttl 동안만 유지되므로 전파 메시지가 유실되어도 오래된 값은 그 시간 안에 사라진다.
+ *
+ * L1 키는 다른 노드에서 전달받은 키와 비교할 수 있도록 문자열로 저장한다.
+ *
+ * 메트릭: L1은 cache.gets 등 Caffeine 메트릭을 "{name}.l1" 캐시 이름으로, L2는 cache.l2.gets{cache=name}로 기록한다.
+ */
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final TwoTierCacheManager.EvictionPublisher evictionPublisher;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+
+    TwoTierCache(
+            String name,
+            Cache remote,
+            TwoTierCacheManager.CacheSpec spec,
+            TwoTierCacheManager.EvictionPublisher evictionPublisher,
+            MeterRegistry meterRegistry) {
+        super(false);
+        this.name = name;
+        this.remote = remote;
+        this.evictionPublisher = evictionPublisher;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(spec.l1MaxSize())
+                .expireAfterWrite(spec.l1Ttl())
+                .recordStats()
+                .build();
+
+        // 다른 Caffeine 캐시와 같은 태그 키(cache)를 유지해야 Prometheus에 함께 노출된다
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name + ".l1");
+        this.remoteHits = remoteGets(meterRegistry, "hit");
+        this.remoteMisses = remoteGets(meterRegistry, "miss");
+    }
+
+    private Counter remoteGets(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.l2.gets")
+                .tags("cache", name, "result", result)
+                .description("The number of times L1 misses were served (hit) or not served (miss) by the Redis tier.")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = localKey(key);
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            return value;
+        }
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper == null || wrapper.get() == null) {
+            remoteMisses.increment();
+            return null;
+        }
+        remoteHits.increment();
+        local.put(localKey, wrapper.get());
+        return wrapper.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return (T) fromStoreValue(local.get(localKey(key), k -> {
+            ValueWrapper wrapper = remote.get(key);
+            if (wrapper != null && wrapper.get() != null) {
+                remoteHits.increment();
+                return wrapper.get();
+            }
+            remoteMisses.increment();
+            T value = loadValue(key, valueLoader);
+            if (value != null) {
+                remote.put(key, value);
+            }
+            return value;
+        }));
+    }
+
+    private static <T> T loadValue(Object key, Callable<T> valueLoader) {
+        try {
+            return valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            // null 값은 캐시하지 않는다 (disableCachingNullValues와 동일)
+            return;
+        }
+        remote.put(key, value);
+        local.put(localKey(key), value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(localKey(key));
+        evictionPublisher.evicted(name, localKey(key));
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        evictionPublisher.cleared(name);
+    }
+
+    /**
+     * Drop an entry from L1 only, on eviction broadcast from another node
+     */
+    void evictLocal(String key) {
+        local.invalidate(key);
+    }
+
+    /**
+     * Drop all entries from L1 only, on clear broadcast from another node
+     */
+    void clearLocal() {
+        local.invalidateAll();
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,149 @@
+package com.ktb.chatapp.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * 로컬 Caffeine(L1) + Redis(L2) CacheManager
+ * L2는 주어진 CacheManager(RedisCacheManager)를 사용하고, 캐시마다 L1을 하나씩 둔다.
+ *
+ * 한 노드에서 evict/clear가 일어나면 cache:evict 토픽으로 전파해 모든 노드의 L1에서도 제거한다.
+ * 메시지 형식: nodeId:op:cacheName[:key] (op = evict | clear)
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager {
+
+    private static final String EVICTION_TOPIC = "cache:evict";
+    private static final String EVICT = "evict";
+    private static final String CLEAR = "clear";
+
+    /**
+     * L1 설정
+     *
+     * @param l1MaxSize maximum number of entries kept in memory
+     * @param l1Ttl how long an entry stays in memory, bounding staleness if an eviction broadcast is lost
+     */
+    public record CacheSpec(long l1MaxSize, Duration l1Ttl) {
+    }
+
+    /**
+     * Propagates L1 evictions to the other nodes
+     */
+    interface EvictionPublisher {
+
+        void evicted(String cacheName, String key);
+
+        void cleared(String cacheName);
+    }
+
+    /**
+     * 자신이 발행한 메시지를 구분하기 위한 노드 식별자
+     */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final CacheManager remoteCacheManager;
+    private final Function<String, CacheSpec> specs;
+    private final MeterRegistry meterRegistry;
+    private final RTopic evictionTopic;
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    private int listenerId;
+
+    /**
+     * @param remoteCacheManager L2 cache manager
+     * @param redissonClient client used to broadcast evictions
+     * @param meterRegistry registry for per-tier hit/miss metrics
+     * @param specs L1 settings by cache name
+     */
+    public TwoTierCacheManager(
+            CacheManager remoteCacheManager,
+            RedissonClient redissonClient,
+            MeterRegistry meterRegistry,
+            Function<String, CacheSpec> specs) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.specs = specs;
+        this.meterRegistry = meterRegistry;
+        this.evictionTopic = redissonClient.getTopic(EVICTION_TOPIC, StringCodec.INSTANCE);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerId = evictionTopic.addListener(String.class, (channel, message) -> onEviction(message));
+    }
+
+    @PreDestroy
+    void unsubscribe() {
+        evictionTopic.removeListener(listenerId);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoTierCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, key -> new TwoTierCache(
+                key, remote, specs.apply(key), new TopicEvictionPublisher(), meterRegistry));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Set.copyOf(caches.keySet());
+    }
+
+    void onEviction(String message) {
+        String[] parts = message.split(":", 4);
+        if (parts.length < 3 || parts[0].equals(nodeId)) {
+            return;
+        }
+        TwoTierCache cache = caches.get(parts[2]);
+        if (cache == null) {
+            return;
+        }
+        if (CLEAR.equals(parts[1])) {
+            cache.clearLocal();
+        } else if (EVICT.equals(parts[1]) && parts.length == 4) {
+            cache.evictLocal(parts[3]);
+        }
+    }
+
+    private final class TopicEvictionPublisher implements EvictionPublisher {
+
+        @Override
+        public void evicted(String cacheName, String key) {
+            publish(String.join(":", nodeId, EVICT, cacheName, key));
+        }
+
+        @Override
+        public void cleared(String cacheName) {
+            publish(String.join(":", nodeId, CLEAR, cacheName));
+        }
+
+        private void publish(String message) {
+            try {
+                evictionTopic.publish(message);
+            } catch (Exception e) {
+                // 발행 실패 시 다른 노드의 L1은 l1Ttl 경과 후 갱신된다
+                log.warn("Failed to publish cache eviction: {}", message, e);
+            }
+        }
+    }
+}
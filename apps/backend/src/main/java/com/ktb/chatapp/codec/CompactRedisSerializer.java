@@ -0,0 +1,43 @@
+package com.ktb.chatapp.codec;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 등록된 타입은 ValueCodecRegistry의 바이너리 형식으로, 그 외 값은 기존 직렬화기로 처리하는 RedisSerializer
+ * 읽기 시 헤더로 형식을 판별하므로 기존 직렬화기로 저장된 값도 그대로 읽힌다.
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    private final ValueCodecRegistry registry;
+    private final RedisSerializer<Object> fallback;
+
+    public CompactRedisSerializer(ValueCodecRegistry registry, RedisSerializer<Object> fallback) {
+        this.registry = registry;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (!registry.supports(value)) {
+            return fallback.serialize(value);
+        }
+        try {
+            return registry.encode(value);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Could not encode " + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (!ValueCodecRegistry.isCompact(bytes)) {
+            return fallback.deserialize(bytes);
+        }
+        try {
+            return registry.decode(bytes);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Could not decode compact value", e);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.ktb.chatapp.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import java.io.IOException;
+import org.redisson.client.codec.BaseCodec;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+
+/**
+ * 값은 ValueCodecRegistry의 바이너리 형식으로, 그 외 값과 맵 키는 기존 코덱으로 처리하는 Redisson Codec
+ * 맵 키 인코딩은 바꾸지 않으므로 기존 Hash 필드가 그대로 조회된다.
+ */
+public class CompactRedissonCodec extends BaseCodec {
+
+    private final ValueCodecRegistry registry;
+    private final Codec fallback;
+
+    private final Encoder encoder;
+    private final Decoder<Object> decoder;
+
+    public CompactRedissonCodec(ValueCodecRegistry registry, Codec fallback) {
+        this.registry = registry;
+        this.fallback = fallback;
+        this.encoder = this::encode;
+        this.decoder = (buf, state) -> {
+            if (buf.isReadable() && buf.getByte(buf.readerIndex()) == ValueCodecRegistry.MAGIC) {
+                return registry.read(new ByteBufInputStream(buf));
+            }
+            return fallback.getValueDecoder().decode(buf, state);
+        };
+    }
+
+    private ByteBuf encode(Object value) throws IOException {
+        if (!registry.supports(value)) {
+            return fallback.getValueEncoder().encode(value);
+        }
+        ByteBuf out = ByteBufAllocator.DEFAULT.buffer();
+        try {
+            registry.write(value, new ByteBufOutputStream(out));
+            return out;
+        } catch (IOException | RuntimeException e) {
+            out.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Decoder<Object> getValueDecoder() {
+        return decoder;
+    }
+
+    @Override
+    public Encoder getValueEncoder() {
+        return encoder;
+    }
+
+    @Override
+    public Decoder<Object> getMapKeyDecoder() {
+        return fallback.getMapKeyDecoder();
+    }
+
+    @Override
+    public Encoder getMapKeyEncoder() {
+        return fallback.getMapKeyEncoder();
+    }
+
+    @Override
+    public ClassLoader getClassLoader() {
+        return fallback.getClassLoader();
+    }
+}
@@ -0,0 +1,47 @@
+package com.ktb.chatapp.codec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * 타입별 스키마 기반 바이너리 인코딩
+ * 필드를 정해진 순서로 기록하므로 클래스명 등 타입 메타데이터를 값에 포함하지 않는다.
+ *
+ * 레이아웃을 바꿀 때는 version()을 올리고, read는 이전 버전도 계속 읽을 수 있어야 한다.
+ *
+ * @param <T> the encoded type
+ */
+public interface ValueCodec<T> {
+
+    /**
+     * Type this codec encodes. Values are matched by their exact runtime class.
+     */
+    Class<T> type();
+
+    /**
+     * Tag identifying this codec in the encoded header. Must be unique within a registry.
+     */
+    byte tag();
+
+    /**
+     * Current layout version written into the encoded header
+     */
+    byte version();
+
+    /**
+     * Whether this codec can encode the given value. Values it cannot encode fall back to the default serializer.
+     */
+    default boolean accepts(T value) {
+        return true;
+    }
+
+    void write(T value, DataOutput out) throws IOException;
+
+    /**
+     * Read a value written with the given layout version
+     *
+     * @throws IOException if the version is not supported by this codec
+     */
+    T read(DataInput in, byte version) throws IOException;
+}
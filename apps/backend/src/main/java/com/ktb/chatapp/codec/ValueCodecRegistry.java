@@ -0,0 +1,110 @@
+package com.ktb.chatapp.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 타입별 ValueCodec 등록소
+ *
+ * 인코딩 형식: [MAGIC][tag][version][payload]
+ * - MAGIC(0xC0)은 UTF-8에서 나올 수 없는 바이트이므로 기존 JSON 값과 구분된다.
+ *   첫 바이트가 MAGIC이 아닌 값은 기존 직렬화기로 읽으므로 배포 전에 저장된 값도 그대로 읽힌다.
+ * - version은 코덱별 레이아웃 버전으로, 레이아웃이 바뀌어도 이전 값을 읽을 수 있게 한다.
+ */
+public final class ValueCodecRegistry {
+
+    public static final byte MAGIC = (byte) 0xC0;
+
+    private final Map<Class<?>, ValueCodec<?>> byType = new HashMap<>();
+    private final Map<Byte, ValueCodec<?>> byTag = new HashMap<>();
+
+    /**
+     * Register a codec for its type
+     *
+     * @throws IllegalArgumentException if the type or tag is already registered
+     */
+    public ValueCodecRegistry register(ValueCodec<?> codec) {
+        if (byType.containsKey(codec.type())) {
+            throw new IllegalArgumentException("Codec already registered for " + codec.type().getName());
+        }
+        if (byTag.containsKey(codec.tag())) {
+            throw new IllegalArgumentException("Codec tag already in use: " + codec.tag());
+        }
+        byType.put(codec.type(), codec);
+        byTag.put(codec.tag(), codec);
+        return this;
+    }
+
+    /**
+     * Whether the value can be written in the compact format
+     */
+    public boolean supports(Object value) {
+        if (value == null) {
+            return false;
+        }
+        ValueCodec<Object> codec = codecFor(value.getClass());
+        return codec != null && codec.accepts(value);
+    }
+
+    /**
+     * Whether the encoded value starts with the compact format header
+     */
+    public static boolean isCompact(byte[] bytes) {
+        return bytes != null && bytes.length > 0 && bytes[0] == MAGIC;
+    }
+
+    public void write(Object value, DataOutput out) throws IOException {
+        ValueCodec<Object> codec = codecFor(value.getClass());
+        if (codec == null) {
+            throw new IllegalArgumentException("No codec registered for " + value.getClass().getName());
+        }
+        out.writeByte(MAGIC);
+        out.writeByte(codec.tag());
+        out.writeByte(codec.version());
+        codec.write(value, out);
+    }
+
+    public Object read(DataInput in) throws IOException {
+        byte magic = in.readByte();
+        if (magic != MAGIC) {
+            throw new IOException("Not a compact value");
+        }
+        byte tag = in.readByte();
+        ValueCodec<?> codec = byTag.get(tag);
+        if (codec == null) {
+            throw new IOException("Unknown codec tag: " + tag);
+        }
+        return codec.read(in, in.readByte());
+    }
+
+    public byte[] encode(Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try {
+            write(value, new DataOutputStream(bytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public Object decode(byte[] bytes) {
+        try {
+            return read(new DataInputStream(new ByteArrayInputStream(bytes)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private ValueCodec<Object> codecFor(Class<?> type) {
+        return (ValueCodec<Object>) byType.get(type);
+    }
+}
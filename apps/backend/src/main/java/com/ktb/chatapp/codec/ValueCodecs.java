@@ -0,0 +1,340 @@
+package com.ktb.chatapp.codec;
+
+import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.model.RateLimit;
+import com.ktb.chatapp.model.Session;
+import com.ktb.chatapp.model.User;
+import com.ktb.chatapp.service.SessionMetadata;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+
+/**
+ * Redis에 저장되는 값 타입별 ValueCodec 모음
+ * 태그는 저장된 값에 기록되므로 한 번 배포된 태그는 다른 타입에 재사용하지 않는다.
+ */
+public final class ValueCodecs {
+
+    private static final byte SESSION_TAG = 1;
+    private static final byte RATE_LIMIT_TAG = 2;
+    private static final byte USER_TAG = 3;
+    private static final byte USER_RESPONSE_TAG = 4;
+    private static final byte STRING_SET_TAG = 5;
+
+    private ValueCodecs() {
+    }
+
+    /**
+     * Registry with codecs for all Redis value types of this application
+     */
+    public static ValueCodecRegistry defaults() {
+        return new ValueCodecRegistry()
+                .register(new SessionCodec())
+                .register(new RateLimitCodec())
+                .register(new UserCodec())
+                .register(new UserResponseCodec())
+                .register(new StringSetCodec());
+    }
+
+    static final class SessionCodec implements ValueCodec<Session> {
+
+        @Override
+        public Class<Session> type() {
+            return Session.class;
+        }
+
+        @Override
+        public byte tag() {
+            return SESSION_TAG;
+        }
+
+        @Override
+        public byte version() {
+            return 1;
+        }
+
+        @Override
+        public void write(Session session, DataOutput out) throws IOException {
+            writeString(out, session.getId());
+            writeString(out, session.getUserId());
+            writeString(out, session.getSessionId());
+            out.writeLong(session.getCreatedAt());
+            out.writeLong(session.getLastActivity());
+            SessionMetadata metadata = session.getMetadata();
+            out.writeBoolean(metadata != null);
+            if (metadata != null) {
+                writeString(out, metadata.userAgent());
+                writeString(out, metadata.ipAddress());
+                writeString(out, metadata.deviceInfo());
+            }
+            writeInstant(out, session.getExpiresAt());
+        }
+
+        @Override
+        public Session read(DataInput in, byte version) throws IOException {
+            requireVersion(this, version);
+            return Session.builder()
+                    .id(readString(in))
+                    .userId(readString(in))
+                    .sessionId(readString(in))
+                    .createdAt(in.readLong())
+                    .lastActivity(in.readLong())
+                    .metadata(in.readBoolean()
+                            ? new SessionMetadata(readString(in), readString(in), readString(in))
+                            : null)
+                    .expiresAt(readInstant(in))
+                    .build();
+        }
+    }
+
+    static final class RateLimitCodec implements ValueCodec<RateLimit> {
+
+        @Override
+        public Class<RateLimit> type() {
+            return RateLimit.class;
+        }
+
+        @Override
+        public byte tag() {
+            return RATE_LIMIT_TAG;
+        }
+
+        @Override
+        public byte version() {
+            return 1;
+        }
+
+        @Override
+        public void write(RateLimit rateLimit, DataOutput out) throws IOException {
+            writeString(out, rateLimit.getId());
+            writeString(out, rateLimit.getClientId());
+            out.writeInt(rateLimit.getCount());
+            writeInstant(out, rateLimit.getExpiresAt());
+        }
+
+        @Override
+        public RateLimit read(DataInput in, byte version) throws IOException {
+            requireVersion(this, version);
+            return RateLimit.builder()
+                    .id(readString(in))
+                    .clientId(readString(in))
+                    .count(in.readInt())
+                    .expiresAt(readInstant(in))
+                    .build();
+        }
+    }
+
+    static final class UserCodec implements ValueCodec<User> {
+
+        @Override
+        public Class<User> type() {
+            return User.class;
+        }
+
+        @Override
+        public byte tag() {
+            return USER_TAG;
+        }
+
+        @Override
+        public byte version() {
+            return 1;
+        }
+
+        @Override
+        public void write(User user, DataOutput out) throws IOException {
+            writeString(out, user.getId());
+            writeString(out, user.getName());
+            writeString(out, user.getEmail());
+            writeString(out, user.getEncryptedEmail());
+            writeString(out, user.getPassword());
+            writeString(out, user.getProfileImage());
+            writeDateTime(out, user.getCreatedAt());
+            writeDateTime(out, user.getUpdatedAt());
+            writeDateTime(out, user.getLastActive());
+            writeDateTime(out, user.getLastLogin());
+            out.writeBoolean(user.isOnline());
+        }
+
+        @Override
+        public User read(DataInput in, byte version) throws IOException {
+            requireVersion(this, version);
+            User user = new User();
+            user.setId(readString(in));
+            user.setName(readString(in));
+            user.setEmail(readString(in));
+            user.setEncryptedEmail(readString(in));
+            user.setPassword(readString(in));
+            user.setProfileImage(readString(in));
+            user.setCreatedAt(readDateTime(in));
+            user.setUpdatedAt(readDateTime(in));
+            user.setLastActive(readDateTime(in));
+            user.setLastLogin(readDateTime(in));
+            user.setOnline(in.readBoolean());
+            return user;
+        }
+    }
+
+    static final class UserResponseCodec implements ValueCodec<UserResponse> {
+
+        @Override
+        public Class<UserResponse> type() {
+            return UserResponse.class;
+        }
+
+        @Override
+        public byte tag() {
+            return USER_RESPONSE_TAG;
+        }
+
+        @Override
+        public byte version() {
+            return 1;
+        }
+
+        @Override
+        public void write(UserResponse user, DataOutput out) throws IOException {
+            writeString(out, user.getId());
+            writeString(out, user.getName());
+            writeString(out, user.getEmail());
+            writeString(out, user.getProfileImage());
+        }
+
+        @Override
+        public UserResponse read(DataInput in, byte version) throws IOException {
+            requireVersion(this, version);
+            return UserResponse.builder()
+                    .id(readString(in))
+                    .name(readString(in))
+                    .email(readString(in))
+                    .profileImage(readString(in))
+                    .build();
+        }
+    }
+
+    /**
+     * 문자열 집합 (UserRooms의 방 ID 목록). 문자열 외 원소가 있으면 기본 직렬화기로 넘긴다.
+     */
+    @SuppressWarnings("rawtypes")
+    static final class StringSetCodec implements ValueCodec<HashSet> {
+
+        @Override
+        public Class<HashSet> type() {
+            return HashSet.class;
+        }
+
+        @Override
+        public byte tag() {
+            return STRING_SET_TAG;
+        }
+
+        @Override
+        public byte version() {
+            return 1;
+        }
+
+        @Override
+        public boolean accepts(HashSet set) {
+            for (Object element : set) {
+                if (!(element instanceof String)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public void write(HashSet set, DataOutput out) throws IOException {
+            writeVarInt(out, set.size());
+            for (Object element : set) {
+                writeString(out, (String) element);
+            }
+        }
+
+        @Override
+        public HashSet read(DataInput in, byte version) throws IOException {
+            requireVersion(this, version);
+            int size = readVarInt(in);
+            HashSet<String> set = HashSet.newHashSet(size);
+            for (int i = 0; i < size; i++) {
+                set.add(readString(in));
+            }
+            return set;
+        }
+    }
+
+    private static void requireVersion(ValueCodec<?> codec, byte version) throws IOException {
+        if (version != 1) {
+            throw new IOException("Unsupported " + codec.type().getSimpleName() + " codec version: " + version);
+        }
+    }
+
+    /**
+     * 길이 + 1을 varint로 기록 (0은 null)
+     */
+    static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length + 1);
+        out.write(bytes);
+    }
+
+    static String readString(DataInput in) throws IOException {
+        int length = readVarInt(in);
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length - 1];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static void writeInstant(DataOutput out, Instant value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.getEpochSecond());
+            out.writeInt(value.getNano());
+        }
+    }
+
+    static Instant readInstant(DataInput in) throws IOException {
+        return in.readBoolean() ? Instant.ofEpochSecond(in.readLong(), in.readInt()) : null;
+    }
+
+    static void writeDateTime(DataOutput out, LocalDateTime value) throws IOException {
+        writeInstant(out, value != null ? value.toInstant(ZoneOffset.UTC) : null);
+    }
+
+    static LocalDateTime readDateTime(DataInput in) throws IOException {
+        Instant instant = readInstant(in);
+        return instant != null ? LocalDateTime.ofInstant(instant, ZoneOffset.UTC) : null;
+    }
+
+    static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+}
@@ -1,7 +1,10 @@
 package com.ktb.chatapp.config;
 
+import com.ktb.chatapp.security.CachingJwtDecoder;
 import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import org.springframework.beans.factory.annotation.Value;
@@ -20,6 +23,12 @@ public class JwtConfig {
     @Value("${app.jwt.secret}")
     private String jwtSecret;
 
+    @Value("${app.jwt.cache.max-size:10000}")
+    private long jwtCacheMaxSize;
+
+    @Value("${app.jwt.cache.max-ttl:5m}")
+    private Duration jwtCacheMaxTtl;
+
     /**
      * JwtEncoder 빈 생성
      * JWT 토큰 생성을 위한 표준 인코더
@@ -36,9 +45,10 @@ public class JwtConfig {
     /**
      * NimbusJwtDecoder 빈 생성
      * Spring Security 6의 표준 JWT 디코더 사용
+     * 검증 결과를 캐시하므로 Resource Server 필터와 JwtService가 같은 캐시를 공유한다.
      */
     @Bean
-    public JwtDecoder jwtDecoder() {
+    public JwtDecoder jwtDecoder(MeterRegistry meterRegistry) {
         SecretKeySpec secretKey = new SecretKeySpec(
             jwtSecret.getBytes(StandardCharsets.UTF_8),
             "HmacSHA256"
@@ -55,7 +65,8 @@ public class JwtConfig {
         // 기본 검증기와 커스텀 검증기를 조합
         decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(defaultValidators, validator));
 
-        return decoder;
+        return new CachingJwtDecoder(decoder, jwtCacheMaxSize, jwtCacheMaxTtl)
+            .bindTo(meterRegistry, "jwt.verified");
     }
 
     /**
@@ -4,13 +4,22 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.ktb.chatapp.cache.TwoTierCacheManager;
+import com.ktb.chatapp.codec.CompactRedisSerializer;
+import com.ktb.chatapp.codec.CompactRedissonCodec;
+import com.ktb.chatapp.codec.ValueCodecRegistry;
+import com.ktb.chatapp.codec.ValueCodecs;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.redisson.api.RedissonClient;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Configuration;
 
 import java.time.Duration;
+import java.util.List;
 
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
 
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
@@ -27,21 +36,39 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 @EnableCaching
 public class RedisConfig {
 
+    private static final List<String> CACHE_NAMES = List.of("userProfileById", "userProfileByEmail");
+
+    /**
+     * Redis 값 타입별 바이너리 코덱 (Session, RateLimit, User, UserResponse, 방 ID 집합)
+     */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public ValueCodecRegistry valueCodecRegistry() {
+        return ValueCodecs.defaults();
+    }
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());                  // Java 8 Date/Time
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS); // ISO 문자열로 저장
+    /**
+     * Redisson 맵(chat:store, room:participants)용 코덱. 등록되지 않은 값과 맵 키는 Redisson 기본 코덱을 사용한다.
+     */
+    @Bean
+    public CompactRedissonCodec redissonValueCodec(RedissonClient redissonClient, ValueCodecRegistry valueCodecRegistry) {
+        return new CompactRedissonCodec(valueCodecRegistry, redissonClient.getConfig().getCodec());
+    }
 
-        objectMapper.activateDefaultTyping(
-                objectMapper.getPolymorphicTypeValidator(),
-                ObjectMapper.DefaultTyping.NON_FINAL,
-                JsonTypeInfo.As.PROPERTY
-        );
+    /**
+     * 사용자 프로필 캐시 (L1 Caffeine + L2 Redis)
+     * 캐시별 설정: app.cache.<cacheName>.l1-max-size / l1-ttl / l2-ttl
+     */
+    @Bean
+    public CacheManager cacheManager(
+            RedisConnectionFactory connectionFactory,
+            ValueCodecRegistry valueCodecRegistry,
+            RedissonClient redissonClient,
+            MeterRegistry meterRegistry,
+            Environment environment) {
 
-        GenericJackson2JsonRedisSerializer valueSerializer =
-                new GenericJackson2JsonRedisSerializer(objectMapper);
+        // 등록된 타입은 바이너리, 그 외(및 기존 저장 값)는 JSON
+        CompactRedisSerializer valueSerializer =
+                new CompactRedisSerializer(valueCodecRegistry, jsonSerializer());
 
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration
                 .defaultCacheConfig()
@@ -52,46 +79,63 @@ public class RedisConfig {
                 .serializeValuesWith(RedisSerializationContext.SerializationPair
                         .fromSerializer(valueSerializer));
 
-
-        return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(defaultConfig)          // 기본 설정
-                .build();
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(defaultConfig);          // 기본 설정
+        for (String cacheName : CACHE_NAMES) {
+            Duration l2Ttl = environment.getProperty(
+                    "app.cache." + cacheName + ".l2-ttl", Duration.class, defaultConfig.getTtl());
+            builder.withCacheConfiguration(cacheName, defaultConfig.entryTtl(l2Ttl));
+        }
+        RedisCacheManager redisCacheManager = builder.build();
+        redisCacheManager.initializeCaches();
+
+        return new TwoTierCacheManager(redisCacheManager, redissonClient, meterRegistry,
+                cacheName -> new TwoTierCacheManager.CacheSpec(
+                        environment.getProperty("app.cache." + cacheName + ".l1-max-size", Long.class, 10_000L),
+                        environment.getProperty("app.cache." + cacheName + ".l1-ttl", Duration.class, Duration.ofSeconds(30))));
     }
 
     // RedisConfig.java 내부에 추가
     @Bean
-    public RedisTemplate<String, Object> sessionRedisTemplate(RedisConnectionFactory connectionFactory) {
+    public RedisTemplate<String, Object> sessionRedisTemplate(
+            RedisConnectionFactory connectionFactory, ValueCodecRegistry valueCodecRegistry) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
 
-        // 💡 CacheManager 설정에서 사용된 ObjectMapper 설정 재사용
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-
-        // 🚨 핵심: 타입 정보를 JSON에 포함시켜 직렬화 오류 방지
-        objectMapper.activateDefaultTyping(
-                objectMapper.getPolymorphicTypeValidator(),
-                ObjectMapper.DefaultTyping.NON_FINAL,
-                JsonTypeInfo.As.PROPERTY
-        );
-
-        GenericJackson2JsonRedisSerializer jsonSerializer =
-                new GenericJackson2JsonRedisSerializer(objectMapper);
+        // Session, RateLimit은 바이너리, 그 외(세션 ID 집합 멤버 등)는 기존 JSON 그대로
+        CompactRedisSerializer valueSerializer =
+                new CompactRedisSerializer(valueCodecRegistry, jsonSerializer());
 
         // Key 직렬화 (String)
         template.setKeySerializer(new StringRedisSerializer());
-        // Value 직렬화 (JSON Serializer)
-        template.setValueSerializer(jsonSerializer);
+        // Value 직렬화
+        template.setValueSerializer(valueSerializer);
 
-        // HASH 타입도 JSON Serializer로 설정 (SessionRepository에서 opsForSet도 사용하므로)
+        // HASH 타입도 같은 Serializer로 설정 (SessionRepository에서 opsForSet도 사용하므로)
         template.setHashKeySerializer(new StringRedisSerializer());
-        template.setHashValueSerializer(jsonSerializer);
+        template.setHashValueSerializer(valueSerializer);
 
         template.afterPropertiesSet();
         return template;
     }
 
+    /**
+     * 코덱이 없는 값과 기존에 저장된 값을 위한 JSON 직렬화기
+     */
+    private static GenericJackson2JsonRedisSerializer jsonSerializer() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());                  // Java 8 Date/Time
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS); // ISO 문자열로 저장
+
+        // 🚨 핵심: 타입 정보를 JSON에 포함시켜 직렬화 오류 방지
+        objectMapper.activateDefaultTyping(
+                objectMapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY
+        );
+
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
 
 
 }
@@ -1,11 +1,14 @@
 package com.ktb.chatapp.config;
 
 import com.ktb.chatapp.security.CustomBearerTokenResolver;
+import com.ktb.chatapp.security.PooledPasswordEncoder;
 import com.ktb.chatapp.security.SessionAwareJwtAuthenticationConverter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -50,9 +53,18 @@ public class SecurityConfig {
 
   private static final List<String> CORS_ALLOWED_METHODS = List.of("GET", "POST", "PUT", "DELETE", "OPTIONS");
 
+  /**
+   * BCrypt 해싱/검증은 전용 풀에서 수행한다 (PooledPasswordEncoder).
+   * strength를 올리면 기존 해시는 로그인 성공 시 새 strength로 재해싱된다 (LoginService).
+   */
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  public PasswordEncoder passwordEncoder(
+      MeterRegistry meterRegistry,
+      @Value("${app.password.bcrypt-strength:10}") int strength,
+      @Value("${app.password.hashing.threads:0}") int threads,
+      @Value("${app.password.hashing.queue-capacity:256}") int queueCapacity) {
+    int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    return new PooledPasswordEncoder(new BCryptPasswordEncoder(strength), poolSize, queueCapacity, meterRegistry);
   }
 
   @Bean
@@ -7,8 +7,16 @@ import com.corundumstudio.socketio.annotation.SpringAnnotationScanner;
 import com.corundumstudio.socketio.namespace.Namespace;
 import com.corundumstudio.socketio.protocol.JacksonJsonSupport;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ktb.chatapp.codec.CompactRedissonCodec;
 import com.ktb.chatapp.websocket.socketio.ChatDataStore;
+import com.ktb.chatapp.websocket.socketio.NodeLocalStoreFactory;
 import com.ktb.chatapp.websocket.socketio.RedisChatDataStore;
+import com.ktb.chatapp.websocket.socketio.ShardedFanout;
+import com.ktb.chatapp.websocket.socketio.ShardedSocketIOServer;
+import com.ktb.chatapp.websocket.socketio.SlowConsumerChannelInitializer;
+import com.ktb.chatapp.websocket.socketio.SlowConsumerPolicy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
@@ -106,8 +114,18 @@ public class SocketIOConfig {
     return Redisson.create(config);
   }
 
+  /**
+   * 느린 클라이언트의 송신 버퍼가 무한히 커지지 않도록 채널별 backpressure를 적용하는 파이프라인.
+   * 드레인 시 새 연결 수락을 멈추기 위해 Bean으로 노출한다.
+   */
+  @Bean
+  public SlowConsumerChannelInitializer socketIOChannelInitializer(SlowConsumerPolicy slowConsumerPolicy) {
+    return new SlowConsumerChannelInitializer(slowConsumerPolicy);
+  }
+
   @Bean(initMethod = "start", destroyMethod = "stop")
-  public SocketIOServer socketIOServer(AuthTokenListener authTokenListener, RedissonClient redissonClient) {
+  public SocketIOServer socketIOServer(AuthTokenListener authTokenListener, RedissonClient redissonClient,
+      SlowConsumerChannelInitializer socketIOChannelInitializer, ShardedFanout shardedFanout) {
     com.corundumstudio.socketio.Configuration config = new com.corundumstudio.socketio.Configuration();
     config.setHostname(host);
     config.setPort(port);
@@ -129,12 +147,13 @@ public class SocketIOConfig {
 
     config.setJsonSupport(new JacksonJsonSupport(new JavaTimeModule()));
 
-    // Use the injected RedissonClient for Socket.IO store
-    config.setStoreFactory(new com.corundumstudio.socketio.store.RedissonStoreFactory(redissonClient));
+    // 클라이언트 속성은 노드 로컬, 노드 간 브로드캐스트는 Redisson pub/sub (큰 방은 노드마다 shard로 나눠 전송)
+    config.setStoreFactory(new NodeLocalStoreFactory(redissonClient, shardedFanout));
 
     log.info("Socket.IO server configured on {}:{} with {} boss threads and {} worker threads",
         host, port, config.getBossThreads(), config.getWorkerThreads());
-    var socketIOServer = new SocketIOServer(config);
+    var socketIOServer = new ShardedSocketIOServer(config, shardedFanout);
+    socketIOServer.setPipelineFactory(socketIOChannelInitializer);
     socketIOServer.getNamespace(Namespace.DEFAULT_NAME).addAuthTokenListener(authTokenListener);
 
     return socketIOServer;
@@ -152,10 +171,19 @@ public class SocketIOConfig {
     return new SpringAnnotationScanner(socketIOServer);
   }
 
+  /**
+   * 핸들러 내부 하위 작업(DB/Redis 호출)을 병렬 실행하기 위한 Executor.
+   * 블로킹 I/O 위주이므로 가상 스레드를 사용한다.
+   */
+  @Bean(destroyMethod = "close")
+  public ExecutorService socketIOTaskExecutor() {
+    return Executors.newVirtualThreadPerTaskExecutor();
+  }
+
   // Redis 기반 분산 저장소 (Near Cache 적용)
   @Bean
   @ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
-  public ChatDataStore chatDataStore(RedissonClient redissonClient) {
-    return new RedisChatDataStore(redissonClient);
+  public ChatDataStore chatDataStore(RedissonClient redissonClient, CompactRedissonCodec redissonValueCodec) {
+    return new RedisChatDataStore(redissonClient, redissonValueCodec);
   }
 }
@@ -2,6 +2,7 @@ package com.ktb.chatapp.controller;
 
 import com.ktb.chatapp.dto.*;
 import com.ktb.chatapp.event.SessionEndedEvent;
+import com.ktb.chatapp.exception.PasswordHashingRejectedException;
 import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.UserRepository;
 import com.ktb.chatapp.service.*;
@@ -22,14 +23,12 @@ import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
@@ -41,12 +40,12 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/auth")
 public class AuthController {
 
-    private final AuthenticationManager authenticationManager;
     private final UserRepository userRepository;
     private final UserService userService;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final SessionService sessionService;
+    private final LoginService loginService;
     private final ApplicationEventPublisher eventPublisher;
 
     @Operation(summary = "인증 API 상태 확인", description = "인증 API의 사용 가능한 엔드포인트 목록을 반환합니다.")
@@ -117,6 +116,9 @@ public class AuthController {
             return ResponseEntity.status(HttpStatus.CREATED)
                     .body(response);
 
+        } catch (PasswordHashingRejectedException e) {
+            log.warn("Register rejected: password hashing queue is full");
+            return passwordHashingBusy();
         } catch (org.springframework.dao.DuplicateKeyException e) {
             log.error("Register error: ", e);
             return ResponseEntity.status(HttpStatus.CONFLICT)
@@ -156,54 +158,36 @@ public class AuthController {
         if (errors != null) return errors;
         
         try {
-            // Authenticate user
-            User user = userRepository.findByEmail(loginRequest.getEmail().toLowerCase())
-                    .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(
-                            user.getEmail(),
-                            loginRequest.getPassword()
-                    )
-            );
-
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-            
-            // 단일 세션 정책을 위해 기존 세션 제거
-            sessionService.removeAllUserSessions(user.getId());
-
-            // Create new session
             SessionMetadata metadata = new SessionMetadata(
                     request.getHeader("User-Agent"),
                     getClientIpAddress(request),
                     request.getHeader("User-Agent")
             );
 
-            SessionCreationResult sessionInfo =
-                    sessionService.createSession(user.getId(), metadata);
-
-            // Generate JWT token
-            String token = jwtService.generateToken(
-                sessionInfo.getSessionId(),
-                user.getEmail(),
-                user.getId()
-            );
+            // 사용자 조회, 비밀번호 검증, 세션 교체, 토큰 발급
+            LoginResult result = loginService.login(
+                    loginRequest.getEmail(), loginRequest.getPassword(), metadata);
+            User user = result.getUser();
+            String token = result.getToken();
 
             LoginResponse response = LoginResponse.builder()
                     .success(true)
                     .token(token)
-                    .sessionId(sessionInfo.getSessionId())
+                    .sessionId(result.getSessionId())
                     .user(new AuthUserDto(user.getId(), user.getName(), user.getEmail(), user.getProfileImage()))
                     .build();
 
             return ResponseEntity.ok()
                     .header("Authorization", "Bearer " + token)
-                    .header("x-session-id", sessionInfo.getSessionId())
+                    .header("x-session-id", result.getSessionId())
                     .body(response);
 
-        } catch (UsernameNotFoundException | BadCredentialsException e) {
+        } catch (BadCredentialsException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(StandardResponse.error("이메일 또는 비밀번호가 올바르지 않습니다."));
+        } catch (PasswordHashingRejectedException e) {
+            log.warn("Login rejected: password hashing queue is full");
+            return passwordHashingBusy();
         } catch (Exception e) {
             log.error("Login error: ", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -395,6 +379,15 @@ public class AuthController {
         }
     }
     
+    /**
+     * 비밀번호 해싱 대기열 초과 시 응답 (503 + Retry-After)
+     */
+    private ResponseEntity<?> passwordHashingBusy() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(PasswordHashingRejectedException.RETRY_AFTER_SECONDS))
+                .body(StandardResponse.error("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."));
+    }
+
     private String getClientIpAddress(HttpServletRequest request) {
         String xForwardedFor = request.getHeader("X-Forwarded-For");
         if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
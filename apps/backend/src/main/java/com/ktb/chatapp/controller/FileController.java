@@ -5,11 +5,14 @@ import com.ktb.chatapp.dto.PresignedUrlRequest;
 import com.ktb.chatapp.dto.StandardResponse;
 import com.ktb.chatapp.model.File;
 import com.ktb.chatapp.model.User;
-import com.ktb.chatapp.repository.FileRepository;
 import com.ktb.chatapp.security.CustomUserDetails;
+import com.ktb.chatapp.service.AsyncFileService;
+import com.ktb.chatapp.service.FileAccessCache;
 import com.ktb.chatapp.service.FileService;
 import com.ktb.chatapp.service.FileUploadResult;
+import com.ktb.chatapp.service.LocalFileService;
 import com.ktb.chatapp.service.UserService;
+import com.ktb.chatapp.util.FileRangeWriter;
 import jakarta.validation.Valid;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -19,14 +22,22 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.security.Principal;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -42,20 +53,30 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 public class FileController {
 
     private final FileService fileService;
-    private final FileRepository fileRepository;
     private final UserService userService;
-    
+    private final FileAccessCache fileAccessCache;
+
+    // 로컬 디스크에 저장된 파일은 zero-copy로 직접 전송
+    private final LocalFileService localFileService;
+
     // Presigned URL 생성을 위해 S3FileService 직접 주입
     private final com.ktb.chatapp.service.S3FileService s3FileService;
 
+    // app.file.s3.async.enabled=true 일 때만 존재
+    private final AsyncFileService asyncFileService;
+
     public FileController(FileService fileService,
-                         FileRepository fileRepository,
                          UserService userService,
-                         com.ktb.chatapp.service.S3FileService s3FileService) {
+                         FileAccessCache fileAccessCache,
+                         LocalFileService localFileService,
+                         com.ktb.chatapp.service.S3FileService s3FileService,
+                         ObjectProvider<AsyncFileService> asyncFileService) {
         this.fileService = fileService;
-        this.fileRepository = fileRepository;
         this.userService = userService;
+        this.fileAccessCache = fileAccessCache;
+        this.localFileService = localFileService;
         this.s3FileService = s3FileService;
+        this.asyncFileService = asyncFileService.getIfAvailable();
     }
 
     /**
@@ -70,46 +91,108 @@ public class FileController {
             @ApiResponse(responseCode = "500", description = "서버 내부 오류", content = @Content(schema = @Schema(implementation = StandardResponse.class)))
     })
     @PostMapping("/upload")
-    public ResponseEntity<?> uploadFile(
+    public CompletableFuture<ResponseEntity<?>> uploadFile(
             @Parameter(description = "업로드할 파일") @RequestParam("file") MultipartFile file,
             Principal principal) {
         try {
             String userId = getUserIdFromPrincipal(principal);
             User user = userService.getUserProfile(userId);
 
-            FileUploadResult result = fileService.uploadFile(file, user.getId());
+            // 비동기 FileService가 있으면 S3 전송 동안 요청 스레드를 반환한다
+            CompletableFuture<FileUploadResult> result = asyncFileService != null
+                    ? asyncFileService.uploadFileAsync(file, user.getId())
+                    : CompletableFuture.completedFuture(fileService.uploadFile(file, user.getId()));
 
-            if (result.isSuccess()) {
-                Map<String, Object> response = new HashMap<>();
-                response.put("success", true);
-                response.put("message", "파일 업로드 성공");
+            return result.<ResponseEntity<?>>thenApply(this::uploadResponse)
+                    .exceptionally(this::uploadError);
 
-                Map<String, Object> fileData = new HashMap<>();
-                fileData.put("_id", result.getFile().getId());
-                fileData.put("filename", result.getFile().getFilename());
-                fileData.put("originalname", result.getFile().getOriginalname());
-                fileData.put("mimetype", result.getFile().getMimetype());
-                fileData.put("size", result.getFile().getSize());
-                fileData.put("uploadDate", result.getFile().getUploadDate());
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(uploadError(e));
+        }
+    }
 
-                response.put("file", fileData);
+    private ResponseEntity<?> uploadError(Throwable error) {
+        Throwable e = unwrap(error);
+        log.error("파일 업로드 중 에러 발생", e);
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("success", false);
+        errorResponse.put("message", "파일 업로드 중 오류가 발생했습니다.");
+        errorResponse.put("error", e.getMessage());
+        return ResponseEntity.status(500).body(errorResponse);
+    }
 
-                return ResponseEntity.ok(response);
-            } else {
-                Map<String, Object> errorResponse = new HashMap<>();
-                errorResponse.put("success", false);
-                errorResponse.put("message", "파일 업로드에 실패했습니다.");
-                return ResponseEntity.status(500).body(errorResponse);
-            }
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * 스트리밍 파일 업로드
+     * multipart 대신 요청 본문 자체가 파일 내용이며, 받는 대로 S3 multipart upload 파트로 전송한다.
+     */
+    @Operation(summary = "스트리밍 파일 업로드", description = "요청 본문을 파일 내용으로 받아 서버에 버퍼링하지 않고 S3로 전송합니다. Content-Type은 파일 MIME 타입입니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "파일 업로드 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 파일", content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류", content = @Content(schema = @Schema(implementation = StandardResponse.class)))
+    })
+    @PostMapping("/upload/stream")
+    public ResponseEntity<?> uploadFileStream(
+            @Parameter(description = "원본 파일명") @RequestParam("filename") String filename,
+            HttpServletRequest request,
+            Principal principal) {
+        try {
+            String userId = getUserIdFromPrincipal(principal);
+            User user = userService.getUserProfile(userId);
+
+            FileUploadResult result = s3FileService.uploadFileStream(
+                    request.getInputStream(), filename, request.getContentType(),
+                    request.getContentLengthLong(), user.getId());
+
+            return uploadResponse(result);
 
         } catch (Exception e) {
-            log.error("파일 업로드 중 에러 발생", e);
+            log.error("스트리밍 파일 업로드 중 에러 발생", e);
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("success", false);
             errorResponse.put("message", "파일 업로드 중 오류가 발생했습니다.");
             errorResponse.put("error", e.getMessage());
+            return ResponseEntity.status(isInvalidFile(e) ? 400 : 500).body(errorResponse);
+        }
+    }
+
+    private static boolean isInvalidFile(Exception e) {
+        String message = e.getMessage();
+        return message != null && (message.contains("초과할 수 없습니다")
+                || message.contains("지원하지 않는")
+                || message.contains("올바르지 않습니다")
+                || message.contains("비어있습니다")
+                || message.contains("너무 깁니다"));
+    }
+
+    private ResponseEntity<?> uploadResponse(FileUploadResult result) {
+        if (!result.isSuccess()) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "파일 업로드에 실패했습니다.");
             return ResponseEntity.status(500).body(errorResponse);
         }
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "파일 업로드 성공");
+
+        Map<String, Object> fileData = new HashMap<>();
+        fileData.put("_id", result.getFile().getId());
+        fileData.put("filename", result.getFile().getFilename());
+        fileData.put("originalname", result.getFile().getOriginalname());
+        fileData.put("mimetype", result.getFile().getMimetype());
+        fileData.put("size", result.getFile().getSize());
+        fileData.put("uploadDate", result.getFile().getUploadDate());
+
+        response.put("file", fileData);
+
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -127,33 +210,27 @@ public class FileController {
     public ResponseEntity<?> downloadFile(
             @Parameter(description = "다운로드할 파일명") @PathVariable String filename,
             HttpServletRequest request,
+            HttpServletResponse response,
             Principal principal) {
         try {
             String userId = getUserIdFromPrincipal(principal);
             User user = userService.getUserProfile(userId);
 
-            Resource resource = fileService.loadFileAsResource(filename, user.getId());
-
-            File fileEntity = fileRepository.findByFilename(filename)
-                    .orElse(null);
+            File fileEntity = fileAccessCache.authorize(filename, user.getId());
 
-            String originalFilename = fileEntity != null ? fileEntity.getOriginalname() : filename;
-            String encodedFilename = URLEncoder.encode(originalFilename, StandardCharsets.UTF_8)
+            String encodedFilename = URLEncoder.encode(fileEntity.getOriginalname(), StandardCharsets.UTF_8)
                     .replaceAll("\\+", "%20");
 
             String contentDisposition = String.format(
                     "attachment; filename*=UTF-8''%s",
                     encodedFilename);
 
-            long contentLength = fileEntity != null ? fileEntity.getSize() : resource.contentLength();
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.CONTENT_DISPOSITION, contentDisposition);
+            headers.set(HttpHeaders.CACHE_CONTROL, "private, no-cache, no-store, must-revalidate");
+            headers.set(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, "Content-Disposition");
 
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(fileEntity.getMimetype()))
-                    .contentLength(contentLength)
-                    .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
-                    .header(HttpHeaders.CACHE_CONTROL, "private, no-cache, no-store, must-revalidate")
-                    .header(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, "Content-Disposition")
-                    .body(resource);
+            return send(fileEntity, user.getId(), headers, request, response);
 
         } catch (Exception e) {
             log.error("파일 다운로드 중 에러 발생: {}", filename, e);
@@ -161,6 +238,40 @@ public class FileController {
         }
     }
 
+    /**
+     * 로컬 디스크에 있는 파일은 Range/zero-copy로 직접 쓰고(응답 처리 완료로 null 반환),
+     * 리다이렉트 모드면 presigned GET URL로 302 응답해 S3가 본문(Range 포함)을 직접 전송한다.
+     * 그 외에는 FileService의 Resource를 본문으로 반환한다.
+     */
+    private ResponseEntity<?> send(
+            File fileEntity,
+            String requesterId,
+            HttpHeaders headers,
+            HttpServletRequest request,
+            HttpServletResponse response) throws Exception {
+        Optional<Path> localFile = localFileService.findLocalFile(fileEntity.getFilename());
+        if (localFile.isPresent()) {
+            FileRangeWriter.write(localFile.get(), fileEntity.getMimetype(), headers, request, response);
+            return null;
+        }
+
+        if (s3FileService.isDownloadRedirectEnabled()) {
+            String presignedUrl = s3FileService.generatePresignedDownloadUrl(
+                    fileEntity, headers.getFirst(HttpHeaders.CONTENT_DISPOSITION));
+            return ResponseEntity.status(HttpStatus.FOUND)
+                    .location(URI.create(presignedUrl))
+                    .header(HttpHeaders.CACHE_CONTROL, "private, no-store")
+                    .build();
+        }
+
+        Resource resource = fileService.loadFileAsResource(fileEntity.getFilename(), requesterId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(fileEntity.getMimetype()))
+                .contentLength(fileEntity.getSize())
+                .headers(headers)
+                .body(resource);
+    }
+
     private ResponseEntity<?> handleFileError(Exception e) {
         String errorMessage = e.getMessage();
         int statusCode = 500;
@@ -199,16 +310,14 @@ public class FileController {
     public ResponseEntity<?> viewFile(
             @PathVariable String filename,
             HttpServletRequest request,
+            HttpServletResponse response,
             Principal principal) {
 
         try {
             String userId = getUserIdFromPrincipal(principal);
             User user = userService.getUserProfile(userId);
 
-            Resource resource = fileService.loadFileAsResource(filename, user.getId());
-
-            File fileEntity = fileRepository.findByFilename(filename)
-                    .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다."));
+            File fileEntity = fileAccessCache.authorize(filename, user.getId());
 
             if (!fileEntity.isPreviewable()) {
                 Map<String, Object> errorResponse = new HashMap<>();
@@ -226,14 +335,11 @@ public class FileController {
                     originalFilename,
                     encodedFilename);
 
-            long contentLength = fileEntity.getSize();
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.CONTENT_DISPOSITION, contentDisposition);
+            headers.set(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable");
 
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(fileEntity.getMimetype()))
-                    .contentLength(contentLength)
-                    .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
-                    .header(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable")
-                    .body(resource);
+            return send(fileEntity, user.getId(), headers, request, response);
 
         } catch (Exception e) {
             log.error("파일 미리보기 중 에러 발생: {}", filename, e);
@@ -342,48 +448,60 @@ public class FileController {
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> deleteFile(@PathVariable String id, Principal principal) {
+    public CompletableFuture<ResponseEntity<?>> deleteFile(@PathVariable String id, Principal principal) {
 
         try {
             String userId = getUserIdFromPrincipal(principal);
             User user = userService.getUserProfile(userId);
 
-            boolean deleted = fileService.deleteFile(id, user.getId());
+            CompletableFuture<Boolean> deleted = asyncFileService != null
+                    ? asyncFileService.deleteFileAsync(id, user.getId())
+                    : CompletableFuture.completedFuture(fileService.deleteFile(id, user.getId()));
 
-            if (deleted) {
-                Map<String, Object> response = new HashMap<>();
-                response.put("success", true);
-                response.put("message", "파일이 삭제되었습니다.");
-                return ResponseEntity.ok(response);
-            } else {
-                Map<String, Object> errorResponse = new HashMap<>();
-                errorResponse.put("success", false);
-                errorResponse.put("message", "파일 삭제에 실패했습니다.");
-                return ResponseEntity.status(400).body(errorResponse);
-            }
+            return deleted.<ResponseEntity<?>>thenApply(this::deleteResponse)
+                    .exceptionally(error -> deleteError(id, error));
 
         } catch (RuntimeException e) {
-            log.error("파일 삭제 중 에러 발생: {}", id, e);
-            String errorMessage = e.getMessage();
+            return CompletableFuture.completedFuture(deleteError(id, e));
+        }
+    }
 
-            if (errorMessage != null && errorMessage.contains("찾을 수 없습니다")) {
-                Map<String, Object> errorResponse = new HashMap<>();
-                errorResponse.put("success", false);
-                errorResponse.put("message", "파일을 찾을 수 없습니다.");
-                return ResponseEntity.status(404).body(errorResponse);
-            } else if (errorMessage != null && errorMessage.contains("권한")) {
-                Map<String, Object> errorResponse = new HashMap<>();
-                errorResponse.put("success", false);
-                errorResponse.put("message", "파일을 삭제할 권한이 없습니다.");
-                return ResponseEntity.status(403).body(errorResponse);
-            }
+    private ResponseEntity<?> deleteResponse(boolean deleted) {
+        if (deleted) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "파일이 삭제되었습니다.");
+            return ResponseEntity.ok(response);
+        } else {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "파일 삭제에 실패했습니다.");
+            return ResponseEntity.status(400).body(errorResponse);
+        }
+    }
+
+    private ResponseEntity<?> deleteError(String id, Throwable error) {
+        Throwable e = unwrap(error);
+        log.error("파일 삭제 중 에러 발생: {}", id, e);
+        String errorMessage = e.getMessage();
 
+        if (errorMessage != null && errorMessage.contains("찾을 수 없습니다")) {
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("success", false);
-            errorResponse.put("message", "파일 삭제 중 오류가 발생했습니다.");
-            errorResponse.put("error", errorMessage);
-            return ResponseEntity.status(500).body(errorResponse);
+            errorResponse.put("message", "파일을 찾을 수 없습니다.");
+            return ResponseEntity.status(404).body(errorResponse);
+        } else if (errorMessage != null && errorMessage.contains("권한")) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "파일을 삭제할 권한이 없습니다.");
+            return ResponseEntity.status(403).body(errorResponse);
         }
+
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("success", false);
+        errorResponse.put("message", "파일 삭제 중 오류가 발생했습니다.");
+        errorResponse.put("error", errorMessage);
+        return ResponseEntity.status(500).body(errorResponse);
     }
 
     private String getUserIdFromPrincipal(Principal principal) {
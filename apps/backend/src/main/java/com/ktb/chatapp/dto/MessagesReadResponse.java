@@ -1,15 +0,0 @@
-package com.ktb.chatapp.dto;
-
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-import java.util.List;
-
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-public class MessagesReadResponse {
-    private String userId;
-    private List<String> messageIds;
-}
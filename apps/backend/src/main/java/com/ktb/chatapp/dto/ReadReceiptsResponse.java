@@ -0,0 +1,18 @@
+package com.ktb.chatapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 방의 읽음 상태 변경분 (userId → 마지막으로 읽은 메시지 ID)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadReceiptsResponse {
+    private String roomId;
+    private Map<String, String> reads;
+}
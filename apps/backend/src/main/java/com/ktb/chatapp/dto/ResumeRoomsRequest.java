@@ -0,0 +1,13 @@
+package com.ktb.chatapp.dto;
+
+import java.util.Map;
+
+/**
+ * resumeRooms 요청 DTO.
+ * cursors: 방 ID → 클라이언트가 마지막으로 받은 메시지의 timestamp (epoch millis)
+ */
+public record ResumeRoomsRequest(Map<String, Long> cursors) {
+    public Map<String, Long> cursors() {
+        return cursors != null ? cursors : Map.of();
+    }
+}
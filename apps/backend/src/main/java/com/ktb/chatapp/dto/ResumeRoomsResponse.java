@@ -0,0 +1,34 @@
+package com.ktb.chatapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * resumeRoomsSuccess 이벤트 응답 DTO.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResumeRoomsResponse {
+    private List<ResumedRoom> rooms;
+    private List<String> failedRoomIds;
+
+    /**
+     * 재개된 방과 커서 이후 누락된 메시지.
+     * hasMore가 true면 누락분이 한도를 넘었으므로 클라이언트는 방을 다시 로드해야 한다.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ResumedRoom {
+        private String roomId;
+        private List<MessageResponse> messages;
+        private boolean hasMore;
+    }
+}
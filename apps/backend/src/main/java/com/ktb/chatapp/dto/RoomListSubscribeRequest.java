@@ -0,0 +1,19 @@
+package com.ktb.chatapp.dto;
+
+/**
+ * subscribeRoomList 요청 DTO.
+ * 클라이언트가 로비에서 보고 있는 목록 조건 (GET /api/rooms 파라미터와 같은 의미)
+ */
+public record RoomListSubscribeRequest(int page, String sortField, String sortOrder, String search) {
+    public String sortField() {
+        return sortField != null ? sortField : "createdAt";
+    }
+
+    public String sortOrder() {
+        return sortOrder != null ? sortOrder : "desc";
+    }
+
+    public String search() {
+        return search != null ? search.trim() : "";
+    }
+}
@@ -0,0 +1,18 @@
+package com.ktb.chatapp.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로비 방 목록 변경분 (짧은 윈도우 동안의 방 생성/변경을 합쳐 구독 조건에 맞는 것만 전송)
+ * 노드 간 전달에도 같은 형태를 사용하므로 방 정보는 RoomResponse의 JSON 필드 맵으로 담는다.
+ */
+public record RoomListUpdateResponse(List<Map<String, Object>> created, List<Map<String, Object>> updated) {
+    public List<Map<String, Object>> created() {
+        return created != null ? created : List.of();
+    }
+
+    public List<Map<String, Object>> updated() {
+        return updated != null ? updated : List.of();
+    }
+}
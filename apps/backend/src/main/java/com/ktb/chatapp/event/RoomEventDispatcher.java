@@ -0,0 +1,219 @@
+package com.ktb.chatapp.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 방 도메인 이벤트 비동기 발행기
+ * 이벤트 생성(RoomResponse 조회)과 리스너 실행(Socket.IO 전송)을 HTTP 요청 스레드에서 분리한다.
+ *
+ * - 방마다 직렬 lane을 두고 공유 스레드 풀에서 처리하므로 같은 방의 이벤트는 발행 순서대로 전달된다.
+ * - lane은 한 번에 쌓인 이벤트를 모두 꺼내 처리하며, 연속된 상태 스냅샷 이벤트(publishLatest)는 마지막 것만 만든다.
+ *   한 묶음을 처리한 뒤 남은 이벤트가 있으면 다시 제출해 다른 방과 번갈아 처리한다.
+ * - 전체 대기 이벤트 수가 queue-capacity를 넘으면 새 이벤트를 버린다. (Socket.IO 알림은 다음 조회로 복구 가능)
+ *
+ * Metrics:
+ * - events.dispatch.pending: events waiting in room lanes
+ * - events.dispatch.overflow: events dropped because the queue was full
+ * - events.dispatch.coalesced: snapshot events superseded by a later one in the same lane
+ * - events.dispatch.lag: time from dispatch to publication
+ */
+@Slf4j
+@Component
+public class RoomEventDispatcher {
+
+    private static final long IDLE_POLL_MILLIS = 50;
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final int queueCapacity;
+    private final ThreadPoolExecutor executor;
+
+    // 대기 이벤트가 있거나 처리 중인 방의 lane, 비어 있으면 제거된다
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final Counter overflow;
+    private final Counter coalesced;
+    private final Timer lag;
+
+    public RoomEventDispatcher(
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${app.events.dispatch.threads:4}") int threads,
+            @Value("${app.events.dispatch.queue-capacity:10000}") int queueCapacity) {
+        this.eventPublisher = eventPublisher;
+        this.queueCapacity = queueCapacity;
+
+        AtomicInteger sequence = new AtomicInteger();
+        // 제출되는 작업은 lane당 최대 하나이므로 작업 큐 길이는 queue-capacity로 제한된다
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "room-events-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.overflow = Counter.builder("events.dispatch.overflow")
+                .description("Room events dropped because the dispatch queue was full")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("events.dispatch.coalesced")
+                .description("Room snapshot events superseded by a later event in the same lane")
+                .register(meterRegistry);
+        this.lag = Timer.builder("events.dispatch.lag")
+                .description("Time from dispatch to publication of a room event")
+                .register(meterRegistry);
+        Gauge.builder("events.dispatch.pending", pending, AtomicInteger::get)
+                .description("Room events waiting to be published")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("Room event dispatcher did not drain in time - pending: {}", pending.get());
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Publish an event after all earlier events of the same room
+     *
+     * @param roomId the room the event belongs to
+     * @param event creates the event on the dispatcher thread
+     */
+    public void publish(String roomId, Supplier<? extends ApplicationEvent> event) {
+        enqueue(roomId, new Entry(event, false, System.nanoTime()));
+    }
+
+    /**
+     * Publish a state snapshot event after all earlier events of the same room.
+     * When several snapshot events are waiting back to back, only the last one is created and published.
+     *
+     * @param roomId the room the event belongs to
+     * @param event creates the event on the dispatcher thread
+     */
+    public void publishLatest(String roomId, Supplier<? extends ApplicationEvent> event) {
+        enqueue(roomId, new Entry(event, true, System.nanoTime()));
+    }
+
+    private void enqueue(String roomId, Entry entry) {
+        if (pending.incrementAndGet() > queueCapacity) {
+            pending.decrementAndGet();
+            overflow.increment();
+            log.warn("Room event dropped, dispatch queue is full - roomId: {}", roomId);
+            return;
+        }
+        boolean[] idle = new boolean[1];
+        lanes.compute(roomId, (id, lane) -> {
+            if (lane == null) {
+                lane = new Lane();
+                idle[0] = true;
+            }
+            lane.entries.add(entry);
+            return lane;
+        });
+        if (idle[0]) {
+            submit(roomId);
+        }
+    }
+
+    private void submit(String roomId) {
+        try {
+            executor.execute(() -> drain(roomId));
+        } catch (RejectedExecutionException e) {
+            // 종료 중에는 남은 이벤트를 버린다
+            Lane lane = lanes.remove(roomId);
+            if (lane != null) {
+                pending.addAndGet(-lane.entries.size());
+            }
+            log.warn("Room event dispatcher is shut down - roomId: {}", roomId);
+        }
+    }
+
+    void drain(String roomId) {
+        List<Entry> batch = take(roomId);
+        pending.addAndGet(-batch.size());
+
+        for (int i = 0; i < batch.size(); i++) {
+            Entry entry = batch.get(i);
+            if (entry.snapshot() && i + 1 < batch.size() && batch.get(i + 1).snapshot()) {
+                coalesced.increment();
+                continue;
+            }
+            try {
+                eventPublisher.publishEvent(entry.event().get());
+            } catch (Exception e) {
+                log.error("Error publishing room event - roomId: {}", roomId, e);
+            }
+            lag.record(System.nanoTime() - entry.dispatchedAt(), TimeUnit.NANOSECONDS);
+        }
+
+        // 처리 중에 들어온 이벤트가 없으면 lane을 제거하고, 있으면 다시 제출한다
+        if (lanes.computeIfPresent(roomId, (id, lane) -> lane.entries.isEmpty() ? null : lane) != null) {
+            submit(roomId);
+        }
+    }
+
+    private List<Entry> take(String roomId) {
+        List<Entry> batch = new ArrayList<>();
+        lanes.computeIfPresent(roomId, (id, lane) -> {
+            batch.addAll(lane.entries);
+            lane.entries.clear();
+            return lane;
+        });
+        return batch;
+    }
+
+    /**
+     * Wait until every dispatched event has been published
+     *
+     * @param timeout maximum time to wait
+     * @return true if no event is waiting or being published
+     */
+    public boolean awaitIdle(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (!lanes.isEmpty()) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            Thread.sleep(IDLE_POLL_MILLIS);
+        }
+        return true;
+    }
+
+    int pending() {
+        return pending.get();
+    }
+
+    private record Entry(Supplier<? extends ApplicationEvent> event, boolean snapshot, long dispatchedAt) {
+    }
+
+    /**
+     * 방 하나의 대기 이벤트, lanes.compute 안에서만 변경된다
+     */
+    private static final class Lane {
+        private final List<Entry> entries = new ArrayList<>();
+    }
+}
@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.AuthenticationException;
@@ -92,6 +93,22 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(ApiErrorCode.FILE_TOO_LARGE.getHttpStatus()).body(response);
     }
     
+    /**
+     * 비밀번호 해싱 대기열 초과 처리
+     */
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<StandardResponse<Object>> handlePasswordHashingRejectedException(
+            PasswordHashingRejectedException ex, HttpServletRequest request) {
+
+        log.warn("비밀번호 해싱 대기열 초과: {}", request.getRequestURI());
+
+        StandardResponse<Object> response = StandardResponse.error(ApiErrorCode.SERVICE_UNAVAILABLE);
+        response.setPath(request.getRequestURI());
+        return ResponseEntity.status(ApiErrorCode.SERVICE_UNAVAILABLE.getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(PasswordHashingRejectedException.RETRY_AFTER_SECONDS))
+                .body(response);
+    }
+
     /**
      * 일반적인 Runtime 예외 처리
      */
@@ -0,0 +1,17 @@
+package com.ktb.chatapp.exception;
+
+/**
+ * 비밀번호 해싱 대기열이 가득 차 요청을 받을 수 없을 때 발생한다.
+ * 클라이언트에는 503과 Retry-After로 응답한다.
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    /**
+     * 재시도까지 권장 대기 시간(초)
+     */
+    public static final int RETRY_AFTER_SECONDS = 1;
+
+    public PasswordHashingRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,12 +1,16 @@
 package com.ktb.chatapp.repository;
 
+import com.ktb.chatapp.dto.RoomMessageCount;
 import com.ktb.chatapp.model.Message;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -14,6 +18,13 @@ public interface MessageRepository extends MongoRepository<Message, String> {
     Page<Message> findByRoomIdAndIsDeletedAndTimestampBefore(String roomId, Boolean isDeleted, LocalDateTime timestamp,
             Pageable pageable);
 
+    /**
+     * 커서 이후 메시지 조회 (재접속 시 누락분 복구용)
+     * 커서와 같은 밀리초에 저장된 메시지를 놓치지 않도록 커서 시각을 포함한다. (중복은 클라이언트가 _id로 제거)
+     */
+    Page<Message> findByRoomIdAndIsDeletedAndTimestampGreaterThanEqual(String roomId, Boolean isDeleted,
+            LocalDateTime timestamp, Pageable pageable);
+
     /**
      * 특정 시간 이후의 메시지 수 카운트 (삭제되지 않은 메시지만)
      * 최근 N분간 메시지 수를 조회할 때 사용
@@ -21,6 +32,21 @@ public interface MessageRepository extends MongoRepository<Message, String> {
     @Query(value = "{ 'room': ?0, 'isDeleted': false, 'timestamp': { $gte: ?1 } }", count = true)
     long countRecentMessagesByRoomId(String roomId, LocalDateTime since);
 
+    /**
+     * 아직 읽지 않은 메시지에만 읽음 정보를 일괄 추가 (단일 updateMany)
+     *
+     * @return 갱신된 메시지 수
+     */
+    @Query("{ '_id': { $in: ?0 }, 'readers.userId': { $ne: ?1 } }")
+    @Update("{ '$push': { 'readers': ?2 } }")
+    long addReaderToMessages(List<String> messageIds, String userId, Message.MessageReader reader);
+
+    /**
+     * 읽음 처리 대상 메시지의 방과 작성자만 조회
+     */
+    @Query(value = "{ '_id': { $in: ?0 } }", fields = "{ 'room': 1, 'sender': 1 }")
+    List<Message> findRoomAndSenderByIdIn(List<String> messageIds);
+
     /**
      * fileId로 메시지 조회 (파일 권한 검증용)
      */
@@ -29,10 +55,9 @@ public interface MessageRepository extends MongoRepository<Message, String> {
     /**
      * 여러 방의 최근 메시지 수를 일괄 조회합니다.
      */
-    @org.springframework.data.mongodb.repository.Aggregation(pipeline = {
+    @Aggregation(pipeline = {
             "{ '$match': { 'room': { '$in': ?0 }, 'isDeleted': false, 'timestamp': { '$gte': ?1 } } }",
             "{ '$group': { '_id': '$room', 'count': { '$count': {} } } }"
     })
-    java.util.List<com.ktb.chatapp.dto.RoomMessageCount> countMessagesByRoomIds(java.util.List<String> roomIds,
-            LocalDateTime since);
+    List<RoomMessageCount> countMessagesByRoomIds(List<String> roomIds, LocalDateTime since);
 }
@@ -0,0 +1,20 @@
+package com.ktb.chatapp.repository;
+
+import com.ktb.chatapp.model.Room;
+import java.util.Optional;
+
+/**
+ * MongoTemplate 기반 Room 커스텀 쿼리
+ */
+public interface RoomRepositoryCustom {
+
+    /**
+     * 참여자를 원자적으로 추가하고 갱신된 방을 반환한다 ($addToSet + findAndModify)
+     * 존재 확인, 참여자 추가, 재조회를 한 번의 왕복으로 처리한다.
+     *
+     * @param roomId 방 ID
+     * @param userId 추가할 사용자 ID
+     * @return 갱신된 방, 방이 없으면 empty
+     */
+    Optional<Room> addParticipantAndGet(String roomId, String userId);
+}
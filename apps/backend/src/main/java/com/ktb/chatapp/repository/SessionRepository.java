@@ -4,6 +4,7 @@ import com.ktb.chatapp.model.Session;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
@@ -17,6 +18,26 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class SessionRepository {
 
+    private static final Duration SESSION_TTL = Duration.ofMinutes(30);
+
+    /**
+     * 사용자의 기존 세션을 모두 지우고 새 세션을 저장하는 스크립트 (원자적으로 1회 왕복)
+     * KEYS[1] = user:<userId>, KEYS[2] = session:<newSessionId>
+     * ARGV[1] = 직렬화된 Session, ARGV[2] = 직렬화된 세션 ID (user 집합 멤버)
+     * 기존 session:<id> 키는 집합 멤버(JSON 문자열)에서 구하므로 KEYS에 선언하지 않는다 (단일 노드/Master-Slave 전용).
+     * 반환값: 삭제된 기존 세션 수
+     */
+    private static final RedisScript<Long> REPLACE_SESSIONS_SCRIPT = RedisScript.of("""
+            local members = redis.call('SMEMBERS', KEYS[1])
+            for _, member in ipairs(members) do
+                redis.call('DEL', 'session:' .. cjson.decode(member))
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('SET', KEYS[2], ARGV[1], 'EX', %d)
+            redis.call('SADD', KEYS[1], ARGV[2])
+            return #members
+            """.formatted(SESSION_TTL.toSeconds()), Long.class);
+
     private final RedisTemplate<String, Object> redisTemplate;
 
 
@@ -41,7 +62,7 @@ public class SessionRepository {
 //        //만료시 session 데이터 삭제
 //        redisTemplate.expire(sessionKey, Duration.ofMinutes(30));
 
-        redisTemplate.opsForValue().set(sessionKey, session, Duration.ofMinutes(30));
+        redisTemplate.opsForValue().set(sessionKey, session, SESSION_TTL);
 
         redisTemplate.opsForSet().add(userKey, session.getSessionId());
 
@@ -49,6 +70,20 @@ public class SessionRepository {
 
     }
 
+    /**
+     * 사용자의 기존 세션을 모두 삭제하고 새 세션을 저장한다 (단일 세션 정책)
+     *
+     * @return number of previous sessions removed
+     */
+    public long replaceAll(Session session) {
+        Long removed = redisTemplate.execute(
+                REPLACE_SESSIONS_SCRIPT,
+                List.of(userKey(session.getUserId()), sessionKey(session.getSessionId())),
+                session,
+                session.getSessionId());
+        return removed != null ? removed : 0;
+    }
+
     public Optional<Session> findByUserId(String userId) {
         String userKey = userKey(userId);
         Set<Object> sessionIds = redisTemplate.opsForSet().members(userKey);
@@ -72,26 +107,23 @@ public class SessionRepository {
             }
         );
 
-        // 첫 번째 유효한 세션 반환 및 죽은 세션 정리
-        int index = 0;
-        for (Object sessionObj : sessions) {
-            if (sessionObj instanceof Session) {
-                return Optional.of((Session) sessionObj);
-            } else {
-                // 죽은 세션 정리
-                String sessionId = sessionIds.stream()
-                    .skip(index)
-                    .findFirst()
-                    .map(Object::toString)
-                    .orElse(null);
-                if (sessionId != null) {
-                    redisTemplate.opsForSet().remove(userKey, sessionId);
-                }
+        // 첫 번째 유효한 세션 반환, 죽은 세션은 모아서 한 번에 정리
+        List<Object> orderedIds = List.copyOf(sessionIds);
+        List<Object> deadIds = new java.util.ArrayList<>();
+        Session found = null;
+        for (int index = 0; index < sessions.size(); index++) {
+            if (sessions.get(index) instanceof Session session) {
+                found = session;
+                break;
             }
-            index++;
+            deadIds.add(orderedIds.get(index));
+        }
+
+        if (!deadIds.isEmpty()) {
+            redisTemplate.opsForSet().remove(userKey, deadIds.toArray());
         }
 
-        return Optional.empty();
+        return Optional.ofNullable(found);
     }
 
     //deleteall
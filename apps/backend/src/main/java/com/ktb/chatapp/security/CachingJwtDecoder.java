@@ -0,0 +1,103 @@
+package com.ktb.chatapp.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * 검증된 JWT를 캐시하는 JwtDecoder
+ * 같은 토큰의 반복 요청에서 서명(HMAC) 검증과 클레임 파싱을 생략한다.
+ *
+ * - 키는 토큰 원문이 아닌 SHA-256 해시를 사용한다.
+ * - 항목은 maxTtl과 토큰 exp 중 더 이른 시점에 만료되므로 exp를 넘겨 유효하다고 판단하지 않는다.
+ * - 검증에 실패한 토큰은 캐시하지 않는다.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Cache<String, Jwt> cache;
+
+    public CachingJwtDecoder(JwtDecoder delegate, long maxSize, Duration maxTtl) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ExpiresAtOrMaxTtl(maxTtl))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Register hit/miss/eviction metrics under the given cache name
+     */
+    public CachingJwtDecoder bindTo(MeterRegistry meterRegistry, String cacheName) {
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, cacheName);
+        return this;
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        if (token == null) {
+            return delegate.decode(null);
+        }
+
+        String key = hash(token);
+        Jwt cached = cache.getIfPresent(key);
+        if (cached != null && isNotExpired(cached)) {
+            return cached;
+        }
+
+        Jwt jwt = delegate.decode(token);
+        if (jwt.getExpiresAt() != null) {
+            cache.put(key, jwt);
+        }
+        return jwt;
+    }
+
+    private static boolean isNotExpired(Jwt jwt) {
+        return jwt.getExpiresAt() != null && jwt.getExpiresAt().isAfter(Instant.now());
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 생성 시점 기준 min(maxTtl, exp - now) 후 만료
+     */
+    private record ExpiresAtOrMaxTtl(Duration maxTtl) implements Expiry<String, Jwt> {
+
+        @Override
+        public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+            Duration untilExpiry = Duration.between(Instant.now(), jwt.getExpiresAt());
+            Duration ttl = untilExpiry.compareTo(maxTtl) < 0 ? untilExpiry : maxTtl;
+            return Math.max(0, ttl.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.ktb.chatapp.security;
+
+import com.ktb.chatapp.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 비밀번호 해싱/검증을 전용 스레드 풀에서 수행하는 PasswordEncoder
+ * BCrypt는 CPU 연산이므로 로그인이 몰려도 동시에 해싱하는 스레드 수를 풀 크기로 제한해
+ * Tomcat 워커가 CPU를 모두 점유하지 않도록 한다. 호출 스레드는 결과를 기다리는 동안 CPU를 쓰지 않는다.
+ *
+ * - 대기열(queueCapacity)이 가득 차면 PasswordHashingRejectedException으로 즉시 거절한다 (admission control).
+ * - upgradeEncoding은 위임 인코더를 따르므로 BCrypt strength를 올리면 로그인 시 재해싱된다.
+ *
+ * Metrics:
+ * - auth.password.hashing.queue{operation}: time spent waiting for a hashing thread
+ * - auth.password.hashing.work{operation}: time spent hashing
+ * - auth.password.hashing.rejected: requests rejected because the queue was full
+ * - auth.password.hashing.queued: current queue length
+ */
+public class PooledPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejected;
+
+    public PooledPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.rejected = Counter.builder("auth.password.hashing.rejected")
+                .description("Password hashing requests rejected because the queue was full")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hashing.queued", executor, pool -> pool.getQueue().size())
+                .description("Password hashing requests waiting for a thread")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit("encode", () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit("verify", () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(String operation, Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Timer queueTimer = timer("auth.password.hashing.queue", operation);
+        Timer workTimer = timer("auth.password.hashing.work", operation);
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return workTimer.recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingRejectedException("Password hashing queue is full", e);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private Timer timer(String name, String operation) {
+        return Timer.builder(name)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,15 @@
+package com.ktb.chatapp.service;
+
+import java.util.concurrent.CompletableFuture;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 업로드/삭제를 요청 스레드를 점유하지 않고 처리하는 FileService
+ * 컨트롤러는 반환된 CompletableFuture를 그대로 반환해 서블릿 비동기 처리로 응답한다.
+ */
+public interface AsyncFileService extends FileService {
+
+    CompletableFuture<FileUploadResult> uploadFileAsync(MultipartFile file, String uploaderId);
+
+    CompletableFuture<Boolean> deleteFileAsync(String fileId, String requesterId);
+}
@@ -0,0 +1,108 @@
+package com.ktb.chatapp.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.repository.FileRepository;
+import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.repository.RoomRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파일 다운로드 권한 검증 캐시
+ * 반복 다운로드(영상 seek 등 Range 요청 포함)마다 files → messages → rooms 조회가 일어나지 않도록
+ * (filename → 파일 메타데이터, roomId) 튜플과 (roomId, userId) 참여 여부를 로컬 메모리에 보관한다.
+ *
+ * - 파일이 속한 방은 바뀌지 않으므로 튜플은 길게(file-ttl), 참여 여부는 퇴장을 반영하도록 짧게(member-ttl) 유지한다.
+ * - 참여 중인 경우만 캐시한다. 권한이 없거나 조회에 실패한 요청은 매번 원본을 확인한다.
+ * - 파일 삭제 시 evict로 튜플을 제거한다.
+ */
+@Slf4j
+@Component
+public class FileAccessCache {
+
+    private final FileRepository fileRepository;
+    private final MessageRepository messageRepository;
+    private final RoomRepository roomRepository;
+    private final Cache<String, FileAccess> files;
+    private final Cache<String, Boolean> members;
+
+    public FileAccessCache(
+            FileRepository fileRepository,
+            MessageRepository messageRepository,
+            RoomRepository roomRepository,
+            MeterRegistry meterRegistry,
+            @Value("${app.file.access-cache.max-size:10000}") long maxSize,
+            @Value("${app.file.access-cache.file-ttl:10m}") Duration fileTtl,
+            @Value("${app.file.access-cache.member-ttl:30s}") Duration memberTtl) {
+        this.fileRepository = fileRepository;
+        this.messageRepository = messageRepository;
+        this.roomRepository = roomRepository;
+        this.files = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(fileTtl)
+                .recordStats()
+                .build();
+        this.members = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(memberTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, files, "file.access");
+        CaffeineCacheMetrics.monitor(meterRegistry, members, "file.access.member");
+    }
+
+    /**
+     * Resolve a file and verify that the requester participates in the room it was shared in
+     *
+     * @param fileName the stored file name
+     * @param requesterId the requesting user ID
+     * @return the file metadata
+     * @throws RuntimeException if the file or its message does not exist, or the requester has no access
+     */
+    public File authorize(String fileName, String requesterId) {
+        FileAccess access = files.getIfPresent(fileName);
+        if (access == null) {
+            access = load(fileName);
+            files.put(fileName, access);
+        }
+
+        String memberKey = access.roomId() + ":" + requesterId;
+        if (members.getIfPresent(memberKey) == null) {
+            if (!roomRepository.existsByIdAndParticipantIdsContains(access.roomId(), requesterId)) {
+                log.warn("파일 접근 권한 없음: {} (사용자: {})", fileName, requesterId);
+                throw new RuntimeException("파일에 접근할 권한이 없습니다");
+            }
+            members.put(memberKey, Boolean.TRUE);
+        }
+        return access.file();
+    }
+
+    /**
+     * Drop the cached authorization tuple of a file
+     *
+     * @param fileName the stored file name
+     */
+    public void evict(String fileName) {
+        files.invalidate(fileName);
+    }
+
+    private FileAccess load(String fileName) {
+        File file = fileRepository.findByFilename(fileName)
+                .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다: " + fileName));
+
+        Message message = messageRepository.findByFileId(file.getId())
+                .orElseThrow(() -> new RuntimeException("파일과 연결된 메시지를 찾을 수 없습니다"));
+
+        return new FileAccess(file, message.getRoomId());
+    }
+
+    private record FileAccess(File file, String roomId) {
+    }
+}
@@ -1,11 +1,7 @@
 package com.ktb.chatapp.service;
 
 import com.ktb.chatapp.model.File;
-import com.ktb.chatapp.model.Message;
-import com.ktb.chatapp.model.Room;
 import com.ktb.chatapp.repository.FileRepository;
-import com.ktb.chatapp.repository.MessageRepository;
-import com.ktb.chatapp.repository.RoomRepository;
 import com.ktb.chatapp.util.FileUtil;
 import jakarta.annotation.PostConstruct;
 import java.io.IOException;
@@ -15,6 +11,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
+import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
@@ -29,16 +26,13 @@ public class LocalFileService implements FileService {
 
     private final Path fileStorageLocation;
     private final FileRepository fileRepository;
-    private final MessageRepository messageRepository;
-    private final RoomRepository roomRepository;
+    private final FileAccessCache fileAccessCache;
 
     public LocalFileService(@Value("${file.upload-dir:uploads}") String uploadDir,
             FileRepository fileRepository,
-            MessageRepository messageRepository,
-            RoomRepository roomRepository) {
+            FileAccessCache fileAccessCache) {
         this.fileRepository = fileRepository;
-        this.messageRepository = messageRepository;
-        this.roomRepository = roomRepository;
+        this.fileAccessCache = fileAccessCache;
         this.fileStorageLocation = Paths.get(uploadDir).toAbsolutePath().normalize();
     }
 
@@ -147,21 +141,10 @@ public class LocalFileService implements FileService {
     @Override
     public Resource loadFileAsResource(String fileName, String requesterId) {
         try {
-            // 1. 파일 조회
-            File fileEntity = fileRepository.findByFilename(fileName)
-                    .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다: " + fileName));
-
-            // 2. 메시지 조회 (파일과 메시지 연결 확인) - 효율적인 쿼리 메서드 사용
-            Message message = messageRepository.findByFileId(fileEntity.getId())
-                    .orElseThrow(() -> new RuntimeException("파일과 연결된 메시지를 찾을 수 없습니다"));
-
-            // 3. 권한 검증 (방 참가자인지 확인)
-            if (!roomRepository.existsByIdAndParticipantIdsContains(message.getRoomId(), requesterId)) {
-                log.warn("파일 접근 권한 없음: {} (사용자: {})", fileName, requesterId);
-                throw new RuntimeException("파일에 접근할 권한이 없습니다");
-            }
+            // 1. 권한 검증 (파일 → 방 → 참가자, 캐시됨)
+            fileAccessCache.authorize(fileName, requesterId);
 
-            // 4. 파일 경로 검증 및 로드
+            // 2. 파일 경로 검증 및 로드
             Path filePath = this.fileStorageLocation.resolve(fileName).normalize();
             FileUtil.validatePath(filePath, this.fileStorageLocation);
 
@@ -178,6 +161,18 @@ public class LocalFileService implements FileService {
         }
     }
 
+    /**
+     * Resolve a file stored on this node's disk, for zero-copy transfer
+     *
+     * @param fileName the stored file name
+     * @return the validated path, or empty if the file is not stored locally
+     */
+    public Optional<Path> findLocalFile(String fileName) {
+        Path filePath = this.fileStorageLocation.resolve(fileName).normalize();
+        FileUtil.validatePath(filePath, this.fileStorageLocation);
+        return Files.isRegularFile(filePath) ? Optional.of(filePath) : Optional.empty();
+    }
+
     @Override
     public boolean deleteFile(String fileId, String requesterId) {
         try {
@@ -195,6 +190,7 @@ public class LocalFileService implements FileService {
 
             // 데이터베이스에서 제거
             fileRepository.delete(fileEntity);
+            fileAccessCache.evict(fileEntity.getFilename());
 
             log.info("파일 삭제 완료: {} (사용자: {})", fileId, requesterId);
             return true;
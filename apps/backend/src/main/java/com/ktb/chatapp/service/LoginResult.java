@@ -0,0 +1,12 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.User;
+import lombok.*;
+
+@Builder
+@Data
+public class LoginResult {
+    private User user;
+    private String sessionId;
+    private String token;
+}
@@ -0,0 +1,97 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.User;
+import com.ktb.chatapp.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+/**
+ * 로그인 처리
+ *
+ * 단계:
+ * 1. user: 사용자 조회 (1회)
+ * 2. password: 비밀번호 검증 (PasswordEncoder 풀), 필요 시 rehash로 새 strength 해시 저장
+ * 3. session: 기존 세션 삭제 + 새 세션 저장 (Redis 스크립트 1회)
+ * 4. token: JWT 발급
+ *
+ * 단계별 지연 시간은 auth.login.stage.time{stage}로 기록한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LoginService {
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final SessionService sessionService;
+    private final JwtService jwtService;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Authenticate a user and replace their session
+     *
+     * @param email the login email
+     * @param rawPassword the password entered by the user
+     * @param metadata client information stored with the session
+     * @return the authenticated user with the new session ID and token
+     * @throws BadCredentialsException if the user does not exist or the password does not match
+     */
+    public LoginResult login(String email, String rawPassword, SessionMetadata metadata) {
+        Timer.Sample totalSample = Timer.start(meterRegistry);
+
+        User user = timed("user", () -> userRepository.findByEmail(email.toLowerCase()))
+                .orElseThrow(() -> new BadCredentialsException("User not found"));
+
+        boolean matches = timed("password", () -> passwordEncoder.matches(rawPassword, user.getPassword()));
+        if (!matches) {
+            throw new BadCredentialsException("Password mismatch");
+        }
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            timed("rehash", () -> upgradePassword(user, rawPassword));
+        }
+
+        SessionCreationResult session = timed("session", () -> sessionService.createSession(user.getId(), metadata));
+        String token = timed("token", () -> jwtService.generateToken(
+                session.getSessionId(), user.getEmail(), user.getId()));
+
+        totalSample.stop(stageTimer("total"));
+
+        return LoginResult.builder()
+                .user(user)
+                .sessionId(session.getSessionId())
+                .token(token)
+                .build();
+    }
+
+    /**
+     * 저장된 해시의 strength가 현재 설정보다 낮으면 새 해시로 교체한다. 실패해도 로그인은 계속한다.
+     */
+    private User upgradePassword(User user, String rawPassword) {
+        try {
+            user.setPassword(passwordEncoder.encode(rawPassword));
+            User saved = userRepository.save(user);
+            log.info("Password hash upgraded for user {}", user.getId());
+            return saved;
+        } catch (Exception e) {
+            log.warn("Failed to upgrade password hash for user {}", user.getId(), e);
+            return user;
+        }
+    }
+
+    private <T> T timed(String stage, Supplier<T> supplier) {
+        return stageTimer(stage).record(supplier);
+    }
+
+    private Timer stageTimer(String stage) {
+        return Timer.builder("auth.login.stage.time")
+                .description("Login latency per stage")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+}
@@ -3,7 +3,6 @@ package com.ktb.chatapp.service;
 import com.ktb.chatapp.model.Message;
 import com.ktb.chatapp.repository.MessageRepository;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -36,21 +35,11 @@ public class MessageReadStatusService {
                 .build();
         
         try {
-            List<Message> messagesToUpdate = messageRepository.findAllById(messageIds);
-            for (Message message : messagesToUpdate) {
-                if (message.getReaders() == null) {
-                    message.setReaders(new ArrayList<>());
-                }
-                boolean alreadyRead = message.getReaders().stream()
-                        .anyMatch(r -> r.getUserId().equals(userId));
-                if (!alreadyRead) {
-                    message.getReaders().add(readerInfo);
-                }
-                messageRepository.save(message);
-            }
-            
+            // 이미 읽은 메시지는 필터로 제외하고 한 번의 updateMany로 처리
+            long updated = messageRepository.addReaderToMessages(messageIds, userId, readerInfo);
+
             log.debug("Read status updated for {} messages by user {}",
-                    messagesToUpdate.size(), userId);
+                    updated, userId);
 
         } catch (Exception e) {
             log.error("Read status update error for user {}", userId, e);
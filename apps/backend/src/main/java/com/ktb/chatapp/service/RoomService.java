@@ -2,6 +2,7 @@ package com.ktb.chatapp.service;
 
 import com.ktb.chatapp.dto.*;
 import com.ktb.chatapp.event.RoomCreatedEvent;
+import com.ktb.chatapp.event.RoomEventDispatcher;
 import com.ktb.chatapp.event.RoomUpdatedEvent;
 import com.ktb.chatapp.model.Room;
 import com.ktb.chatapp.model.User;
@@ -18,7 +19,6 @@ import java.util.HashSet;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -35,7 +35,7 @@ public class RoomService {
     private final UserService userService;
     private final MessageRepository messageRepository;
     private final PasswordEncoder passwordEncoder;
-    private final ApplicationEventPublisher eventPublisher;
+    private final RoomEventDispatcher roomEventDispatcher;
 
     public RoomsResponse getAllRoomsWithPagination(
             com.ktb.chatapp.dto.PageRequest pageRequest, String name) {
@@ -204,13 +204,9 @@ public class RoomService {
 
         Room savedRoom = roomRepository.save(room);
 
-        // Publish event for room created
-        try {
-            RoomResponse roomResponse = getRoomResponse(savedRoom, name); // 🟢 Optimized
-            eventPublisher.publishEvent(new RoomCreatedEvent(this, roomResponse));
-        } catch (Exception e) {
-            log.error("roomCreated 이벤트 발행 실패", e);
-        }
+        // Publish event for room created (RoomResponse 조회와 전송은 이벤트 발행기 스레드에서 수행)
+        roomEventDispatcher.publish(savedRoom.getId(),
+                () -> new RoomCreatedEvent(this, getRoomResponse(savedRoom, name)));
 
         return savedRoom;
     }
@@ -243,13 +239,10 @@ public class RoomService {
             room = roomRepository.save(room);
         }
 
-        // Publish event for room updated
-        try {
-            RoomResponse roomResponse = getRoomResponse(room, name); // 🟢 Optimized
-            eventPublisher.publishEvent(new RoomUpdatedEvent(this, roomId, roomResponse));
-        } catch (Exception e) {
-            log.error("roomUpdate 이벤트 발행 실패", e);
-        }
+        // Publish event for room updated (연속된 변경은 마지막 상태만 발행)
+        Room updatedRoom = room;
+        roomEventDispatcher.publishLatest(roomId,
+                () -> new RoomUpdatedEvent(this, roomId, getRoomResponse(updatedRoom, name)));
 
         return room;
     }
@@ -0,0 +1,277 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.repository.FileRepository;
+import com.ktb.chatapp.util.FileUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
+import software.amazon.awssdk.services.s3.model.GetUrlRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+/**
+ * S3AsyncClient(Netty NIO) 기반 FileService
+ * 업로드/삭제 동안 Tomcat 스레드를 점유하지 않는다. S3 I/O는 Netty 이벤트 루프에서,
+ * 업로드 본문 읽기와 MongoDB 메타데이터 저장은 io-threads 풀에서 수행한다.
+ *
+ * - max-concurrency: Netty 커넥션 풀 크기 (동시 S3 요청 수 상한)
+ * - multipart-threshold 이상 파일은 part-size 단위 multipart upload로 병렬 전송한다.
+ * - S3 요청 지연시간/동시 요청 수는 S3RequestMetrics(client=async)로 기록한다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.file.s3.async.enabled", havingValue = "true")
+public class S3AsyncFileService implements AsyncFileService {
+
+    private final FileRepository fileRepository;
+    private final FileAccessCache fileAccessCache;
+    private final MeterRegistry meterRegistry;
+    private final String bucketName;
+    private final String region;
+    private final String accessKey;
+    private final String secretKey;
+    private final String endpoint;
+    private final int maxConcurrency;
+    private final Duration connectionAcquireTimeout;
+    private final DataSize partSize;
+    private final DataSize multipartThreshold;
+    private final int ioThreads;
+
+    private S3AsyncClient s3AsyncClient;
+    private ExecutorService ioExecutor;
+
+    public S3AsyncFileService(
+            FileRepository fileRepository,
+            FileAccessCache fileAccessCache,
+            MeterRegistry meterRegistry,
+            @Value("${aws.s3.bucket}") String bucketName,
+            @Value("${aws.region}") String region,
+            @Value("${aws.access-key}") String accessKey,
+            @Value("${aws.secret-key}") String secretKey,
+            @Value("${aws.s3.endpoint:}") String endpoint,
+            @Value("${app.file.s3.async.max-concurrency:200}") int maxConcurrency,
+            @Value("${app.file.s3.async.connection-acquire-timeout:10s}") Duration connectionAcquireTimeout,
+            @Value("${app.file.s3.async.part-size:8MB}") DataSize partSize,
+            @Value("${app.file.s3.async.multipart-threshold:16MB}") DataSize multipartThreshold,
+            @Value("${app.file.s3.async.io-threads:16}") int ioThreads) {
+        this.fileRepository = fileRepository;
+        this.fileAccessCache = fileAccessCache;
+        this.meterRegistry = meterRegistry;
+        this.bucketName = bucketName;
+        this.region = region;
+        this.accessKey = accessKey;
+        this.secretKey = secretKey;
+        this.endpoint = endpoint;
+        this.maxConcurrency = maxConcurrency;
+        this.connectionAcquireTimeout = connectionAcquireTimeout;
+        this.partSize = partSize;
+        this.multipartThreshold = multipartThreshold;
+        this.ioThreads = ioThreads;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!StringUtils.hasText(accessKey) || !StringUtils.hasText(secretKey)) {
+            throw new IllegalStateException("AWS_ACCESS_KEY_ID, AWS_SECRET_ACCESS_KEY 환경 변수가 필요합니다.");
+        }
+
+        NettyNioAsyncHttpClient.Builder httpClient = NettyNioAsyncHttpClient.builder()
+                .maxConcurrency(maxConcurrency)
+                .connectionAcquisitionTimeout(connectionAcquireTimeout)
+                .connectionTimeout(Duration.ofSeconds(10));
+
+        S3AsyncClientBuilder builder = S3AsyncClient.builder()
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)))
+                .httpClientBuilder(httpClient)
+                .overrideConfiguration(o -> o.addExecutionInterceptor(new S3RequestMetrics(meterRegistry, "async")))
+                .multipartEnabled(true)
+                .multipartConfiguration(c -> c
+                        .minimumPartSizeInBytes(partSize.toBytes())
+                        .thresholdInBytes(multipartThreshold.toBytes()));
+
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+
+        this.s3AsyncClient = builder.build();
+        this.ioExecutor = Executors.newFixedThreadPool(ioThreads, Thread.ofPlatform()
+                .name("s3-async-io-", 0)
+                .daemon(true)
+                .factory());
+
+        log.info("S3AsyncClient 초기화 완료 (Bucket: {}, maxConcurrency: {}, partSize: {})",
+                bucketName, maxConcurrency, partSize);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (s3AsyncClient != null) {
+            s3AsyncClient.close();
+        }
+        if (ioExecutor != null) {
+            ioExecutor.shutdown();
+        }
+    }
+
+    @Override
+    public CompletableFuture<FileUploadResult> uploadFileAsync(MultipartFile file, String uploaderId) {
+        try {
+            FileUtil.validateFile(file);
+
+            String originalFilename = file.getOriginalFilename();
+            String safeFileName = FileUtil.generateSafeFileName(StringUtils.cleanPath(originalFilename));
+
+            return put(safeFileName, file).thenApplyAsync(fileUrl -> {
+                File fileEntity = File.builder()
+                        .filename(safeFileName)
+                        .originalname(FileUtil.normalizeOriginalFilename(originalFilename))
+                        .mimetype(file.getContentType())
+                        .size(file.getSize())
+                        .path(fileUrl)
+                        .user(uploaderId)
+                        .uploadDate(LocalDateTime.now())
+                        .build();
+
+                return FileUploadResult.builder()
+                        .success(true)
+                        .file(fileRepository.save(fileEntity))
+                        .build();
+            }, ioExecutor);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> deleteFileAsync(String fileId, String requesterId) {
+        return CompletableFuture.supplyAsync(() -> {
+            File fileEntity = fileRepository.findById(fileId)
+                    .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다."));
+            if (!fileEntity.getUser().equals(requesterId)) {
+                throw new RuntimeException("파일을 삭제할 권한이 없습니다.");
+            }
+            return fileEntity;
+        }, ioExecutor).thenCompose(fileEntity -> s3AsyncClient
+                .deleteObject(b -> b.bucket(bucketName).key(fileEntity.getFilename()))
+                .thenApplyAsync(response -> {
+                    fileRepository.delete(fileEntity);
+                    fileAccessCache.evict(fileEntity.getFilename());
+                    return true;
+                }, ioExecutor)
+                .exceptionally(e -> {
+                    log.error("S3 삭제 실패: {}", fileEntity.getFilename(), e);
+                    return false;
+                }));
+    }
+
+    @Override
+    public FileUploadResult uploadFile(MultipartFile file, String uploaderId) {
+        return join(uploadFileAsync(file, uploaderId));
+    }
+
+    @Override
+    public String storeFile(MultipartFile file, String subDirectory) {
+        FileUtil.validateFile(file);
+
+        String safeFileName = FileUtil.generateSafeFileName(StringUtils.cleanPath(file.getOriginalFilename()));
+        String key = StringUtils.hasText(subDirectory) ? subDirectory + "/" + safeFileName : safeFileName;
+        return join(put(key, file));
+    }
+
+    @Override
+    public Resource loadFileAsResource(String fileName, String requesterId) {
+        File fileEntity = fileAccessCache.authorize(fileName, requesterId);
+        String fileUrl = fileEntity.getPath();
+        if (fileUrl == null || !fileUrl.startsWith("http")) {
+            fileUrl = objectUrl(fileName);
+        }
+        try {
+            return new UrlResource(fileUrl);
+        } catch (MalformedURLException e) {
+            throw new RuntimeException("URL 형식이 잘못되었습니다.", e);
+        }
+    }
+
+    @Override
+    public boolean deleteFile(String fileId, String requesterId) {
+        return join(deleteFileAsync(fileId, requesterId));
+    }
+
+    /**
+     * 업로드 본문은 io 풀에서 읽어 Netty로 전달하고, 완료되면 객체 URL을 반환한다
+     */
+    private CompletableFuture<String> put(String key, MultipartFile file) {
+        InputStream input;
+        try {
+            input = file.getInputStream();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new RuntimeException("S3 업로드 중 오류가 발생했습니다.", e));
+        }
+
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(file.getContentType())
+                .contentLength(file.getSize())
+                .build();
+
+        return s3AsyncClient.putObject(request, AsyncRequestBody.fromInputStream(input, file.getSize(), ioExecutor))
+                .whenComplete((response, error) -> closeQuietly(input))
+                .thenApply(response -> {
+                    log.info("S3 비동기 업로드 완료: {}", key);
+                    return objectUrl(key);
+                });
+    }
+
+    private String objectUrl(String key) {
+        return s3AsyncClient.utilities()
+                .getUrl(GetUrlRequest.builder().bucket(bucketName).key(key).build())
+                .toExternalForm();
+    }
+
+    private static void closeQuietly(InputStream input) {
+        try {
+            input.close();
+        } catch (IOException ignored) {
+            // 업로드 결과에는 영향 없음
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
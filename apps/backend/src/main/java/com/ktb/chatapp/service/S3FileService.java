@@ -1,13 +1,14 @@
 package com.ktb.chatapp.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.ktb.chatapp.model.File;
-import com.ktb.chatapp.model.Message;
-import com.ktb.chatapp.model.Room;
 import com.ktb.chatapp.repository.FileRepository;
-import com.ktb.chatapp.repository.MessageRepository;
-import com.ktb.chatapp.repository.RoomRepository;
 import com.ktb.chatapp.util.FileUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
@@ -15,6 +16,7 @@ import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
@@ -22,16 +24,24 @@ import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.http.apache.ApacheHttpClient;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetUrlRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
+import java.net.URI;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Slf4j
 @Service
@@ -39,8 +49,8 @@ import java.time.LocalDateTime;
 public class S3FileService implements FileService {
 
   private final FileRepository fileRepository;
-  private final MessageRepository messageRepository;
-  private final RoomRepository roomRepository;
+  private final FileAccessCache fileAccessCache;
+  private final MeterRegistry meterRegistry;
 
   @Value("${aws.s3.bucket}")
   private String bucketName;
@@ -54,6 +64,34 @@ public class S3FileService implements FileService {
   @Value("${aws.secret-key}")
   private String secretKey;
 
+  // S3 호환 엔드포인트 (MinIO/LocalStack 등). 비어 있으면 AWS 기본 엔드포인트 사용
+  @Value("${aws.s3.endpoint:}")
+  private String endpoint;
+
+  // 다운로드 시 파일을 중계하지 않고 presigned GET URL로 302 리다이렉트
+  @Value("${app.file.download.redirect:false}")
+  private boolean downloadRedirect;
+
+  @Value("${app.file.download.presign-ttl:15m}")
+  private Duration presignTtl;
+
+  // 만료 직전 URL을 넘겨주지 않도록 이 시간만큼 일찍 캐시에서 제거
+  @Value("${app.file.download.presign-refresh-margin:1m}")
+  private Duration presignRefreshMargin;
+
+  @Value("${app.file.download.presign-cache-size:10000}")
+  private long presignCacheSize;
+
+  // 스트리밍 업로드: 파트 크기(최소 5MB)와 업로드당 동시 전송 파트 수, 파트 전송 스레드 수
+  @Value("${app.file.upload.part-size:8MB}")
+  private DataSize uploadPartSize;
+
+  @Value("${app.file.upload.max-concurrent-parts:4}")
+  private int uploadMaxConcurrentParts;
+
+  @Value("${app.file.upload.threads:16}")
+  private int uploadThreads;
+
   // 로컬 다운로드를 위한 임시 디렉토리
   @Value("${file.upload-dir:./uploads}")
   private String localDownloadDir;
@@ -61,12 +99,18 @@ public class S3FileService implements FileService {
   private S3Client s3Client;
   private S3Presigner s3Presigner;
 
+  // (파일명, Content-Disposition) → presigned GET URL
+  private Cache<String, String> presignedDownloadUrls;
+
+  private ExecutorService uploadExecutor;
+  private S3MultipartUploader multipartUploader;
+
   public S3FileService(FileRepository fileRepository,
-      MessageRepository messageRepository,
-      RoomRepository roomRepository) {
+      FileAccessCache fileAccessCache,
+      MeterRegistry meterRegistry) {
     this.fileRepository = fileRepository;
-    this.messageRepository = messageRepository;
-    this.roomRepository = roomRepository;
+    this.fileAccessCache = fileAccessCache;
+    this.meterRegistry = meterRegistry;
   }
 
   @PostConstruct
@@ -93,16 +137,25 @@ public class S3FileService implements FileService {
           .connectionTimeout(java.time.Duration.ofSeconds(10))
           .socketTimeout(java.time.Duration.ofSeconds(30));
       
-      this.s3Client = S3Client.builder()
+      S3ClientBuilder clientBuilder = S3Client.builder()
           .region(awsRegion)
           .credentialsProvider(credentialsProvider)
           .httpClient(httpClientBuilder.build())
-          .build();
-      
-      this.s3Presigner = S3Presigner.builder()
+          .overrideConfiguration(o -> o.addExecutionInterceptor(new S3RequestMetrics(meterRegistry, "sync")));
+
+      S3Presigner.Builder presignerBuilder = S3Presigner.builder()
           .region(awsRegion)
-          .credentialsProvider(credentialsProvider)
-          .build();
+          .credentialsProvider(credentialsProvider);
+
+      if (StringUtils.hasText(endpoint)) {
+        // S3 호환 스토리지는 path-style 주소를 사용
+        clientBuilder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        presignerBuilder.endpointOverride(URI.create(endpoint))
+            .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+      }
+
+      this.s3Client = clientBuilder.build();
+      this.s3Presigner = presignerBuilder.build();
       
       log.info("S3Client 및 S3Presigner 초기화 완료 (Region: {}, Bucket: {})", awsRegion, bucketName);
     } catch (Exception e) {
@@ -116,6 +169,30 @@ public class S3FileService implements FileService {
       }
       throw new RuntimeException("S3Client 초기화 중 오류가 발생했습니다: " + e.getMessage(), e);
     }
+
+    if (presignRefreshMargin.compareTo(presignTtl) >= 0) {
+      throw new IllegalStateException("presign-refresh-margin은 presign-ttl보다 짧아야 합니다.");
+    }
+    this.presignedDownloadUrls = Caffeine.newBuilder()
+        .maximumSize(presignCacheSize)
+        .expireAfterWrite(presignTtl.minus(presignRefreshMargin))
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, presignedDownloadUrls, "file.presigned.download");
+
+    this.uploadExecutor = Executors.newFixedThreadPool(uploadThreads, Thread.ofPlatform()
+        .name("s3-upload-", 0)
+        .daemon(true)
+        .factory());
+    this.multipartUploader = new S3MultipartUploader(
+        s3Client, uploadExecutor, Math.toIntExact(uploadPartSize.toBytes()), uploadMaxConcurrentParts);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (uploadExecutor != null) {
+      uploadExecutor.shutdown();
+    }
   }
 
   @Override
@@ -169,6 +246,53 @@ public class S3FileService implements FileService {
     }
   }
 
+  /**
+   * Upload a file by streaming the request body into an S3 multipart upload
+   *
+   * @param input the raw file content, read until EOF
+   * @param originalFilename the client-side file name
+   * @param contentType the file MIME type
+   * @param contentLength the declared size, or -1 if unknown (chunked transfer)
+   * @param uploaderId the uploading user ID
+   * @return the upload result with the saved file metadata
+   */
+  public FileUploadResult uploadFileStream(InputStream input, String originalFilename, String contentType,
+      long contentLength, String uploaderId) {
+    // 본문을 읽기 전에 메타데이터와 선언된 크기를 먼저 검증
+    FileUtil.validateFile(originalFilename, contentType, Math.max(contentLength, 0));
+    if (contentLength == 0) {
+      throw new RuntimeException("파일이 비어있습니다.");
+    }
+
+    String cleanFilename = StringUtils.cleanPath(originalFilename);
+    String safeFileName = FileUtil.generateSafeFileName(cleanFilename);
+
+    long size = multipartUploader.upload(bucketName, safeFileName, contentType, input,
+        FileUtil.getSizeLimit(contentType), () -> FileUtil.sizeLimitExceeded(contentType));
+
+    String fileUrl = s3Client.utilities().getUrl(GetUrlRequest.builder()
+        .bucket(bucketName)
+        .key(safeFileName)
+        .build()).toExternalForm();
+
+    log.info("S3 스트리밍 업로드 완료: {} ({} bytes)", fileUrl, size);
+
+    File fileEntity = File.builder()
+        .filename(safeFileName)
+        .originalname(FileUtil.normalizeOriginalFilename(cleanFilename))
+        .mimetype(contentType)
+        .size(size)
+        .path(fileUrl)
+        .user(uploaderId)
+        .uploadDate(LocalDateTime.now())
+        .build();
+
+    return FileUploadResult.builder()
+        .success(true)
+        .file(fileRepository.save(fileEntity))
+        .build();
+  }
+
   @Override
   public String storeFile(MultipartFile file, String subDirectory) {
     try {
@@ -207,19 +331,8 @@ public class S3FileService implements FileService {
     // S3에서는 직접 URL로 접근하므로 이 메서드는 다운로드/중계 용도로 사용되거나
     // URL을 리소스 래핑해서 반환할 수 있음
     try {
-      // 1. 권한 체크 로직은 동일하게 유지
-      File fileEntity = fileRepository.findByFilename(fileName)
-          .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다: " + fileName));
-
-      Message message = messageRepository.findByFileId(fileEntity.getId())
-          .orElseThrow(() -> new RuntimeException("파일과 연결된 메시지를 찾을 수 없습니다"));
-
-      Room room = roomRepository.findById(message.getRoomId())
-          .orElseThrow(() -> new RuntimeException("방을 찾을 수 없습니다"));
-
-      if (!room.getParticipantIds().contains(requesterId)) {
-        throw new RuntimeException("파일 접근 권한이 없습니다.");
-      }
+      // 1. 권한 체크 (파일 → 방 → 참가자, 캐시됨)
+      File fileEntity = fileAccessCache.authorize(fileName, requesterId);
 
       // S3 URL을 바로 UrlResource로 반환
       String fileUrl = fileEntity.getPath();
@@ -253,6 +366,9 @@ public class S3FileService implements FileService {
     try {
       s3Client.deleteObject(b -> b.bucket(bucketName).key(fileEntity.getFilename()));
       fileRepository.delete(fileEntity);
+      fileAccessCache.evict(fileEntity.getFilename());
+      String keyPrefix = fileEntity.getFilename() + "\n";
+      presignedDownloadUrls.asMap().keySet().removeIf(key -> key.startsWith(keyPrefix));
       return true;
     } catch (Exception e) {
       log.error("S3 삭제 실패", e);
@@ -294,6 +410,43 @@ public class S3FileService implements FileService {
     }
   }
 
+  /**
+   * Whether authorized downloads should be redirected to a presigned GET URL
+   */
+  public boolean isDownloadRedirectEnabled() {
+    return downloadRedirect;
+  }
+
+  /**
+   * Generate a presigned GET URL for an authorized download, reused until shortly before it expires
+   *
+   * @param file the file to download (authorization must already be checked)
+   * @param contentDisposition the Content-Disposition S3 should return with the object
+   * @return the presigned URL
+   */
+  public String generatePresignedDownloadUrl(File file, String contentDisposition) {
+    try {
+      return presignedDownloadUrls.get(file.getFilename() + "\n" + contentDisposition, key -> {
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+            .bucket(bucketName)
+            .key(file.getFilename())
+            .responseContentType(file.getMimetype())
+            .responseContentDisposition(contentDisposition)
+            .build();
+
+        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+            .signatureDuration(presignTtl)
+            .getObjectRequest(getObjectRequest)
+            .build();
+
+        return s3Presigner.presignGetObject(presignRequest).url().toString();
+      });
+    } catch (Exception e) {
+      log.error("Presigned 다운로드 URL 생성 실패: {}", file.getFilename(), e);
+      throw new RuntimeException("Presigned 다운로드 URL 생성 중 오류가 발생했습니다.", e);
+    }
+  }
+
   //Presigned URL 업로드 완료 후 파일 정보 저장
   public File saveFileMetadata(String filename, String originalFilename, String contentType, 
                                 long fileSize, String uploaderId) {
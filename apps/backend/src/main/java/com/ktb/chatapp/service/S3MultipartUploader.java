@@ -0,0 +1,147 @@
+package com.ktb.chatapp.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+
+/**
+ * 입력 스트림을 S3 multipart upload로 흘려보내는 업로더
+ * 요청 본문을 힙이나 임시 파일에 모두 받아두지 않고, 파트 크기만큼 읽는 대로 업로드한다.
+ *
+ * - 업로드 하나가 동시에 보유하는 파트 버퍼는 최대 maxConcurrentParts + 1개
+ *   (전송 중 파트 + 읽는 중 파트). 전송 중 파트가 가득 차면 읽기를 멈춰 클라이언트에 backpressure를 건다.
+ * - 크기 제한을 넘거나 읽기/파트 업로드가 실패하면 multipart upload를 abort하여 남은 파트를 정리한다.
+ */
+@Slf4j
+public class S3MultipartUploader {
+
+    /**
+     * S3 multipart 최소 파트 크기 (마지막 파트 제외)
+     */
+    public static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final S3Client s3Client;
+    private final Executor executor;
+    private final int partSize;
+    private final int maxConcurrentParts;
+
+    public S3MultipartUploader(S3Client s3Client, Executor executor, int partSize, int maxConcurrentParts) {
+        if (partSize < MIN_PART_SIZE) {
+            throw new IllegalArgumentException("part size must be at least 5MB: " + partSize);
+        }
+        this.s3Client = s3Client;
+        this.executor = executor;
+        this.partSize = partSize;
+        this.maxConcurrentParts = maxConcurrentParts;
+    }
+
+    /**
+     * Stream the input into an S3 object using a multipart upload
+     *
+     * @param bucket the target bucket
+     * @param key the object key
+     * @param contentType the object Content-Type
+     * @param input the source stream, read until EOF
+     * @param maxBytes the maximum number of bytes accepted
+     * @param sizeExceeded the exception to throw when the input exceeds maxBytes
+     * @return the number of bytes uploaded
+     */
+    public long upload(
+            String bucket,
+            String key,
+            String contentType,
+            InputStream input,
+            long maxBytes,
+            Supplier<RuntimeException> sizeExceeded) {
+        String uploadId = s3Client.createMultipartUpload(b -> b.bucket(bucket).key(key).contentType(contentType))
+                .uploadId();
+
+        Semaphore inFlight = new Semaphore(maxConcurrentParts);
+        List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+        long total = 0;
+        try {
+            for (int partNumber = 1; ; partNumber++) {
+                byte[] buffer = new byte[partSize];
+                int length = input.readNBytes(buffer, 0, partSize);
+                if (length == 0) {
+                    if (partNumber == 1) {
+                        throw new RuntimeException("파일이 비어있습니다.");
+                    }
+                    break;
+                }
+                total += length;
+                if (total > maxBytes) {
+                    throw sizeExceeded.get();
+                }
+
+                inFlight.acquire();
+                parts.add(uploadPart(bucket, key, uploadId, partNumber, buffer, length)
+                        .whenComplete((part, error) -> inFlight.release()));
+
+                if (length < partSize) {
+                    break;
+                }
+                // 먼저 실패한 파트가 있으면 나머지 본문을 읽지 않는다
+                parts.stream().filter(CompletableFuture::isCompletedExceptionally).findFirst()
+                        .ifPresent(CompletableFuture::join);
+            }
+
+            List<CompletedPart> completedParts = parts.stream()
+                    .map(CompletableFuture::join)
+                    .sorted(Comparator.comparingInt(CompletedPart::partNumber))
+                    .toList();
+
+            s3Client.completeMultipartUpload(b -> b.bucket(bucket).key(key).uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build()));
+
+            log.debug("S3 multipart 업로드 완료: {} ({} bytes, {} parts)", key, total, completedParts.size());
+            return total;
+
+        } catch (Exception e) {
+            abort(bucket, key, uploadId, parts);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("S3 multipart 업로드 중 오류가 발생했습니다.", cause);
+        }
+    }
+
+    private CompletableFuture<CompletedPart> uploadPart(
+            String bucket, String key, String uploadId, int partNumber, byte[] buffer, int length) {
+        return CompletableFuture.supplyAsync(() -> {
+            String eTag = s3Client.uploadPart(
+                    b -> b.bucket(bucket).key(key).uploadId(uploadId).partNumber(partNumber)
+                            .contentLength((long) length),
+                    RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, length), length))
+                    .eTag();
+            return CompletedPart.builder().partNumber(partNumber).eTag(eTag).build();
+        }, executor);
+    }
+
+    private void abort(String bucket, String key, String uploadId, List<CompletableFuture<CompletedPart>> parts) {
+        // 전송 중인 파트가 끝난 뒤 abort해야 파트가 남지 않는다
+        parts.forEach(part -> part.exceptionally(error -> null).join());
+        try {
+            s3Client.abortMultipartUpload(b -> b.bucket(bucket).key(key).uploadId(uploadId));
+            log.warn("S3 multipart 업로드 중단: {}", key);
+        } catch (Exception abortError) {
+            log.error("S3 multipart 업로드 abort 실패: {} (uploadId: {})", key, uploadId, abortError);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.ktb.chatapp.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+
+/**
+ * S3 API 호출 지연시간과 동시 요청 수를 기록하는 SDK 인터셉터
+ *
+ * - s3.requests{client, operation, result}: 재시도를 포함한 API 호출 전체 시간
+ * - s3.requests.in_flight{client}: 진행 중인 API 호출 수
+ */
+public class S3RequestMetrics implements ExecutionInterceptor {
+
+    private static final ExecutionAttribute<Long> START_NANOS = new ExecutionAttribute<>("S3RequestMetricsStart");
+
+    private final MeterRegistry meterRegistry;
+    private final String client;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public S3RequestMetrics(MeterRegistry meterRegistry, String client) {
+        this.meterRegistry = meterRegistry;
+        this.client = client;
+        meterRegistry.gauge("s3.requests.in_flight", Tags.of("client", client), inFlight);
+    }
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        executionAttributes.putAttribute(START_NANOS, System.nanoTime());
+        inFlight.incrementAndGet();
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+        record(executionAttributes, "success");
+    }
+
+    @Override
+    public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+        record(executionAttributes, "error");
+    }
+
+    private void record(ExecutionAttributes executionAttributes, String result) {
+        Long start = executionAttributes.getAttribute(START_NANOS);
+        if (start == null) {
+            return;
+        }
+        inFlight.decrementAndGet();
+        Timer.builder("s3.requests")
+                .tag("client", client)
+                .tag("operation", String.valueOf(executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME)))
+                .tag("result", result)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+}
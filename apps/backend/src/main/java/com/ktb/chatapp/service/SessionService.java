@@ -19,6 +19,11 @@ public class SessionService {
     private final SessionStore sessionStore;
     public static final long SESSION_TTL_SEC = DurationStyle.detectAndParse(SESSION_TTL).getSeconds();
     private static final long SESSION_TIMEOUT = SESSION_TTL_SEC * 1000;
+    /**
+     * 검증 시 lastActivity를 저장소에 다시 쓰는 최소 간격.
+     * 매 요청마다 쓰면 near cache가 계속 무효화되므로 이 간격 안에서는 저장을 생략한다.
+     */
+    private static final long ACTIVITY_WRITE_INTERVAL = 60_000;
 
     private String generateSessionId() {
         return UUID.randomUUID().toString().replace("-", "");
@@ -36,9 +41,6 @@ public class SessionService {
 
     public SessionCreationResult createSession(String userId, SessionMetadata metadata) {
         try {
-            // Remove all existing user sessions
-            removeAllUserSessions(userId);
-
             String sessionId = generateSessionId();
             long now = Instant.now().toEpochMilli();
             
@@ -51,7 +53,8 @@ public class SessionService {
                     .expiresAt(Instant.now().plusSeconds(SESSION_TTL_SEC))
                     .build();
 
-            session = sessionStore.save(session);
+            // 기존 세션 삭제와 새 세션 저장을 한 번에 처리 (단일 세션 정책)
+            session = sessionStore.replaceAll(session);
             
             SessionData sessionData = toSessionData(session);
 
@@ -94,12 +97,15 @@ public class SessionService {
                 return SessionValidationResult.invalid("SESSION_EXPIRED", "세션이 만료되었습니다.");
             }
 
-            // Update last activity
-            session.setLastActivity(now);
-            session.setExpiresAt(Instant.now().plusSeconds(SESSION_TTL_SEC));
-            session = sessionStore.save(session);
+            // Update last activity (저장은 ACTIVITY_WRITE_INTERVAL 마다)
+            if (now - session.getLastActivity() >= ACTIVITY_WRITE_INTERVAL) {
+                session.setLastActivity(now);
+                session.setExpiresAt(Instant.now().plusSeconds(SESSION_TTL_SEC));
+                session = sessionStore.save(session);
+            }
 
             SessionData sessionData = toSessionData(session);
+            sessionData.setLastActivity(now);
             return SessionValidationResult.valid(sessionData);
 
         } catch (Exception e) {
@@ -0,0 +1,129 @@
+package com.ktb.chatapp.service.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb.chatapp.model.Session;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * Near-cache implementation of SessionStore.
+ * 세션 검증 hot path를 로컬 메모리(Caffeine)에서 처리하고, Redis(SessionRedisStore)는 원본 저장소로 사용한다.
+ *
+ * 무효화:
+ * - save/replaceAll/delete/deleteAll 시 session:invalidate 토픽으로 userId를 발행해 다른 노드의 항목을 제거한다.
+ * - Redis에서 세션 키가 만료된 경우와 메시지가 유실된 경우에 대비해 항목은 최대 ttl 동안만 유지된다 (staleness 상한).
+ */
+@Slf4j
+@Primary
+@Component
+public class SessionNearCacheStore implements SessionStore {
+
+    private static final String INVALIDATION_TOPIC = "session:invalidate";
+
+    /**
+     * 자신이 발행한 무효화 메시지를 구분하기 위한 노드 식별자
+     */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final SessionRedisStore delegate;
+    private final Cache<String, Session> cache;
+    private final RTopic invalidationTopic;
+
+    private int invalidationListenerId;
+
+    public SessionNearCacheStore(
+            SessionRedisStore delegate,
+            RedissonClient redissonClient,
+            MeterRegistry meterRegistry,
+            @Value("${app.session.near-cache.max-size:50000}") long maxSize,
+            @Value("${app.session.near-cache.ttl:30s}") Duration ttl) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.invalidationTopic = redissonClient.getTopic(INVALIDATION_TOPIC, StringCodec.INSTANCE);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "session.near");
+    }
+
+    @PostConstruct
+    void subscribe() {
+        invalidationListenerId = invalidationTopic.addListener(String.class, (channel, message) -> {
+            int separator = message.indexOf(':');
+            if (separator < 0 || message.startsWith(nodeId + ":")) {
+                return;
+            }
+            cache.invalidate(message.substring(separator + 1));
+        });
+    }
+
+    @PreDestroy
+    void unsubscribe() {
+        invalidationTopic.removeListener(invalidationListenerId);
+    }
+
+    @Override
+    public Optional<Session> findByUserId(String userId) {
+        Session cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<Session> session = delegate.findByUserId(userId);
+        session.ifPresent(value -> cache.put(userId, value));
+        return session;
+    }
+
+    @Override
+    public Session save(Session session) {
+        Session saved = delegate.save(session);
+        cache.put(saved.getUserId(), saved);
+        publishInvalidation(saved.getUserId());
+        return saved;
+    }
+
+    @Override
+    public Session replaceAll(Session session) {
+        Session saved = delegate.replaceAll(session);
+        cache.put(saved.getUserId(), saved);
+        publishInvalidation(saved.getUserId());
+        return saved;
+    }
+
+    @Override
+    public void deleteAll(String userId) {
+        delegate.deleteAll(userId);
+        cache.invalidate(userId);
+        publishInvalidation(userId);
+    }
+
+    @Override
+    public void delete(String userId, String sessionId) {
+        delegate.delete(userId, sessionId);
+        cache.invalidate(userId);
+        publishInvalidation(userId);
+    }
+
+    private void publishInvalidation(String userId) {
+        try {
+            invalidationTopic.publish(nodeId + ":" + userId);
+        } catch (Exception e) {
+            // 발행 실패 시 다른 노드는 ttl 경과 후 갱신된다
+            log.warn("Failed to publish session invalidation for user {}", userId, e);
+        }
+    }
+}
@@ -38,4 +38,10 @@ public class SessionRedisStore implements SessionStore {
     public void deleteAll(String userId) {
         sessionRepository.deleteByUserId(userId);
     }
+
+    @Override
+    public Session replaceAll(Session session) {
+        sessionRepository.replaceAll(session);
+        return session;
+    }
 }
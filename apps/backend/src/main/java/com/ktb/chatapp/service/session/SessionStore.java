@@ -34,4 +34,15 @@ public interface SessionStore {
     
     void delete(String userId, String sessionId);
 
+    /**
+     * Delete all sessions of the session's user and save the given session
+     *
+     * @param session the new session
+     * @return the saved session
+     */
+    default Session replaceAll(Session session) {
+        deleteAll(session.getUserId());
+        return save(session);
+    }
+
 }
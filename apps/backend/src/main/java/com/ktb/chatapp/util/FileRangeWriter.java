@@ -0,0 +1,115 @@
+package com.ktb.chatapp.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+
+/**
+ * 로컬 파일을 응답 본문으로 직접 전송하는 유틸리티
+ *
+ * - HTTP Range(단일 구간)를 지원해 영상/음성 seek 시 필요한 구간만 전송한다. 다중 구간 요청은 전체를 전송한다.
+ * - Tomcat이 sendfile을 지원하면(NIO 커넥터, 압축/TLS 미적용) 요청 속성으로 파일 구간을 넘겨
+ *   커널이 페이지 캐시에서 소켓으로 바로 복사하게 한다. 애플리케이션 스레드는 본문을 읽지 않는다.
+ * - 그 외에는 FileChannel.transferTo로 힙 버퍼 복사 없이 응답 스트림에 전송한다.
+ */
+public final class FileRangeWriter {
+
+    // org.apache.coyote.Constants 의 sendfile 요청 속성
+    static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private FileRangeWriter() {
+    }
+
+    /**
+     * Write the requested byte range of a local file to the response
+     *
+     * @param path the file to send
+     * @param contentType the Content-Type header value
+     * @param headers additional response headers (Content-Disposition, Cache-Control, ...)
+     * @param request the current request, consulted for the Range header and sendfile support
+     * @param response the response to write to
+     * @throws IOException if the file cannot be read or the client disconnects
+     */
+    public static void write(
+            Path path,
+            String contentType,
+            HttpHeaders headers,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        long length = Files.size(path);
+        headers.forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        long start = 0;
+        long end = length - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && length > 0) {
+            try {
+                List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                }
+            } catch (IllegalArgumentException e) {
+                start = length;
+            }
+            if (start >= length) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+            if (start > 0 || end < length - 1) {
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentType(contentType);
+        response.setContentLengthLong(count);
+        if (count <= 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // 본문은 서블릿 반환 후 Tomcat이 sendfile로 전송한다
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            transfer(channel, start, count, target);
+        }
+    }
+
+    /**
+     * transferTo는 한 번에 요청한 만큼 전송하지 않을 수 있으므로 남은 구간을 반복 전송한다
+     */
+    static void transfer(FileChannel channel, long position, long count, WritableByteChannel target)
+            throws IOException {
+        long remaining = count;
+        while (remaining > 0) {
+            long sent = channel.transferTo(position, remaining, target);
+            if (sent <= 0) {
+                break;
+            }
+            position += sent;
+            remaining -= sent;
+        }
+    }
+}
@@ -48,7 +48,14 @@ public class FileUtil {
             throw new RuntimeException("파일이 비어있습니다.");
         }
 
-        String originalFilename = file.getOriginalFilename();
+        validateFile(file.getOriginalFilename(), file.getContentType(), file.getSize());
+    }
+
+    /**
+     * 파일 유효성 검증 (스트리밍 업로드처럼 본문보다 메타데이터를 먼저 받는 경우)
+     * 크기를 미리 알 수 없으면 size에 0을 넘기고, 전송 중 getSizeLimit으로 제한한다.
+     */
+    public static void validateFile(String originalFilename, String contentType, long size) {
         if (originalFilename == null || originalFilename.trim().isEmpty()) {
             throw new RuntimeException("파일명이 올바르지 않습니다.");
         }
@@ -60,7 +67,6 @@ public class FileUtil {
         }
 
         // MIME 타입 검증
-        String contentType = file.getContentType();
         if (contentType == null || !ALLOWED_TYPES.containsKey(contentType)) {
             throw new RuntimeException("지원하지 않는 파일 형식입니다.");
         }
@@ -74,16 +80,28 @@ public class FileUtil {
         }
 
         // 타입별 크기 제한 검증
-        String type = contentType.split("/")[0];
-        long limit = FILE_SIZE_LIMITS.getOrDefault(type, FILE_SIZE_LIMITS.get("application"));
-        
-        if (file.getSize() > limit) {
-            int limitInMB = (int) (limit / 1024 / 1024);
-            String fileType = getFileType(contentType);
-            throw new RuntimeException(fileType + " 파일은 " + limitInMB + "MB를 초과할 수 없습니다.");
+        if (size > getSizeLimit(contentType)) {
+            throw sizeLimitExceeded(contentType);
         }
     }
 
+    /**
+     * 타입별 최대 파일 크기 (bytes)
+     */
+    public static long getSizeLimit(String contentType) {
+        String type = contentType.split("/")[0];
+        return FILE_SIZE_LIMITS.getOrDefault(type, FILE_SIZE_LIMITS.get("application"));
+    }
+
+    /**
+     * 타입별 크기 제한 초과 예외
+     */
+    public static RuntimeException sizeLimitExceeded(String contentType) {
+        int limitInMB = (int) (getSizeLimit(contentType) / 1024 / 1024);
+        String fileType = getFileType(contentType);
+        return new RuntimeException(fileType + " 파일은 " + limitInMB + "MB를 초과할 수 없습니다.");
+    }
+
     /**
      * 파일 타입 한글명 반환
      */
@@ -21,6 +21,9 @@ import org.springframework.stereotype.Component;
 /**
  * Socket.IO Authorization Handler
  * socket.handshake.auth.token과 sessionId를 처리한다.
+ * 인증 전에 HandshakeAdmission으로 수락 여부를 확인하고, 과부하면 retryAfter 힌트와 함께 거절한다.
+ * auth.resume은 클라이언트가 임의로 보낼 수 있으므로, 토큰의 사용자가 재접속 유예 중(PresenceTracker)일 때만
+ * 재접속 bucket을 쓴다. 이 확인은 HandshakeAdmission이 in-flight 슬롯을 얻은 뒤에만 실행한다.
  */
 @Slf4j
 @Component
@@ -32,9 +35,46 @@ public class AuthTokenListenerImpl implements AuthTokenListener {
     private final SessionService sessionService;
     private final ObjectProvider<ConnectionLoginHandler> socketIOChatHandlerProvider;
     private final UserService userService;
+    private final HandshakeAdmission handshakeAdmission;
+    private final ObjectProvider<PresenceTracker> presenceTrackerProvider;
 
     @Override
     public AuthTokenResult getAuthTokenResult(Object _authToken, SocketIOClient client) {
+        // 재접속 클라이언트는 auth.resume=true를 보내 우선 bucket을 사용한다
+        boolean claimsResume = _authToken instanceof Map<?, ?> auth
+                && Boolean.parseBoolean(String.valueOf(auth.get("resume")));
+        HandshakeAdmission.Admission admission = handshakeAdmission.admit(
+                claimsResume, () -> isResuming((Map<?, ?>) _authToken));
+        if (!admission.admitted()) {
+            // socket.io 클라이언트에서 connect_error의 error.data로 전달된다
+            return new AuthTokenResult(false, Map.of(
+                    "message", "Server overloaded",
+                    "data", Map.of("retryAfter", admission.retryAfterMillis())));
+        }
+        try {
+            return authorize(_authToken, client);
+        } finally {
+            handshakeAdmission.release();
+        }
+    }
+
+    /**
+     * 재접속 여부를 서버에서 확인한다. JWT 검증은 캐시되고(CachingJwtDecoder) 유예 확인은 Redis 키 하나만 조회한다.
+     */
+    private boolean isResuming(Map<?, ?> auth) {
+        Object token = auth.get("token");
+        if (token == null) {
+            return false;
+        }
+        try {
+            return presenceTrackerProvider.getObject().hasPendingLeave(jwtService.extractUserId(token.toString()));
+        } catch (Exception e) {
+            // 잘못된 토큰은 공용 bucket으로 처리하고 인증 단계에서 거절한다
+            return false;
+        }
+    }
+
+    private AuthTokenResult authorize(Object _authToken, SocketIOClient client) {
         try {
             var authToken = (Map<?, ?>) _authToken;
             String token = authToken.get("token") != null ? authToken.get("token").toString() : null;
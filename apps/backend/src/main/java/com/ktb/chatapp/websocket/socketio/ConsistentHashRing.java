@@ -0,0 +1,124 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+
+/**
+ * NginX `hash $key consistent`(ketama)와 같은 결과를 내는 consistent-hash ring
+ * 백엔드가 계산한 방 소유 노드와 NginX가 라우팅하는 노드가 일치해야 하므로 NginX 구현을 그대로 따른다.
+ *
+ * - 노드 주소는 upstream server 항목과 같은 "host:port" 문자열이다.
+ * - 노드마다 160개 point: crc32(host, '\0', port, 직전 point의 little-endian 4바이트)
+ * - key의 hash는 crc32(key)이며, hash 이상인 첫 point의 노드가 소유자다. (없으면 처음으로 돌아감)
+ * - 같은 hash의 point가 여럿이면 정렬 후 첫 point만 남긴다.
+ */
+public final class ConsistentHashRing {
+
+    static final int POINTS_PER_NODE = 160;
+
+    private final List<String> nodes;
+    private final long[] hashes;
+    private final String[] owners;
+
+    public ConsistentHashRing(Collection<String> nodes) {
+        this.nodes = List.copyOf(new TreeSet<>(nodes));
+
+        long[][] points = new long[this.nodes.size() * POINTS_PER_NODE][];
+        int count = 0;
+        for (int index = 0; index < this.nodes.size(); index++) {
+            for (long hash : nodePoints(this.nodes.get(index))) {
+                points[count++] = new long[] {hash, index};
+            }
+        }
+        Arrays.sort(points, (a, b) -> Long.compare(a[0], b[0]));
+
+        long[] hashes = new long[count];
+        String[] owners = new String[count];
+        int unique = 0;
+        for (int i = 0; i < count; i++) {
+            if (unique > 0 && hashes[unique - 1] == points[i][0]) {
+                continue;
+            }
+            hashes[unique] = points[i][0];
+            owners[unique] = this.nodes.get((int) points[i][1]);
+            unique++;
+        }
+        this.hashes = Arrays.copyOf(hashes, unique);
+        this.owners = Arrays.copyOf(owners, unique);
+    }
+
+    /**
+     * Find the node that owns a key
+     *
+     * @param key routing key (e.g. room id)
+     * @return owning node address, or null if the ring is empty
+     */
+    public String nodeFor(String key) {
+        if (hashes.length == 0) {
+            return null;
+        }
+        int index = Arrays.binarySearch(hashes, crc32(key.getBytes(StandardCharsets.UTF_8)));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index % owners.length];
+    }
+
+    /**
+     * @return node addresses on the ring, sorted
+     */
+    public List<String> nodes() {
+        return nodes;
+    }
+
+    public boolean isEmpty() {
+        return nodes.isEmpty();
+    }
+
+    private static long[] nodePoints(String node) {
+        // 포트가 숫자로만 이루어진 경우에만 host와 port를 나눈다 (NginX와 동일)
+        String host = node;
+        String port = "";
+        int separator = node.lastIndexOf(':');
+        if (separator >= 0 && node.substring(separator + 1).chars().allMatch(Character::isDigit)) {
+            host = node.substring(0, separator);
+            port = node.substring(separator + 1);
+        }
+
+        byte[] baseBytes = concat(host, port);
+
+        long[] points = new long[POINTS_PER_NODE];
+        byte[] prev = new byte[4];
+        for (int i = 0; i < POINTS_PER_NODE; i++) {
+            CRC32 crc = new CRC32();
+            crc.update(baseBytes);
+            crc.update(prev);
+            long hash = crc.getValue();
+            points[i] = hash;
+            prev[0] = (byte) hash;
+            prev[1] = (byte) (hash >>> 8);
+            prev[2] = (byte) (hash >>> 16);
+            prev[3] = (byte) (hash >>> 24);
+        }
+        return points;
+    }
+
+    private static byte[] concat(String host, String port) {
+        byte[] hostBytes = host.getBytes(StandardCharsets.UTF_8);
+        byte[] portBytes = port.getBytes(StandardCharsets.UTF_8);
+        byte[] bytes = new byte[hostBytes.length + 1 + portBytes.length];
+        System.arraycopy(hostBytes, 0, bytes, 0, hostBytes.length);
+        System.arraycopy(portBytes, 0, bytes, hostBytes.length + 1, portBytes.length);
+        return bytes;
+    }
+
+    private static long crc32(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+}
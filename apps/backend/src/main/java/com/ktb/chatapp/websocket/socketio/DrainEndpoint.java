@@ -0,0 +1,33 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Socket.IO 노드 드레인 actuator endpoint
+ * GET /actuator/drain: 진행 상태, POST /actuator/drain: 드레인 시작 (비동기, 이미 진행 중이면 상태만 반환)
+ */
+@Component
+@Endpoint(id = "drain")
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class DrainEndpoint {
+
+    private final SocketIODrainer socketIODrainer;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return socketIODrainer.status();
+    }
+
+    @WriteOperation
+    public Map<String, Object> drain() {
+        socketIODrainer.drain();
+        return socketIODrainer.status();
+    }
+}
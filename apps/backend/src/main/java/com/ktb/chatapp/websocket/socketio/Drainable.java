@@ -0,0 +1,13 @@
+package com.ktb.chatapp.websocket.socketio;
+
+/**
+ * 노드 드레인 시 Socket.IO 서버를 멈추기 전에 비워야 하는 지연 전송 큐
+ * (짧은 윈도우 동안 모아 보내는 집계기/배처). SocketIODrainer가 클라이언트 재접속 안내가 끝난 뒤 호출한다.
+ */
+public interface Drainable {
+
+    /**
+     * Send everything queued so far without waiting for the next window
+     */
+    void drain();
+}
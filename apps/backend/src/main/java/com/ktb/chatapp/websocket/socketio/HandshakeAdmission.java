@@ -0,0 +1,236 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Socket.IO 핸드셰이크 admission control (노드별)
+ * 핸드셰이크는 JWT 검증, 세션 확인, 사용자 조회, 이전 방 재구독까지 동기로 수행하므로
+ * 배포 직후 재접속이 몰리면 Mongo/Redis에 부하가 집중된다. 인증 작업을 시작하기 전에 다음을 확인한다.
+ *
+ * - 새 연결은 token bucket(rate, burst)으로 초당 수락 수를 제한한다.
+ * - 동시에 처리 중인 핸드셰이크가 max-in-flight에 도달하면 bucket과 무관하게 거절한다. (대기열 없이 즉시 거절)
+ * - 재접속(resume) 핸드셰이크는 전용 bucket(resume-rate, resume-burst)을 먼저 쓰고, 부족하면 공용 bucket을 쓴다.
+ *   클라이언트가 보낸 resume 플래그는 호출자가 넘긴 확인 작업(Redis 조회 등)으로 검증하는데,
+ *   in-flight 슬롯을 얻은 뒤 전용 bucket에 토큰이 있을 때만 실행하므로 거절될 핸드셰이크는 I/O 없이 거절되고
+ *   동시에 실행되는 확인 작업 수도 max-in-flight를 넘지 않는다.
+ * - 거절 시 다음 토큰까지의 시간(최소 retry-after)에 retry-jitter 이내의 무작위 지연을 더해 알려
+ *   클라이언트 재시도가 한 시점에 몰리지 않게 한다.
+ * - 드레인 중(stopAdmitting 이후)에는 모든 핸드셰이크를 거절한다.
+ *
+ * Metrics:
+ * - socketio.handshakes{lane, result, reason}: admitted (reason=none) and rejected handshakes per lane (new, resume).
+ *   Rejection reasons are rate (token bucket empty), in_flight (max-in-flight reached) and draining.
+ *   Admissions are tagged with the verified lane, rejections with the lane the client claimed (shed before verifying).
+ *   There is no queue, so this replaces a queued count.
+ * - socketio.handshakes.in_flight: handshakes currently being authorized
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class HandshakeAdmission {
+
+    /**
+     * 재시도 힌트 상한 (rate가 0인 bucket 등 토큰이 채워지지 않는 경우)
+     */
+    private static final long MAX_WAIT_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private static final String LANE_NEW = "new";
+    private static final String LANE_RESUME = "resume";
+    private static final String REASON_NONE = "none";
+    private static final String REASON_RATE = "rate";
+    private static final String REASON_IN_FLIGHT = "in_flight";
+    private static final String REASON_DRAINING = "draining";
+
+    private final TokenBucket newBucket;
+    private final TokenBucket resumeBucket;
+    private final Semaphore inFlight;
+    private final Duration retryAfter;
+    private final Duration retryJitter;
+    private final int maxInFlight;
+    private volatile boolean admitting = true;
+
+    private final Map<String, Counter> handshakes = new HashMap<>();
+
+    public HandshakeAdmission(
+            MeterRegistry meterRegistry,
+            @Value("${socketio.admission.rate:200}") double rate,
+            @Value("${socketio.admission.burst:400}") int burst,
+            @Value("${socketio.admission.resume-rate:200}") double resumeRate,
+            @Value("${socketio.admission.resume-burst:400}") int resumeBurst,
+            @Value("${socketio.admission.max-in-flight:64}") int maxInFlight,
+            @Value("${socketio.admission.retry-after:1s}") Duration retryAfter,
+            @Value("${socketio.admission.retry-jitter:4s}") Duration retryJitter) {
+        long now = System.nanoTime();
+        this.newBucket = new TokenBucket(rate, burst, now);
+        this.resumeBucket = new TokenBucket(resumeRate, resumeBurst, now);
+        this.inFlight = new Semaphore(maxInFlight);
+        this.retryAfter = retryAfter;
+        this.retryJitter = retryJitter;
+        this.maxInFlight = maxInFlight;
+
+        for (String lane : List.of(LANE_NEW, LANE_RESUME)) {
+            registerCounter(meterRegistry, lane, "admitted", REASON_NONE);
+            for (String reason : List.of(REASON_RATE, REASON_IN_FLIGHT, REASON_DRAINING)) {
+                registerCounter(meterRegistry, lane, "rejected", reason);
+            }
+        }
+        Gauge.builder("socketio.handshakes.in_flight", this, HandshakeAdmission::inFlight)
+                .description("Socket.IO handshakes currently being authorized")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Try to admit a handshake. An admitted handshake must call {@link #release()} when it completes.
+     * The resume check runs only after an in-flight slot is taken and only while the resume lane has tokens,
+     * so shed handshakes do no I/O.
+     *
+     * @param claimsResume whether the client claims to be reconnecting an existing session
+     * @param verifyResume server-side check of the claim, used to pick the resume lane
+     * @return the admission decision, with a retry hint when rejected
+     */
+    public Admission admit(boolean claimsResume, BooleanSupplier verifyResume) {
+        if (!admitting) {
+            return reject(claimsResume, REASON_DRAINING, 0);
+        }
+        if (!inFlight.tryAcquire()) {
+            return reject(claimsResume, REASON_IN_FLIGHT, 0);
+        }
+        boolean resume;
+        try {
+            resume = claimsResume && resumeBucket.hasToken(System.nanoTime()) && verifyResume.getAsBoolean();
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+        long now = System.nanoTime();
+        boolean acquired = resume
+                ? resumeBucket.tryAcquire(now) || newBucket.tryAcquire(now)
+                : newBucket.tryAcquire(now);
+        if (!acquired) {
+            inFlight.release();
+            long waitNanos = resume
+                    ? Math.min(resumeBucket.nanosUntilToken(now), newBucket.nanosUntilToken(now))
+                    : newBucket.nanosUntilToken(now);
+            return reject(claimsResume, REASON_RATE, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+        }
+        count(resume, "admitted", REASON_NONE);
+        return Admission.ADMITTED;
+    }
+
+    /**
+     * Release the in-flight slot of an admitted handshake
+     */
+    public void release() {
+        inFlight.release();
+    }
+
+    /**
+     * Reject every handshake from now on (node drain)
+     */
+    public void stopAdmitting() {
+        admitting = false;
+    }
+
+    /**
+     * @return number of admitted handshakes still being authorized
+     */
+    public int inFlight() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    private Admission reject(boolean resume, String reason, long waitMillis) {
+        count(resume, "rejected", reason);
+        long retryAfterMillis = Math.max(retryAfter.toMillis(), Math.min(waitMillis, MAX_WAIT_MILLIS))
+                + ThreadLocalRandom.current().nextLong(retryJitter.toMillis() + 1);
+        log.debug("Socket.IO handshake rejected - resume: {}, reason: {}, retryAfter: {}ms",
+                resume, reason, retryAfterMillis);
+        return new Admission(false, retryAfterMillis);
+    }
+
+    private void count(boolean resume, String result, String reason) {
+        handshakes.get(counterKey(resume ? LANE_RESUME : LANE_NEW, result, reason)).increment();
+    }
+
+    private void registerCounter(MeterRegistry meterRegistry, String lane, String result, String reason) {
+        handshakes.put(counterKey(lane, result, reason), Counter.builder("socketio.handshakes")
+                .description("Socket.IO handshakes by admission result")
+                .tag("lane", lane)
+                .tag("result", result)
+                .tag("reason", reason)
+                .register(meterRegistry));
+    }
+
+    private static String counterKey(String lane, String result, String reason) {
+        return lane + ":" + result + ":" + reason;
+    }
+
+    /**
+     * 핸드셰이크 수락 여부
+     *
+     * @param admitted 수락 여부
+     * @param retryAfterMillis 거절 시 클라이언트가 다시 시도하기까지 기다릴 시간 (jitter 포함)
+     */
+    public record Admission(boolean admitted, long retryAfterMillis) {
+        static final Admission ADMITTED = new Admission(true, 0);
+    }
+
+    /**
+     * 초당 rate개씩 최대 capacity개까지 채워지는 token bucket
+     */
+    static final class TokenBucket {
+        private final double tokensPerNano;
+        private final double capacity;
+        private double tokens;
+        private long refilledAt;
+
+        TokenBucket(double perSecond, int capacity, long now) {
+            this.tokensPerNano = perSecond / TimeUnit.SECONDS.toNanos(1);
+            this.capacity = capacity;
+            this.tokens = capacity;
+            this.refilledAt = now;
+        }
+
+        synchronized boolean tryAcquire(long now) {
+            refill(now);
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+
+        synchronized boolean hasToken(long now) {
+            refill(now);
+            return tokens >= 1;
+        }
+
+        synchronized long nanosUntilToken(long now) {
+            refill(now);
+            if (tokens >= 1) {
+                return 0;
+            }
+            return tokensPerNano > 0 ? (long) Math.ceil((1 - tokens) / tokensPerNano) : Long.MAX_VALUE;
+        }
+
+        private void refill(long now) {
+            if (now > refilledAt) {
+                tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+                refilledAt = now;
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.handler.AuthorizeHandler;
+import com.corundumstudio.socketio.namespace.Namespace;
+import com.corundumstudio.socketio.namespace.NamespacesHub;
+import com.corundumstudio.socketio.protocol.JsonSupport;
+import com.corundumstudio.socketio.store.MemoryStore;
+import com.corundumstudio.socketio.store.RedissonStoreFactory;
+import com.corundumstudio.socketio.store.Store;
+import com.corundumstudio.socketio.store.pubsub.DispatchMessage;
+import com.corundumstudio.socketio.store.pubsub.PubSubType;
+import java.util.UUID;
+import org.redisson.api.RedissonClient;
+
+/**
+ * 클라이언트 속성은 노드 로컬 메모리에, pub/sub은 Redis에 두는 StoreFactory
+ *
+ * 소켓은 연결된 노드에서만 처리되므로 client.set/get("user")을 Redis 해시 연산으로 보낼 필요가 없다.
+ * 방 join/leave, 브로드캐스트 dispatch 등 노드 간 전파는 RedissonStoreFactory의 pub/sub을 그대로 사용한다.
+ * ShardedFanout이 주어지면 다른 노드에서 온 브로드캐스트(DISPATCH)도 pub/sub 수신 스레드에서 반복하지 않고
+ * 큰 방은 shard로 나눠 보낸다.
+ *
+ * RedissonStore는 세션 UUID별 해시를 만들고 연결 종료 후에도 지우지 않았지만,
+ * MemoryStore는 ClientHead와 함께 GC된다.
+ */
+public class NodeLocalStoreFactory extends RedissonStoreFactory {
+
+    private final ShardedFanout fanout;
+
+    public NodeLocalStoreFactory(RedissonClient redissonClient) {
+        this(redissonClient, null);
+    }
+
+    public NodeLocalStoreFactory(RedissonClient redissonClient, ShardedFanout fanout) {
+        super(redissonClient);
+        this.fanout = fanout;
+    }
+
+    @Override
+    public Store createStore(UUID sessionId) {
+        return new MemoryStore();
+    }
+
+    @Override
+    public void init(NamespacesHub namespacesHub, AuthorizeHandler authorizeHandler, JsonSupport jsonSupport) {
+        super.init(namespacesHub, authorizeHandler, jsonSupport);
+        if (fanout == null) {
+            return;
+        }
+        // 기본 DISPATCH 리스너(Namespace.dispatch)를 shard 전송으로 교체
+        pubSubStore().unsubscribe(PubSubType.DISPATCH);
+        pubSubStore().subscribe(PubSubType.DISPATCH, (DispatchMessage message) -> {
+            Namespace namespace = namespacesHub.get(message.getNamespace());
+            if (namespace != null) {
+                fanout.deliver(namespace.getRoomClients(message.getRoom()), message.getPacket());
+            }
+        }, DispatchMessage.class);
+    }
+}
@@ -0,0 +1,301 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.ktb.chatapp.websocket.socketio.handler.RoomLeaveHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 연결 끊김 유예 처리.
+ * 소켓이 끊겨도 바로 방에서 퇴장시키지 않고 유예 시간 동안 재접속을 기다린다.
+ * 유예 시간 내 재접속하면 퇴장 자체가 취소되므로 참여자 갱신, 시스템 메시지, 브로드캐스트가 발생하지 않는다.
+ *
+ * 동작:
+ * - 끊김: 끊김마다 새 토큰을 만들어 대기 중인 퇴장(presence:pending-leave, 토큰과 이름을 담은 Hash)과
+ *   만료 시각 sorted set(presence:deadlines, 멤버 "userId:토큰")에 기록하고 로컬 HashedWheelTimer에 만료 작업을 등록한다.
+ * - 재접속: 어느 노드에서든 대기 중인 퇴장과 해당 토큰의 만료 항목을 삭제하면 취소된다.
+ * - 만료: 로컬 타이머가 먼저 처리한다. 타이머를 등록한 노드가 사라진 경우에는 모든 노드가 sweep-interval마다
+ *   만료 시각이 sweep-interval 이상 지난 항목을 Lua 스크립트로 꺼내(ZRANGEBYSCORE + ZREM) 처리한다.
+ *   만료 처리는 토큰이 일치할 때만 대기 중인 퇴장을 삭제하므로(Lua 비교 후 삭제) 한 번만 처리되고,
+ *   다른 노드로 재접속한 뒤 다시 끊긴 경우 이전 노드에 남은 타이머나 이전 sweep 항목은 새 유예를 끊지 못한다.
+ *
+ * Redis keyspace notification 설정 없이 동작하며, 노드는 자기 prefix와 무관한 만료 이벤트를 받지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class PresenceTracker {
+
+    private static final String PENDING_KEY_PREFIX = "presence:pending-leave:";
+    private static final String DEADLINES_KEY = "presence:deadlines";
+
+    /**
+     * 만료 시각이 ARGV[1] 이하인 항목을 최대 ARGV[2]개 꺼내 삭제한다. 꺼낸 노드만 처리하므로 노드 간 중복이 없다.
+     */
+    private static final String CLAIM_EXPIRED_SCRIPT = """
+            local users = redis.call('zrangebyscore', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+            if #users > 0 then
+                redis.call('zrem', KEYS[1], unpack(users))
+            end
+            return users
+            """;
+    private static final int SWEEP_BATCH = 100;
+
+    /**
+     * KEYS: 대기 중인 퇴장, 만료 시각 / ARGV: userId, 토큰, 이름, TTL(ms), 만료 시각(ms)
+     * 이전 끊김의 만료 항목을 지우고 새 토큰으로 교체한다.
+     */
+    private static final String SCHEDULE_SCRIPT = """
+            local previous = redis.call('hget', KEYS[1], 'token')
+            if previous then
+                redis.call('zrem', KEYS[2], ARGV[1] .. ':' .. previous)
+            end
+            redis.call('hset', KEYS[1], 'token', ARGV[2], 'name', ARGV[3])
+            redis.call('pexpire', KEYS[1], ARGV[4])
+            redis.call('zadd', KEYS[2], ARGV[5], ARGV[1] .. ':' .. ARGV[2])
+            return 1
+            """;
+
+    /**
+     * KEYS: 대기 중인 퇴장, 만료 시각 / ARGV: userId
+     */
+    private static final String CANCEL_SCRIPT = """
+            local token = redis.call('hget', KEYS[1], 'token')
+            if not token then
+                return 0
+            end
+            redis.call('del', KEYS[1])
+            redis.call('zrem', KEYS[2], ARGV[1] .. ':' .. token)
+            return 1
+            """;
+
+    /**
+     * KEYS: 대기 중인 퇴장, 만료 시각 / ARGV: userId, 토큰
+     * 토큰이 일치할 때만 대기 중인 퇴장을 삭제하고 이름을 반환한다. 일치하지 않으면 nil.
+     */
+    private static final String EXPIRE_SCRIPT = """
+            redis.call('zrem', KEYS[2], ARGV[1] .. ':' .. ARGV[2])
+            if redis.call('hget', KEYS[1], 'token') ~= ARGV[2] then
+                return false
+            end
+            local name = redis.call('hget', KEYS[1], 'name')
+            redis.call('del', KEYS[1])
+            return name
+            """;
+
+    /**
+     * sweep이 늦게 처리하더라도 대기 중인 퇴장 정보가 남아 있도록 두는 여유 시간
+     */
+    private static final Duration PENDING_TTL_MARGIN = Duration.ofMinutes(1);
+
+    private final RedissonClient redissonClient;
+    private final UserRooms userRooms;
+    private final RoomLeaveHandler roomLeaveHandler;
+    private final ExecutorService socketIOTaskExecutor;
+    private final Duration gracePeriod;
+    private final Duration sweepInterval;
+
+    private final HashedWheelTimer timer = new HashedWheelTimer(100, TimeUnit.MILLISECONDS);
+    private final Map<String, Timeout> pendingTimeouts = new ConcurrentHashMap<>();
+    private final Counter suppressedLeaves;
+    private final Counter processedLeaves;
+    private final ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "presence-sweep");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PresenceTracker(
+            RedissonClient redissonClient,
+            UserRooms userRooms,
+            RoomLeaveHandler roomLeaveHandler,
+            ExecutorService socketIOTaskExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${socketio.reconnect.grace-period:30s}") Duration gracePeriod,
+            @Value("${socketio.reconnect.sweep-interval:5s}") Duration sweepInterval) {
+        this.redissonClient = redissonClient;
+        this.userRooms = userRooms;
+        this.roomLeaveHandler = roomLeaveHandler;
+        this.socketIOTaskExecutor = socketIOTaskExecutor;
+        this.gracePeriod = gracePeriod;
+        this.sweepInterval = sweepInterval;
+
+        this.suppressedLeaves = leaveCounter(meterRegistry, "suppressed");
+        this.processedLeaves = leaveCounter(meterRegistry, "processed");
+        Gauge.builder("socketio.presence.pending", pendingTimeouts::size)
+                .description("Disconnected users waiting for the reconnect grace period on this node")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void startSweep() {
+        if (gracePeriod.isZero()) {
+            return;
+        }
+        sweeper.scheduleWithFixedDelay(this::sweep, sweepInterval.toMillis(), sweepInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sweeper.shutdown();
+        // 처리되지 않은 퇴장은 presence:deadlines sweep으로 다른 노드가 이어받는다
+        timer.stop();
+    }
+
+    /**
+     * Defer room leave processing for a disconnected user
+     *
+     * @param user the socket user that disconnected
+     */
+    public void scheduleLeave(SocketUser user) {
+        if (gracePeriod.isZero()) {
+            leaveAllRooms(user);
+            return;
+        }
+
+        String token = UUID.randomUUID().toString();
+        eval(SCHEDULE_SCRIPT, RScript.ReturnType.INTEGER, user.id(),
+                user.id(), token, Objects.toString(user.name(), ""),
+                String.valueOf(gracePeriod.plus(PENDING_TTL_MARGIN).toMillis()),
+                String.valueOf(System.currentTimeMillis() + gracePeriod.toMillis()));
+
+        Timeout timeout = timer.newTimeout(
+                t -> socketIOTaskExecutor.execute(() -> expire(user.id(), token)),
+                gracePeriod.toMillis(), TimeUnit.MILLISECONDS);
+        Timeout previous = pendingTimeouts.put(user.id(), timeout);
+        if (previous != null) {
+            previous.cancel();
+        }
+
+        log.debug("Leave deferred for user {} ({})", user.id(), gracePeriod);
+    }
+
+    /**
+     * Cancel a deferred leave when the user reconnects
+     *
+     * @param userId the user ID
+     * @return true if a deferred leave was pending and has been suppressed
+     */
+    public boolean cancelLeave(String userId) {
+        Timeout timeout = pendingTimeouts.remove(userId);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+
+        Long cancelled = eval(CANCEL_SCRIPT, RScript.ReturnType.INTEGER, userId, userId);
+        if (cancelled == null || cancelled == 0) {
+            return false;
+        }
+
+        suppressedLeaves.increment();
+        log.debug("Deferred leave suppressed for user {}", userId);
+        return true;
+    }
+
+    /**
+     * Check whether the user disconnected recently and has a deferred leave pending
+     *
+     * @param userId the user ID
+     * @return true if the user is within the reconnect grace period
+     */
+    public boolean hasPendingLeave(String userId) {
+        return redissonClient.getKeys().countExists(pendingKey(userId)) > 0;
+    }
+
+    /**
+     * 타이머를 등록한 노드가 사라져 처리되지 않은 퇴장을 이어받는다.
+     * 로컬 타이머가 먼저 처리하도록 만료 후 sweep-interval이 지난 항목만 가져온다.
+     */
+    void sweep() {
+        try {
+            List<String> entries;
+            do {
+                long cutoff = System.currentTimeMillis() - sweepInterval.toMillis();
+                entries = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                        RScript.Mode.READ_WRITE, CLAIM_EXPIRED_SCRIPT, RScript.ReturnType.MULTI,
+                        List.of(DEADLINES_KEY), String.valueOf(cutoff), String.valueOf(SWEEP_BATCH));
+                for (String entry : entries) {
+                    int separator = entry.lastIndexOf(':');
+                    if (separator < 0) {
+                        // 토큰 없는 이전 형식 항목. 대응하는 대기 중인 퇴장이 없으므로 버린다
+                        continue;
+                    }
+                    String userId = entry.substring(0, separator);
+                    String token = entry.substring(separator + 1);
+                    socketIOTaskExecutor.execute(() -> expire(userId, token));
+                }
+            } while (entries.size() == SWEEP_BATCH);
+        } catch (Exception e) {
+            log.warn("Failed to sweep expired presence deadlines", e);
+        }
+    }
+
+    private void expire(String userId, String token) {
+        Timeout timeout = pendingTimeouts.get(userId);
+        // 실행된 타이머만 정리한다. 같은 노드에서 다시 끊겨 등록된 새 타이머는 남겨 둔다
+        if (timeout != null && timeout.isExpired()) {
+            pendingTimeouts.remove(userId, timeout);
+        }
+        try {
+            String name = eval(EXPIRE_SCRIPT, RScript.ReturnType.VALUE, userId, userId, token);
+            if (name == null) {
+                // 재접속했거나, 다시 끊겨 새 토큰으로 교체됐거나, 다른 노드가 이미 처리함
+                return;
+            }
+            leaveAllRooms(new SocketUser(userId, name, null, null));
+        } catch (Exception e) {
+            log.error("Error processing deferred leave for user {}", userId, e);
+        }
+    }
+
+    private void leaveAllRooms(SocketUser user) {
+        for (String roomId : userRooms.get(user.id())) {
+            // 한 방의 퇴장이 실패해도 나머지 방은 퇴장시킨다
+            try {
+                roomLeaveHandler.leave(user.id(), user.name(), roomId);
+            } catch (Exception e) {
+                log.error("Error processing deferred leave - userId: {}, roomId: {}", user.id(), roomId, e);
+            }
+        }
+        processedLeaves.increment();
+        log.debug("Deferred leave processed for user {}", user.id());
+    }
+
+    private <T> T eval(String script, RScript.ReturnType returnType, String userId, Object... args) {
+        return redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE, script, returnType, List.of(pendingKey(userId), DEADLINES_KEY), args);
+    }
+
+    private static String pendingKey(String userId) {
+        return PENDING_KEY_PREFIX + userId;
+    }
+
+    private static Counter leaveCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("socketio.presence.leaves")
+                .description("Disconnect leaves by outcome after the reconnect grace period")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -8,6 +8,7 @@ import org.redisson.api.LocalCachedMapOptions.ReconnectionStrategy;
 import org.redisson.api.LocalCachedMapOptions.SyncStrategy;
 import org.redisson.api.RMap;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
 
 /**
  * Redis-backed implementation of ChatDataStore using Redisson's Local Cache
@@ -25,7 +26,7 @@ public class RedisChatDataStore implements ChatDataStore {
 
     private final RMap<String, Object> storage;
 
-    public RedisChatDataStore(RedissonClient redissonClient) {
+    public RedisChatDataStore(RedissonClient redissonClient, Codec codec) {
         // Configure Local Cache options for "Near Cache" pattern
         LocalCachedMapOptions<String, Object> options = LocalCachedMapOptions.<String, Object>defaults()
                 // Eviction Policy: LRU (Least Recently Used) to prevent memory explosion
@@ -38,7 +39,7 @@ public class RedisChatDataStore implements ChatDataStore {
                 .reconnectionStrategy(ReconnectionStrategy.CLEAR);
 
         // "chat:store" is the Redis key for the Hash
-        this.storage = redissonClient.getMap("chat:store", options);
+        this.storage = redissonClient.getMap("chat:store", codec, options);
 
         log.info("RedisChatDataStore initialized with Near Cache (Size: 10000, Policy: LRU)");
     }
@@ -0,0 +1,189 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.ROOM_AFFINITY;
+
+/**
+ * 방 affinity 라우팅
+ * 같은 방 참여자가 같은 노드에 모이면 방 브로드캐스트가 Redis pub/sub을 거치지 않고 로컬에서 끝난다.
+ *
+ * - 노드 등록: 각 노드는 NginX upstream 항목과 같은 주소(host:port)를 Redis sorted set(socketio:nodes)에
+ *   heartbeat 시각을 score로 기록한다. ttl 안에 heartbeat가 없는 노드는 ring에서 빠진다.
+ * - ring: 살아 있는 노드로 NginX `hash $arg_room consistent`와 같은 ConsistentHashRing을 만든다.
+ * - 힌트: 방 입장 시 방 소유 노드가 이 노드가 아니면 roomAffinity { roomId, local: false }를 보낸다.
+ *   클라이언트는 socket.io query에 room=roomId를 넣고 재접속하며, NginX가 소유 노드로 연결한다.
+ *   노드 주소는 내부 주소이므로 클라이언트에 보내지 않는다.
+ * - 드레인 중인 노드는 leave()로 바로 빠지며, NginX는 연결이 거절되면 ring의 다음 노드로 재시도하므로 결과가 같다.
+ * - node-address가 NginX 항목과 다르면 ring이 어긋나 입장마다 재접속이 일어나므로,
+ *   주소를 명시하지 않으면(SOCKETIO_NODE_ADDRESS) 등록하지 않고 힌트도 보내지 않는다.
+ *
+ * Metrics:
+ * - socketio.affinity.joins{placement}: room joins on the owning node (local) or elsewhere (remote)
+ * - socketio.affinity.nodes: nodes on the ring
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class RoomAffinity {
+
+    private static final String NODES_KEY = "socketio:nodes";
+
+    private final RScoredSortedSet<String> registry;
+    private final boolean enabled;
+    private final String self;
+    private final Duration heartbeat;
+    private final Duration ttl;
+
+    private final Counter localJoins;
+    private final Counter remoteJoins;
+    private volatile ConsistentHashRing ring = new ConsistentHashRing(List.of());
+    private volatile boolean registered;
+    private ScheduledExecutorService scheduler;
+
+    public RoomAffinity(
+            RedissonClient redissonClient,
+            MeterRegistry meterRegistry,
+            @Value("${socketio.affinity.enabled:false}") boolean enabled,
+            @Value("${socketio.affinity.node-address:}") String nodeAddress,
+            @Value("${socketio.affinity.heartbeat:5s}") Duration heartbeat,
+            @Value("${socketio.affinity.ttl:15s}") Duration ttl) {
+        this.registry = redissonClient.getScoredSortedSet(NODES_KEY, StringCodec.INSTANCE);
+        this.enabled = enabled && !nodeAddress.isBlank();
+        this.self = nodeAddress;
+        if (enabled && !this.enabled) {
+            log.warn("Room affinity disabled - socketio.affinity.node-address is not set");
+        }
+        this.heartbeat = heartbeat;
+        this.ttl = ttl;
+
+        this.localJoins = joinCounter(meterRegistry, "local");
+        this.remoteJoins = joinCounter(meterRegistry, "remote");
+        Gauge.builder("socketio.affinity.nodes", this, affinity -> affinity.ring.nodes().size())
+                .description("Socket.IO nodes on the room affinity ring")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        registered = true;
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "room-affinity");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::refresh, 0, heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Room affinity registered - node: {}", self);
+    }
+
+    @PreDestroy
+    void stop() {
+        leave();
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Remove this node from the ring, e.g. when it starts draining
+     */
+    public void leave() {
+        if (!registered) {
+            return;
+        }
+        registered = false;
+        try {
+            registry.remove(self);
+        } catch (Exception e) {
+            log.warn("Failed to leave room affinity registry - node: {}", self, e);
+        }
+    }
+
+    /**
+     * Tell the client whether the room it just joined is owned by another node
+     *
+     * @param client the joining client
+     * @param roomId the joined room
+     */
+    public void hint(SocketIOClient client, String roomId) {
+        String owner = ownerOf(roomId);
+        if (owner == null) {
+            return;
+        }
+        boolean local = owner.equals(self);
+        (local ? localJoins : remoteJoins).increment();
+        if (!local) {
+            client.sendEvent(ROOM_AFFINITY, Map.of("roomId", roomId, "local", false));
+        }
+    }
+
+    /**
+     * @param roomId the room
+     * @return address of the node owning the room, or null if affinity is disabled or no node is registered
+     */
+    public String ownerOf(String roomId) {
+        return enabled ? ring.nodeFor(roomId) : null;
+    }
+
+    /**
+     * @return this node's address as listed in the NginX upstream
+     */
+    public String self() {
+        return self;
+    }
+
+    /**
+     * @return live nodes on the ring
+     */
+    public List<String> nodes() {
+        return ring.nodes();
+    }
+
+    void refresh() {
+        try {
+            long now = System.currentTimeMillis();
+            long expiredBefore = now - ttl.toMillis();
+            if (registered) {
+                registry.add(now, self);
+            }
+            registry.removeRangeByScore(Double.NEGATIVE_INFINITY, true, expiredBefore, false);
+            List<String> nodes = registry.valueRange(expiredBefore, true, Double.POSITIVE_INFINITY, true).stream()
+                    .sorted()
+                    .toList();
+            if (!nodes.equals(ring.nodes())) {
+                ring = new ConsistentHashRing(nodes);
+                log.info("Room affinity ring updated - nodes: {}", ring.nodes());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to refresh room affinity ring", e);
+        }
+    }
+
+    private static Counter joinCounter(MeterRegistry meterRegistry, String placement) {
+        return Counter.builder("socketio.affinity.joins")
+                .description("Room joins by placement relative to the room's owning node")
+                .tag("placement", placement)
+                .register(meterRegistry);
+    }
+}
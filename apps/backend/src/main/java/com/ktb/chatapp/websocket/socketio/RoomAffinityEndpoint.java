@@ -0,0 +1,40 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 방 affinity ring 조회 actuator endpoint
+ * GET /actuator/affinity: 이 노드 주소와 ring의 노드 목록, GET /actuator/affinity/{roomId}: 방 소유 노드
+ * 내부 노드 주소가 노출되므로 기본은 비활성화(management.endpoint.affinity.access=none)이며 관리망에서만 켠다.
+ */
+@Component
+@Endpoint(id = "affinity")
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RoomAffinityEndpoint {
+
+    private final RoomAffinity roomAffinity;
+
+    @ReadOperation
+    public Map<String, Object> ring() {
+        Map<String, Object> ring = new LinkedHashMap<>();
+        ring.put("self", roomAffinity.self());
+        ring.put("nodes", roomAffinity.nodes());
+        return ring;
+    }
+
+    @ReadOperation
+    public Map<String, Object> owner(@Selector String roomId) {
+        Map<String, Object> owner = new LinkedHashMap<>();
+        owner.put("roomId", roomId);
+        owner.put("owner", roomAffinity.ownerOf(roomId));
+        return owner;
+    }
+}
@@ -0,0 +1,228 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.ktb.chatapp.codec.CompactRedissonCodec;
+import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.repository.RoomRepository;
+import com.ktb.chatapp.repository.UserRepository;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RMap;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.protocol.Encoder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 방별 참가자 스냅샷 캐시.
+ * 방마다 Redis Hash(userId → UserResponse) 하나를 두고 입장/퇴장 시 필드 단위로 갱신하므로
+ * 입장/퇴장 비용이 참가자 수와 무관하다. 스냅샷이 없으면 Room.participantIds 기준으로 일괄 적재한다.
+ *
+ * 동시성:
+ * - 입장/퇴장은 MongoDB 갱신 후 Lua 스크립트 하나로 방별 버전 키를 올리고 스냅샷을 갱신한다.
+ *   입장은 스냅샷이 있을 때만 필드를 추가하므로 만료 직후 참가자 한 명짜리 스냅샷이 생기지 않는다.
+ * - 적재는 MongoDB 조회 전에 버전을 읽고, 버전이 그대로이고 스냅샷이 없을 때만 기록한다.
+ *   조회 중 입장/퇴장이 있었다면 기록하지 않으므로 퇴장한 사용자가 스냅샷에 되살아나지 않는다.
+ * - 모든 쓰기는 스냅샷 TTL을 갱신한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RoomParticipants {
+
+    // 스냅샷과 버전 키가 같은 slot에 있도록 방 ID를 hash tag로 감싼다
+    private static final String ROOM_PARTICIPANTS_KEY_PREFIX = "room:participants:{";
+    private static final String VERSION_KEY_SUFFIX = "}:version";
+
+    /**
+     * 스냅샷 최대 유지 시간. 프로필 변경 등 누락된 갱신은 만료 후 재적재로 보정된다.
+     */
+    private static final Duration SNAPSHOT_TTL = Duration.ofMinutes(30);
+
+    /**
+     * KEYS: 스냅샷, 버전 / ARGV: TTL(ms), userId, UserResponse
+     * 스냅샷이 없으면 0을 반환하며 호출자가 MongoDB에서 적재한다.
+     */
+    private static final String ADD_SCRIPT = """
+            redis.call('incr', KEYS[2])
+            redis.call('pexpire', KEYS[2], ARGV[1])
+            if redis.call('exists', KEYS[1]) == 0 then
+                return 0
+            end
+            redis.call('hset', KEYS[1], ARGV[2], ARGV[3])
+            redis.call('pexpire', KEYS[1], ARGV[1])
+            return 1
+            """;
+
+    /**
+     * KEYS: 스냅샷, 버전 / ARGV: TTL(ms), userId (없으면 스냅샷 전체 삭제)
+     */
+    private static final String REMOVE_SCRIPT = """
+            redis.call('incr', KEYS[2])
+            redis.call('pexpire', KEYS[2], ARGV[1])
+            if #ARGV < 2 then
+                return redis.call('del', KEYS[1])
+            end
+            redis.call('hdel', KEYS[1], ARGV[2])
+            redis.call('pexpire', KEYS[1], ARGV[1])
+            return 1
+            """;
+
+    /**
+     * KEYS: 스냅샷, 버전 / ARGV: 적재 전에 읽은 버전, TTL(ms), userId, UserResponse, ...
+     */
+    private static final String LOAD_SCRIPT = """
+            if (redis.call('get', KEYS[2]) or '0') ~= ARGV[1] or redis.call('exists', KEYS[1]) == 1 then
+                return 0
+            end
+            for i = 3, #ARGV, 2 do
+                redis.call('hset', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('pexpire', KEYS[1], ARGV[2])
+            return 1
+            """;
+
+    private final RedissonClient redissonClient;
+    private final CompactRedissonCodec redissonValueCodec;
+    private final RoomRepository roomRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * Get the participant snapshot of a room
+     *
+     * @param roomId the room ID
+     * @return participants of the room, loaded from MongoDB if no snapshot exists
+     */
+    public List<UserResponse> get(String roomId) {
+        Collection<UserResponse> participants = snapshot(roomId).readAllValues();
+        if (participants.isEmpty()) {
+            participants = load(roomId).values();
+        }
+        return List.copyOf(participants);
+    }
+
+    /**
+     * Add a participant to the room snapshot
+     *
+     * @param room the room returned after the participant was added
+     * @param participant the participant who joined
+     * @return participants of the room including the new participant
+     */
+    public List<UserResponse> add(Room room, UserResponse participant) {
+        boolean added = eval(ADD_SCRIPT, room.getId(),
+                ttlArg(), encode(redissonValueCodec.getMapKeyEncoder(), participant.getId()),
+                encode(redissonValueCodec.getMapValueEncoder(), participant));
+        if (added) {
+            List<UserResponse> participants = List.copyOf(snapshot(room.getId()).readAllValues());
+            if (!participants.isEmpty()) {
+                return participants;
+            }
+        }
+        // 스냅샷이 없으면 버전을 읽은 뒤 MongoDB에서 다시 적재한다 (room은 버전을 읽기 전의 상태일 수 있다)
+        return List.copyOf(load(room.getId()).values());
+    }
+
+    /**
+     * Remove a participant from the room snapshot
+     *
+     * @param roomId the room ID
+     * @param userId the user ID who left
+     */
+    public void remove(String roomId, String userId) {
+        eval(REMOVE_SCRIPT, roomId, ttlArg(), encode(redissonValueCodec.getMapKeyEncoder(), userId));
+    }
+
+    /**
+     * Drop the snapshot so that the next read reloads it from MongoDB
+     *
+     * @param roomId the room ID
+     */
+    public void evict(String roomId) {
+        eval(REMOVE_SCRIPT, roomId, ttlArg());
+    }
+
+    private Map<String, UserResponse> load(String roomId) {
+        long version = redissonClient.getAtomicLong(versionKey(roomId)).get();
+        Room room = roomRepository.findById(roomId).orElse(null);
+        if (room == null || room.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, UserResponse> participants = userRepository.findAllById(room.getParticipantIds())
+                .stream()
+                .map(UserResponse::from)
+                .collect(Collectors.toMap(UserResponse::getId, Function.identity(), (a, b) -> a));
+
+        if (!participants.isEmpty()) {
+            List<Object> args = new ArrayList<>(participants.size() * 2 + 2);
+            args.add(String.valueOf(version).getBytes(StandardCharsets.UTF_8));
+            args.add(ttlArg());
+            participants.forEach((userId, participant) -> {
+                args.add(encode(redissonValueCodec.getMapKeyEncoder(), userId));
+                args.add(encode(redissonValueCodec.getMapValueEncoder(), participant));
+            });
+            if (!eval(LOAD_SCRIPT, roomId, args.toArray())) {
+                // 조회 중 입장/퇴장이 있었거나 다른 요청이 먼저 적재함. 조회 결과는 호출자에게만 반환한다.
+                log.debug("Participant snapshot load skipped - roomId: {}", roomId);
+            }
+        }
+
+        log.debug("Participant snapshot loaded - roomId: {}, count: {}", roomId, participants.size());
+        return participants;
+    }
+
+    private boolean eval(String script, String roomId, Object... args) {
+        Long result = redissonClient.getScript(ByteArrayCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE, script, RScript.ReturnType.INTEGER,
+                List.of(buildKey(roomId), versionKey(roomId)), args);
+        return result != null && result > 0;
+    }
+
+    private static byte[] ttlArg() {
+        return String.valueOf(SNAPSHOT_TTL.toMillis()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * RMap과 같은 형식으로 저장되도록 스냅샷 코덱으로 직접 인코딩한다
+     */
+    private static byte[] encode(Encoder encoder, Object value) {
+        ByteBuf buf = null;
+        try {
+            buf = encoder.encode(value);
+            return ByteBufUtil.getBytes(buf);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (buf != null) {
+                buf.release();
+            }
+        }
+    }
+
+    private RMap<String, UserResponse> snapshot(String roomId) {
+        return redissonClient.getMap(buildKey(roomId), redissonValueCodec);
+    }
+
+    private String buildKey(String roomId) {
+        return ROOM_PARTICIPANTS_KEY_PREFIX + roomId + "}";
+    }
+
+    private String versionKey(String roomId) {
+        return ROOM_PARTICIPANTS_KEY_PREFIX + roomId + VERSION_KEY_SUFFIX;
+    }
+}
@@ -0,0 +1,197 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.protocol.Packet;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 큰 방 브로드캐스트의 노드 내 분산 전송
+ * 기본 BroadcastOperations는 호출 스레드에서 모든 참여자에게 client.send를 반복하므로(채널마다 write 작업 예약),
+ * 참여자가 수천 명인 방은 메시지 배치 스케줄러나 pub/sub 수신 스레드를 전송 내내 붙잡는다.
+ *
+ * - 노드에 있는 참여자가 shard-threshold 이상이면 세션 ID로 lane을 정해 참여자를 shard로 나누고,
+ *   lane마다 단일 스레드 executor에서 병렬로 보낸다. 같은 클라이언트는 항상 같은 lane을 쓴다.
+ * - 미만이면 기존처럼 호출 스레드에서 바로 보낸다. 단, lane에 아직 보내지 않은 shard가 남아 있으면
+ *   먼저 발행된 메시지를 앞지르지 않도록 작은 방도 lane을 거친다. (방 인원이 threshold 아래로 줄어든 직후 등)
+ *   따라서 어느 경로든 클라이언트별 수신 순서는 발행 순서와 같다.
+ * - 패킷은 한 번 만들어 모든 shard가 공유하며, 병렬 shard가 같은 패킷을 수정하지 않도록
+ *   engine.io 버전은 보내기 전에 한 번만 정한다. (프론트엔드는 socket.io-client v4만 사용)
+ *
+ * 노드 간 전달은 브로드캐스트마다 Redis pub/sub 메시지 하나이며, 수신 노드도 같은 방식으로 나눠 보낸다.
+ * (ShardedRoomOperations, NodeLocalStoreFactory)
+ *
+ * Metrics:
+ * - socketio.fanout.broadcasts{mode}: broadcasts sent inline or through the lanes
+ * - socketio.fanout.shard.time: time to deliver one shard
+ * - socketio.fanout.queued: shards waiting in lanes
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class ShardedFanout {
+
+    private static final CompletableFuture<Void> DELIVERED = CompletableFuture.completedFuture(null);
+
+    private final int shardThreshold;
+    private final ThreadPoolExecutor[] lanes;
+    // lane에 넘겼지만 아직 전송이 끝나지 않은 shard 수
+    private final AtomicInteger pendingShards = new AtomicInteger();
+
+    private final Counter inlineBroadcasts;
+    private final Counter shardedBroadcasts;
+    private final Timer shardTime;
+
+    public ShardedFanout(
+            MeterRegistry meterRegistry,
+            @Value("${socketio.fanout.lanes:4}") int lanes,
+            @Value("${socketio.fanout.shard-threshold:500}") int shardThreshold) {
+        this.shardThreshold = shardThreshold;
+        this.lanes = new ThreadPoolExecutor[Math.max(1, lanes)];
+        for (int i = 0; i < this.lanes.length; i++) {
+            String name = "room-fanout-" + (i + 1);
+            this.lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, name);
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+        }
+
+        this.inlineBroadcasts = broadcastCounter(meterRegistry, "inline");
+        this.shardedBroadcasts = broadcastCounter(meterRegistry, "sharded");
+        this.shardTime = Timer.builder("socketio.fanout.shard.time")
+                .description("Time to deliver one shard of a large room broadcast")
+                .register(meterRegistry);
+        Gauge.builder("socketio.fanout.queued", this, ShardedFanout::queued)
+                .description("Room broadcast shards waiting to be delivered")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+    }
+
+    /**
+     * Deliver a packet to the given clients on this node, splitting large rooms into shards
+     *
+     * @param clients room members connected to this node
+     * @param packet the packet to deliver
+     * @return completes once every shard has been handed to its clients
+     */
+    public CompletableFuture<Void> deliver(Iterable<SocketIOClient> clients, Packet packet) {
+        List<SocketIOClient> members = new ArrayList<>();
+        clients.forEach(members::add);
+
+        if (members.isEmpty()) {
+            inlineBroadcasts.increment();
+            return DELIVERED;
+        }
+        if (members.size() < shardThreshold && pendingShards.get() == 0) {
+            for (SocketIOClient client : members) {
+                packet.setEngineIOVersion(client.getEngineIOVersion());
+                client.send(packet);
+            }
+            inlineBroadcasts.increment();
+            return DELIVERED;
+        }
+
+        packet.setEngineIOVersion(members.getFirst().getEngineIOVersion());
+        List<List<SocketIOClient>> shards = new ArrayList<>(lanes.length);
+        for (int i = 0; i < lanes.length; i++) {
+            shards.add(new ArrayList<>(members.size() / lanes.length + 1));
+        }
+        for (SocketIOClient client : members) {
+            shards.get(Math.floorMod(client.getSessionId().hashCode(), lanes.length)).add(client);
+        }
+
+        List<CompletableFuture<Void>> deliveries = new ArrayList<>(lanes.length);
+        for (int i = 0; i < lanes.length; i++) {
+            List<SocketIOClient> shard = shards.get(i);
+            if (shard.isEmpty()) {
+                continue;
+            }
+            pendingShards.incrementAndGet();
+            try {
+                deliveries.add(CompletableFuture.runAsync(() -> deliverShard(shard, packet), lanes[i]));
+            } catch (RejectedExecutionException e) {
+                // 종료 중에는 호출 스레드에서 보낸다
+                deliverShard(shard, packet);
+            }
+        }
+        shardedBroadcasts.increment();
+        return CompletableFuture.allOf(deliveries.toArray(CompletableFuture[]::new));
+    }
+
+    private void deliverShard(List<SocketIOClient> shard, Packet packet) {
+        long start = System.nanoTime();
+        try {
+            for (SocketIOClient client : shard) {
+                try {
+                    client.send(packet);
+                } catch (Exception e) {
+                    log.warn("Failed to deliver room broadcast - sessionId: {}", client.getSessionId(), e);
+                }
+            }
+        } finally {
+            pendingShards.decrementAndGet();
+            shardTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Wait until every shard queued so far has been delivered
+     *
+     * @param timeout maximum time to wait
+     * @return true if all lanes caught up in time
+     */
+    public boolean awaitIdle(Duration timeout) throws InterruptedException {
+        try {
+            CompletableFuture.allOf(Arrays.stream(lanes)
+                            .map(lane -> CompletableFuture.runAsync(() -> { }, lane))
+                            .toArray(CompletableFuture[]::new))
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException | ExecutionException | RejectedExecutionException e) {
+            // 시간 안에 끝나지 않았거나 이미 종료된 lane
+            return false;
+        }
+    }
+
+    private int queued() {
+        int queued = 0;
+        for (ThreadPoolExecutor lane : lanes) {
+            queued += lane.getQueue().size();
+        }
+        return queued;
+    }
+
+    private static Counter broadcastCounter(MeterRegistry meterRegistry, String mode) {
+        return Counter.builder("socketio.fanout.broadcasts")
+                .description("Room broadcasts by delivery mode on this node")
+                .tag("mode", mode)
+                .register(meterRegistry);
+    }
+}
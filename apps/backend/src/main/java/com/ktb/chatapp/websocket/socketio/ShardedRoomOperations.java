@@ -0,0 +1,38 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.SingleRoomBroadcastOperations;
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.protocol.Packet;
+import com.corundumstudio.socketio.store.StoreFactory;
+import com.corundumstudio.socketio.store.pubsub.DispatchMessage;
+import com.corundumstudio.socketio.store.pubsub.PubSubType;
+
+/**
+ * 노드 내 전송을 ShardedFanout에 맡기는 방 BroadcastOperations
+ * 다른 노드에는 기존과 같이 브로드캐스트마다 DISPATCH 메시지 하나만 보낸다.
+ * 특정 클라이언트 제외, ack 콜백 등 나머지 전송은 SingleRoomBroadcastOperations를 그대로 사용한다.
+ */
+public class ShardedRoomOperations extends SingleRoomBroadcastOperations {
+
+    private final String namespace;
+    private final String room;
+    private final Iterable<SocketIOClient> clients;
+    private final StoreFactory storeFactory;
+    private final ShardedFanout fanout;
+
+    public ShardedRoomOperations(String namespace, String room, Iterable<SocketIOClient> clients,
+                                 StoreFactory storeFactory, ShardedFanout fanout) {
+        super(namespace, room, clients, storeFactory);
+        this.namespace = namespace;
+        this.room = room;
+        this.clients = clients;
+        this.storeFactory = storeFactory;
+        this.fanout = fanout;
+    }
+
+    @Override
+    public void send(Packet packet) {
+        fanout.deliver(clients, packet);
+        storeFactory.pubSubStore().publish(PubSubType.DISPATCH, new DispatchMessage(room, packet, namespace));
+    }
+}
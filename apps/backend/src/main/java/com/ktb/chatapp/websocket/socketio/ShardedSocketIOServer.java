@@ -0,0 +1,30 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.BroadcastOperations;
+import com.corundumstudio.socketio.Configuration;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.corundumstudio.socketio.namespace.Namespace;
+
+/**
+ * 단일 방 브로드캐스트를 ShardedRoomOperations로 보내는 SocketIOServer
+ * 기존 getRoomOperations(roomId).sendEvent 호출부는 그대로 두고 큰 방만 shard로 나눠 보낸다.
+ */
+public class ShardedSocketIOServer extends SocketIOServer {
+
+    private final ShardedFanout fanout;
+
+    public ShardedSocketIOServer(Configuration configuration, ShardedFanout fanout) {
+        super(configuration);
+        this.fanout = fanout;
+    }
+
+    @Override
+    public BroadcastOperations getRoomOperations(String... rooms) {
+        if (rooms.length != 1 || !(getNamespace(Namespace.DEFAULT_NAME) instanceof Namespace namespace)) {
+            return super.getRoomOperations(rooms);
+        }
+        String room = rooms[0];
+        return new ShardedRoomOperations(namespace.getName(), room, namespace.getRoomClients(room),
+                getConfiguration().getStoreFactory(), fanout);
+    }
+}
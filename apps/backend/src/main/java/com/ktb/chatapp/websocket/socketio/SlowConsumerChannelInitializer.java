@@ -0,0 +1,53 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.Configuration;
+import com.corundumstudio.socketio.SocketIOChannelInitializer;
+import com.corundumstudio.socketio.namespace.NamespacesHub;
+import com.corundumstudio.socketio.protocol.PacketEncoder;
+import io.netty.channel.Channel;
+
+/**
+ * 채널마다 write buffer water mark를 설정하고 파이프라인 끝에 SlowConsumerHandler를 추가하는 초기화기
+ * 핸들러가 파이프라인 끝(tail 쪽)에 있어야 ClientHead가 쓰는 OutPacketMessage를 인코더보다 먼저 받는다.
+ *
+ * 드레인 중(stopAccepting 이후)에는 새로 수락된 연결을 바로 닫아, 로드밸런서가 다른 노드로 재시도하게 한다.
+ */
+public class SlowConsumerChannelInitializer extends SocketIOChannelInitializer {
+
+    public static final String SLOW_CONSUMER_HANDLER = "slowConsumerHandler";
+
+    private final SlowConsumerPolicy policy;
+    private PacketEncoder packetEncoder;
+    private int maxFramePayloadLength;
+    private volatile boolean accepting = true;
+
+    public SlowConsumerChannelInitializer(SlowConsumerPolicy policy) {
+        this.policy = policy;
+    }
+
+    @Override
+    public void start(Configuration configuration, NamespacesHub namespacesHub) {
+        super.start(configuration, namespacesHub);
+        this.packetEncoder = new PacketEncoder(configuration, configuration.getJsonSupport());
+        this.maxFramePayloadLength = configuration.getMaxFramePayloadLength();
+    }
+
+    /**
+     * Close every connection accepted from now on. Existing connections are not affected.
+     */
+    public void stopAccepting() {
+        accepting = false;
+    }
+
+    @Override
+    protected void initChannel(Channel ch) throws Exception {
+        if (!accepting) {
+            ch.close();
+            return;
+        }
+        super.initChannel(ch);
+        ch.config().setWriteBufferWaterMark(policy.getWaterMark());
+        ch.pipeline().addLast(SLOW_CONSUMER_HANDLER,
+                new SlowConsumerHandler(policy, packetEncoder, maxFramePayloadLength));
+    }
+}
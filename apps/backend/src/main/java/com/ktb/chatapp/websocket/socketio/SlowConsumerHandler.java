@@ -0,0 +1,297 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.Transport;
+import com.corundumstudio.socketio.messages.OutPacketMessage;
+import com.corundumstudio.socketio.namespace.Namespace;
+import com.corundumstudio.socketio.protocol.EngineIOVersion;
+import com.corundumstudio.socketio.protocol.Packet;
+import com.corundumstudio.socketio.protocol.PacketEncoder;
+import com.corundumstudio.socketio.protocol.PacketType;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundBuffer;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.ContinuationWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.MESSAGE;
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.MESSAGES_BATCH;
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.RESYNC_REQUIRED;
+
+/**
+ * 채널별 송신 backpressure 핸들러 (WebSocket 전송)
+ * netty-socketio의 EncoderHandler는 채널 writability와 무관하게 클라이언트 패킷 큐를 모두 인코딩해 쓰므로,
+ * 느린 클라이언트는 Netty outbound buffer가 끝없이 커진다.
+ *
+ * 채널이 unwritable인 동안에는 OutPacketMessage를 인코더로 넘기지 않고 클라이언트 패킷 큐를
+ * 이 핸들러의 보류 큐로 옮긴 뒤 SlowConsumerPolicy에 따라 버리거나 합치거나 연결을 끊는다.
+ * writable로 돌아오면 보류 패킷을 순서대로 직접 인코딩해 쓴다.
+ * 모든 상태는 채널 이벤트 루프에서만 변경된다.
+ */
+@Slf4j
+class SlowConsumerHandler extends ChannelDuplexHandler {
+
+    /**
+     * resyncRequired 전송 후 강제로 연결을 닫기까지 기다리는 시간
+     */
+    private static final long CLOSE_GRACE_SECONDS = 5;
+
+    private final SlowConsumerPolicy policy;
+    private final PacketEncoder encoder;
+    private final int maxFramePayloadLength;
+
+    private final Deque<Packet> deferred = new ArrayDeque<>();
+    private volatile int deferredCount;
+    private ChannelHandlerContext ctx;
+    private EngineIOVersion engineIOVersion = EngineIOVersion.V4;
+    private ScheduledFuture<?> stallCheck;
+    private boolean closing;
+
+    SlowConsumerHandler(SlowConsumerPolicy policy, PacketEncoder encoder, int maxFramePayloadLength) {
+        this.policy = policy;
+        this.encoder = encoder;
+        this.maxFramePayloadLength = maxFramePayloadLength;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        this.ctx = ctx;
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        cancelStallCheck();
+        deferred.clear();
+        deferredCount = 0;
+        policy.recovered(this);
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (msg instanceof OutPacketMessage out
+                && out.getTransport() == Transport.WEBSOCKET
+                && (closing || !ctx.channel().isWritable() || !deferred.isEmpty())) {
+            promise.trySuccess();
+            Queue<Packet> packets = out.getClientHead().getPacketsQueue(Transport.WEBSOCKET);
+            if (closing) {
+                packets.clear();
+                return;
+            }
+            engineIOVersion = out.getClientHead().getEngineIOVersion();
+            defer(packets);
+            return;
+        }
+        super.write(ctx, msg, promise);
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        if (ctx.channel().isWritable()) {
+            cancelStallCheck();
+            flushDeferred();
+        } else if (stallCheck == null) {
+            policy.slow(this);
+            stallCheck = ctx.executor().schedule(
+                    () -> {
+                        if (!ctx.channel().isWritable()) {
+                            disconnect("stalled");
+                        }
+                    },
+                    policy.getMaxStall().toMillis(), TimeUnit.MILLISECONDS);
+        }
+        super.channelWritabilityChanged(ctx);
+    }
+
+    long queuedBytes() {
+        ChannelOutboundBuffer buffer = ctx != null ? ctx.channel().unsafe().outboundBuffer() : null;
+        return buffer != null ? buffer.totalPendingWriteBytes() : 0;
+    }
+
+    int deferredPackets() {
+        return deferredCount;
+    }
+
+    private void defer(Queue<Packet> packets) {
+        policy.slow(this);
+        for (Packet packet = packets.poll(); packet != null; packet = packets.poll()) {
+            if (policy.isEphemeral(packet)) {
+                policy.droppedEphemeral();
+                continue;
+            }
+            deferred.add(packet);
+        }
+        if (deferred.size() > policy.getCoalesceThreshold()) {
+            coalesce();
+        }
+        deferredCount = deferred.size();
+        if (deferred.size() > policy.getMaxQueuedPackets()) {
+            disconnect("queue_limit");
+        } else if (ctx.channel().isWritable()) {
+            flushDeferred();
+        }
+    }
+
+    /**
+     * 연속된 message/messagesBatch 패킷을 messagesBatch 하나로 합친다.
+     * 브로드캐스트 패킷은 여러 클라이언트가 공유하므로 새 패킷을 만든다.
+     */
+    private void coalesce() {
+        List<Packet> merged = new ArrayList<>(deferred.size());
+        List<Packet> run = new ArrayList<>();
+        for (Packet packet : deferred) {
+            if (isChatMessage(packet)) {
+                run.add(packet);
+                continue;
+            }
+            mergeRun(run, merged);
+            merged.add(packet);
+        }
+        mergeRun(run, merged);
+
+        int removed = deferred.size() - merged.size();
+        if (removed > 0) {
+            deferred.clear();
+            deferred.addAll(merged);
+            policy.droppedCoalesced(removed);
+        }
+    }
+
+    private static void mergeRun(List<Packet> run, List<Packet> merged) {
+        if (run.size() <= 1) {
+            merged.addAll(run);
+            run.clear();
+            return;
+        }
+        List<Object> messages = new ArrayList<>();
+        for (Packet packet : run) {
+            List<Object> args = packet.getData();
+            if (MESSAGES_BATCH.equals(packet.getName())) {
+                messages.addAll((List<?>) args.getFirst());
+            } else {
+                messages.add(args.getFirst());
+            }
+        }
+        Packet first = run.getFirst();
+        merged.add(event(first.getEngineIOVersion(), first.getNsp(), MESSAGES_BATCH, messages));
+        run.clear();
+    }
+
+    private static boolean isChatMessage(Packet packet) {
+        return SlowConsumerPolicy.isEvent(packet)
+                && (MESSAGE.equals(packet.getName()) || MESSAGES_BATCH.equals(packet.getName()))
+                && packet.getData() instanceof List<?> args
+                && !args.isEmpty();
+    }
+
+    private void flushDeferred() {
+        if (closing) {
+            return;
+        }
+        while (!deferred.isEmpty() && ctx.channel().isWritable()) {
+            writePacket(deferred.poll());
+        }
+        deferredCount = deferred.size();
+        ctx.flush();
+        if (deferred.isEmpty() && ctx.channel().isWritable()) {
+            policy.recovered(this);
+        }
+    }
+
+    /**
+     * 보류 패킷을 버리고 resyncRequired를 보낸 뒤 연결을 닫는다.
+     * 전송 채널만 닫으므로 클라이언트는 자동 재접속하고 resumeRooms로 누락된 메시지를 받는다.
+     */
+    private void disconnect(String reason) {
+        if (closing) {
+            return;
+        }
+        closing = true;
+        cancelStallCheck();
+        log.warn("Slow consumer disconnected - channel: {}, reason: {}, deferred: {}, queuedBytes: {}",
+                ctx.channel().remoteAddress(), reason, deferred.size(), queuedBytes());
+        deferred.clear();
+        deferredCount = 0;
+        policy.disconnected();
+
+        ChannelFuture hint = writePacket(
+                event(engineIOVersion, Namespace.DEFAULT_NAME, RESYNC_REQUIRED, Map.of("reason", "slow_consumer")));
+        ctx.flush();
+        if (hint == null) {
+            ctx.close();
+            return;
+        }
+        // 힌트가 전달되면 바로, 클라이언트가 끝내 읽지 않으면 유예 시간 후 닫는다
+        hint.addListener(ChannelFutureListener.CLOSE);
+        ctx.executor().schedule(() -> ctx.close(), CLOSE_GRACE_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * EncoderHandler의 WebSocket 인코딩과 같은 방식으로 패킷 하나를 프레임으로 쓴다
+     *
+     * @return 마지막 프레임의 쓰기 future, 인코딩에 실패하면 null
+     */
+    private ChannelFuture writePacket(Packet packet) {
+        ByteBuf out = encoder.allocateBuffer(ctx.alloc());
+        try {
+            encoder.encodePacket(packet, out, ctx.alloc(), true);
+        } catch (IOException e) {
+            out.release();
+            log.error("Failed to encode deferred packet: {}", packet.getName(), e);
+            return null;
+        }
+
+        ChannelFuture last = null;
+        if (!out.isReadable()) {
+            out.release();
+        } else if (out.readableBytes() > maxFramePayloadLength) {
+            last = ctx.write(new TextWebSocketFrame(false, 0, out.readRetainedSlice(maxFramePayloadLength)));
+            while (out.isReadable()) {
+                ByteBuf slice = out.readRetainedSlice(Math.min(out.readableBytes(), maxFramePayloadLength));
+                last = ctx.write(new ContinuationWebSocketFrame(!out.isReadable(), 0, slice));
+            }
+            out.release();
+        } else {
+            last = ctx.write(new TextWebSocketFrame(out));
+        }
+
+        if (packet.hasAttachments()) {
+            for (ByteBuf attachment : packet.getAttachments()) {
+                ByteBuf frame = encoder.allocateBuffer(ctx.alloc());
+                frame.writeByte(4);
+                frame.writeBytes(attachment);
+                last = ctx.write(new BinaryWebSocketFrame(frame));
+            }
+        }
+        return last;
+    }
+
+    private void cancelStallCheck() {
+        if (stallCheck != null) {
+            stallCheck.cancel(false);
+            stallCheck = null;
+        }
+    }
+
+    private static Packet event(EngineIOVersion version, String nsp, String name, Object payload) {
+        Packet packet = new Packet(PacketType.MESSAGE, version);
+        packet.setSubType(PacketType.EVENT);
+        packet.setNsp(nsp);
+        packet.setName(name);
+        packet.setData(List.of(payload));
+        return packet;
+    }
+}
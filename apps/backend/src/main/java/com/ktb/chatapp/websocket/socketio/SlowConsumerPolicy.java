@@ -0,0 +1,109 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.protocol.Packet;
+import com.corundumstudio.socketio.protocol.PacketType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.netty.channel.WriteBufferWaterMark;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 느린 클라이언트(slow consumer) 송신 정책과 지표
+ * 채널이 high-water-mark를 넘어 unwritable이 되면 SlowConsumerHandler가 이후 패킷을 보류하고,
+ * 보류 패킷이 늘어나는 정도에 따라 단계적으로 대응한다.
+ *
+ * 1. ephemeral-events(읽음 표시, 리액션 등)는 보류하지 않고 버린다.
+ * 2. 보류 패킷이 coalesce-threshold를 넘으면 연속된 채팅 메시지를 messagesBatch 하나로 합친다.
+ * 3. 보류 패킷이 max-queued-packets를 넘거나 max-stall 동안 writable로 돌아오지 않으면
+ *    resyncRequired를 보내고 연결을 끊는다. 클라이언트는 재접속 후 resumeRooms로 누락분을 복구한다.
+ */
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowConsumerPolicy {
+
+    @Getter
+    private final WriteBufferWaterMark waterMark;
+    @Getter
+    private final int coalesceThreshold;
+    @Getter
+    private final int maxQueuedPackets;
+    @Getter
+    private final Duration maxStall;
+    private final Set<String> ephemeralEvents;
+
+    private final Set<SlowConsumerHandler> slowClients = ConcurrentHashMap.newKeySet();
+    private final Counter ephemeralDrops;
+    private final Counter coalescedDrops;
+    private final Counter disconnects;
+
+    public SlowConsumerPolicy(
+            MeterRegistry meterRegistry,
+            @Value("${socketio.outbound.low-water-mark:64KB}") DataSize lowWaterMark,
+            @Value("${socketio.outbound.high-water-mark:256KB}") DataSize highWaterMark,
+            @Value("${socketio.outbound.coalesce-threshold:200}") int coalesceThreshold,
+            @Value("${socketio.outbound.max-queued-packets:2000}") int maxQueuedPackets,
+            @Value("${socketio.outbound.max-stall:30s}") Duration maxStall,
+            @Value("${socketio.outbound.ephemeral-events:readReceipts,messageReactionUpdate}") String[] ephemeralEvents) {
+        this.waterMark = new WriteBufferWaterMark((int) lowWaterMark.toBytes(), (int) highWaterMark.toBytes());
+        this.coalesceThreshold = coalesceThreshold;
+        this.maxQueuedPackets = maxQueuedPackets;
+        this.maxStall = maxStall;
+        this.ephemeralEvents = Set.of(ephemeralEvents);
+
+        this.ephemeralDrops = Counter.builder("socketio.outbound.dropped")
+                .description("Outbound packets dropped for slow clients")
+                .tag("reason", "ephemeral")
+                .register(meterRegistry);
+        this.coalescedDrops = Counter.builder("socketio.outbound.dropped")
+                .description("Outbound packets dropped for slow clients")
+                .tag("reason", "coalesced")
+                .register(meterRegistry);
+        this.disconnects = Counter.builder("socketio.outbound.disconnects")
+                .description("Slow clients disconnected with a resync hint")
+                .register(meterRegistry);
+
+        meterRegistry.gaugeCollectionSize("socketio.outbound.slow.clients", Tags.empty(), slowClients);
+        meterRegistry.gauge("socketio.outbound.queued.bytes", slowClients,
+                clients -> clients.stream().mapToLong(SlowConsumerHandler::queuedBytes).sum());
+        meterRegistry.gauge("socketio.outbound.queued.bytes.max", slowClients,
+                clients -> clients.stream().mapToLong(SlowConsumerHandler::queuedBytes).max().orElse(0));
+        meterRegistry.gauge("socketio.outbound.deferred.packets", slowClients,
+                clients -> clients.stream().mapToInt(SlowConsumerHandler::deferredPackets).sum());
+    }
+
+    boolean isEphemeral(Packet packet) {
+        return isEvent(packet) && ephemeralEvents.contains(packet.getName());
+    }
+
+    static boolean isEvent(Packet packet) {
+        return packet.getType() == PacketType.MESSAGE && packet.getSubType() == PacketType.EVENT;
+    }
+
+    void slow(SlowConsumerHandler handler) {
+        slowClients.add(handler);
+    }
+
+    void recovered(SlowConsumerHandler handler) {
+        slowClients.remove(handler);
+    }
+
+    void droppedEphemeral() {
+        ephemeralDrops.increment();
+    }
+
+    void droppedCoalesced(int count) {
+        coalescedDrops.increment(count);
+    }
+
+    void disconnected() {
+        disconnects.increment();
+    }
+}
@@ -0,0 +1,252 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.event.RoomEventDispatcher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.SERVER_DRAINING;
+
+/**
+ * 롤링 배포용 Socket.IO 노드 드레인
+ * 서버를 바로 멈추면 모든 클라이언트가 동시에 끊기고 남은 노드로 한꺼번에 재접속한다.
+ * 드레인은 actuator(POST /actuator/drain) 또는 종료 시(SIGTERM → 컨텍스트 종료) 시작되며 다음 순서로 진행한다.
+ *
+ * 1. 새 연결은 바로 닫고(로드밸런서가 다른 노드로 재시도) 핸드셰이크는 모두 거절하며, 방 affinity ring에서 빠진다.
+ * 2. 연결된 클라이언트를 무작위로 섞어 waves개 묶음으로 나누고, duration 동안 묶음마다
+ *    serverDraining { reconnectAfter }를 보낸다. reconnectAfter는 묶음 간격 이내의 무작위 지연이다.
+ * 3. 클라이언트가 스스로 끊을 때까지(최대 한 묶음 간격) 기다린 뒤, 처리 중인 핸드셰이크와
+ *    방 이벤트 발행기, 지연 전송 큐(Drainable), 큰 방 shard 전송을 비운다. (각각 최대 flush-timeout)
+ * 4. Socket.IO 서버를 멈춘다. 남은 클라이언트는 연결이 끊겨 자동 재접속한다.
+ *
+ * 웹 서버 graceful shutdown보다 먼저 멈추도록 phase를 높게 두므로, 드레인 동안 REST 요청은 계속 처리된다.
+ *
+ * Metrics:
+ * - socketio.drain.state: 0 running, 1 draining, 2 drained
+ * - socketio.drain.waves.completed: reconnect waves sent so far
+ * - socketio.drain.notified: clients told to reconnect elsewhere
+ * - socketio.drain.clients: clients still connected to this node
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class SocketIODrainer implements SmartLifecycle {
+
+    private static final long POLL_MILLIS = 100;
+
+    public enum State { RUNNING, DRAINING, DRAINED }
+
+    private final SocketIOServer socketIOServer;
+    private final SlowConsumerChannelInitializer channelInitializer;
+    private final HandshakeAdmission handshakeAdmission;
+    private final RoomEventDispatcher roomEventDispatcher;
+    private final RoomAffinity roomAffinity;
+    private final ShardedFanout shardedFanout;
+    private final List<Drainable> drainables;
+    private final Duration duration;
+    private final int waves;
+    private final Duration flushTimeout;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.RUNNING);
+    private final CompletableFuture<Void> drained = new CompletableFuture<>();
+    private final AtomicInteger wavesCompleted = new AtomicInteger();
+    private final Counter notified;
+    private volatile boolean running;
+
+    public SocketIODrainer(
+            SocketIOServer socketIOServer,
+            SlowConsumerChannelInitializer channelInitializer,
+            HandshakeAdmission handshakeAdmission,
+            RoomEventDispatcher roomEventDispatcher,
+            RoomAffinity roomAffinity,
+            ShardedFanout shardedFanout,
+            List<Drainable> drainables,
+            MeterRegistry meterRegistry,
+            @Value("${socketio.drain.duration:20s}") Duration duration,
+            @Value("${socketio.drain.waves:5}") int waves,
+            @Value("${socketio.drain.flush-timeout:5s}") Duration flushTimeout) {
+        this.socketIOServer = socketIOServer;
+        this.channelInitializer = channelInitializer;
+        this.handshakeAdmission = handshakeAdmission;
+        this.roomEventDispatcher = roomEventDispatcher;
+        this.roomAffinity = roomAffinity;
+        this.shardedFanout = shardedFanout;
+        this.drainables = drainables;
+        this.duration = duration;
+        this.waves = Math.max(1, waves);
+        this.flushTimeout = flushTimeout;
+
+        this.notified = Counter.builder("socketio.drain.notified")
+                .description("Clients told to reconnect to another node during drain")
+                .register(meterRegistry);
+        Gauge.builder("socketio.drain.state", state, current -> current.get().ordinal())
+                .description("Drain state (0 running, 1 draining, 2 drained)")
+                .register(meterRegistry);
+        Gauge.builder("socketio.drain.waves.completed", wavesCompleted, AtomicInteger::get)
+                .description("Reconnect waves sent during drain")
+                .register(meterRegistry);
+        Gauge.builder("socketio.drain.clients", socketIOServer, server -> server.getAllClients().size())
+                .description("Clients still connected to this node")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Start draining this node if it is not already draining
+     *
+     * @return completes once the Socket.IO server has been stopped
+     */
+    public CompletableFuture<Void> drain() {
+        if (state.compareAndSet(State.RUNNING, State.DRAINING)) {
+            Thread thread = new Thread(this::runDrain, "socketio-drain");
+            thread.start();
+        }
+        return drained;
+    }
+
+    /**
+     * @return current drain progress
+     */
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("state", state.get());
+        status.put("connectedClients", socketIOServer.getAllClients().size());
+        status.put("wavesCompleted", wavesCompleted.get());
+        status.put("waves", waves);
+        status.put("notified", (long) notified.count());
+        return status;
+    }
+
+    private void runDrain() {
+        long startedAt = System.nanoTime();
+        log.info("Socket.IO drain started - clients: {}, waves: {}, duration: {}",
+                socketIOServer.getAllClients().size(), waves, duration);
+        try {
+            channelInitializer.stopAccepting();
+            handshakeAdmission.stopAdmitting();
+            roomAffinity.leave();
+
+            long interval = duration.toMillis() / waves;
+            notifyClients(interval);
+            // 마지막 묶음의 reconnectAfter가 지날 때까지 클라이언트가 스스로 끊기를 기다린다
+            await(() -> socketIOServer.getAllClients().isEmpty(), Duration.ofMillis(interval));
+            flushPending();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Socket.IO drain interrupted");
+        } catch (Exception e) {
+            log.error("Error draining Socket.IO server", e);
+        } finally {
+            int remaining = socketIOServer.getAllClients().size();
+            socketIOServer.stop();
+            state.set(State.DRAINED);
+            drained.complete(null);
+            log.info("Socket.IO drain finished - remaining clients: {}, elapsed: {}ms",
+                    remaining, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        }
+    }
+
+    private void notifyClients(long interval) throws InterruptedException {
+        List<SocketIOClient> clients = new ArrayList<>(socketIOServer.getAllClients());
+        Collections.shuffle(clients);
+        int waveSize = (clients.size() + waves - 1) / waves;
+
+        for (int wave = 0; wave < waves; wave++) {
+            if (wave > 0) {
+                Thread.sleep(interval);
+            }
+            int from = Math.min(clients.size(), wave * waveSize);
+            int to = Math.min(clients.size(), from + waveSize);
+            for (SocketIOClient client : clients.subList(from, to)) {
+                if (!client.isChannelOpen()) {
+                    continue;
+                }
+                long reconnectAfter = ThreadLocalRandom.current().nextLong(interval + 1);
+                client.sendEvent(SERVER_DRAINING, Map.of("reconnectAfter", reconnectAfter));
+                notified.increment();
+            }
+            wavesCompleted.incrementAndGet();
+            log.info("Socket.IO drain wave {}/{} sent - notified: {}, connected: {}",
+                    wave + 1, waves, to - from, socketIOServer.getAllClients().size());
+        }
+    }
+
+    private void flushPending() throws InterruptedException {
+        if (!await(() -> handshakeAdmission.inFlight() == 0, flushTimeout)) {
+            log.warn("Handshakes still in flight after {}", flushTimeout);
+        }
+        if (!roomEventDispatcher.awaitIdle(flushTimeout)) {
+            log.warn("Room events still pending after {}", flushTimeout);
+        }
+        for (Drainable drainable : drainables) {
+            try {
+                drainable.drain();
+            } catch (Exception e) {
+                log.error("Error draining {}", drainable.getClass().getSimpleName(), e);
+            }
+        }
+        // 지연 전송 큐가 보낸 큰 방 브로드캐스트가 lane에 남아 있을 수 있다
+        if (!shardedFanout.awaitIdle(flushTimeout)) {
+            log.warn("Room broadcast shards still queued after {}", flushTimeout);
+        }
+    }
+
+    private static boolean await(BooleanSupplier condition, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            Thread.sleep(POLL_MILLIS);
+        }
+        return true;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        drain().join();
+    }
+
+    @Override
+    public void stop(Runnable callback) {
+        running = false;
+        drain().whenComplete((result, error) -> callback.run());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버 graceful shutdown(DEFAULT_PHASE - 1024)보다 먼저 멈춘다
+     */
+    @Override
+    public int getPhase() {
+        return DEFAULT_PHASE - 512;
+    }
+}
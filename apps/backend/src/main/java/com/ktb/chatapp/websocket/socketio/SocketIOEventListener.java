@@ -2,6 +2,7 @@ package com.ktb.chatapp.websocket.socketio;
 
 import com.corundumstudio.socketio.SocketIOServer;
 import com.ktb.chatapp.event.*;
+import com.ktb.chatapp.websocket.socketio.handler.RoomListSubscriptions;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +19,7 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 public class SocketIOEventListener {
 
   private final SocketIOServer socketIOServer;
+  private final RoomListSubscriptions roomListSubscriptions;
 
   @EventListener
   public void handleSessionEndedEvent(SessionEndedEvent event) {
@@ -35,10 +37,10 @@ public class SocketIOEventListener {
   @EventListener
   public void handleRoomCreatedEvent(RoomCreatedEvent event) {
     try {
-      socketIOServer.getRoomOperations("room-list").sendEvent(ROOM_CREATED, event.getRoomResponse());
-      log.info("roomCreated 이벤트 발송: roomId={}", event.getRoomResponse().getId());
+      roomListSubscriptions.created(event.getRoomResponse());
+      log.info("roomCreated 변경분 등록: roomId={}", event.getRoomResponse().getId());
     } catch (Exception e) {
-      log.error("roomCreated 이벤트 발송 실패", e);
+      log.error("roomCreated 변경분 등록 실패", e);
     }
   }
 
@@ -46,6 +48,7 @@ public class SocketIOEventListener {
   public void handleRoomUpdatedEvent(RoomUpdatedEvent event) {
     try {
       socketIOServer.getRoomOperations(event.getRoomId()).sendEvent(ROOM_UPDATE, event.getRoomResponse());
+      roomListSubscriptions.updated(event.getRoomResponse());
       log.info("roomUpdate 이벤트 발송: roomId={}", event.getRoomId());
     } catch (Exception e) {
       log.error("roomUpdate 이벤트 발송 실패: roomId={}", event.getRoomId(), e);
@@ -46,6 +46,29 @@ public final class SocketIOEvents {
      * Payload: { messageId, reaction, type }
      */
     public static final String MESSAGE_REACTION = "messageReaction";
+
+    /**
+     * 참가자 전체 목록 요청 (응답: participantsUpdate)
+     * Payload: roomId (String)
+     */
+    public static final String FETCH_PARTICIPANTS = "fetchParticipants";
+
+    /**
+     * 재접속 후 참여 방 일괄 복구 (응답: resumeRoomsSuccess)
+     * Payload: { cursors: { roomId: lastMessageTimestamp } }
+     */
+    public static final String RESUME_ROOMS = "resumeRooms";
+
+    /**
+     * 로비 방 목록 변경 구독 (조건이 바뀌면 다시 보내 덮어씀, 응답: roomListUpdate)
+     * Payload: { page, sortField, sortOrder, search }
+     */
+    public static final String SUBSCRIBE_ROOM_LIST = "subscribeRoomList";
+
+    /**
+     * 로비 방 목록 변경 구독 해제
+     */
+    public static final String UNSUBSCRIBE_ROOM_LIST = "unsubscribeRoomList";
     
     // ============================================
     // Server → Client Events (전송 이벤트)
@@ -57,6 +80,12 @@ public final class SocketIOEvents {
      */
     public static final String MESSAGE = "message";
 
+    /**
+     * 메시지 묶음 브로드캐스트 (메시지가 몰리는 방에서 짧은 간격으로 모아 전송)
+     * Payload: List<MessageResponse>
+     */
+    public static final String MESSAGES_BATCH = "messagesBatch";
+
     /**
      * 에러 알림
      * Payload: { code, message }
@@ -75,6 +104,12 @@ public final class SocketIOEvents {
      */
     public static final String JOIN_ROOM_ERROR = "joinRoomError";
 
+    /**
+     * 참여 방 일괄 복구 완료
+     * Payload: ResumeRoomsResponse
+     */
+    public static final String RESUME_ROOMS_SUCCESS = "resumeRoomsSuccess";
+
     /**
      * 이전 메시지 로드 완료
      * Payload: { messages, hasMore, oldestTimestamp }
@@ -87,16 +122,28 @@ public final class SocketIOEvents {
     public static final String MESSAGE_LOAD_START = "messageLoadStart";
 
     /**
-     * 참가자 업데이트
+     * 참가자 업데이트 (fetchParticipants 요청자에게만 전송)
      * Payload: List<UserDto>
      */
     public static final String PARTICIPANTS_UPDATE = "participantsUpdate";
 
     /**
-     * 채팅방 생성 알림
-     * Payload: RoomResponse
+     * 참가자 입장 알림 (delta)
+     * Payload: UserResponse
+     */
+    public static final String PARTICIPANT_JOINED = "participantJoined";
+
+    /**
+     * 참가자 퇴장 알림 (delta)
+     * Payload: { userId, userName }
      */
-    public static final String ROOM_CREATED = "roomCreated";
+    public static final String PARTICIPANT_LEFT = "participantLeft";
+
+    /**
+     * 로비 방 목록 변경분 (구독 조건에 맞는 방 생성/변경을 짧은 윈도우 동안 모아 전송)
+     * Payload: { created: List<RoomResponse>, updated: List<RoomResponse> }
+     */
+    public static final String ROOM_LIST_UPDATE = "roomListUpdate";
 
     /**
      * 채팅방 정보 업데이트
@@ -117,10 +164,10 @@ public final class SocketIOEvents {
     public static final String USER_LEFT = "userLeft";
 
     /**
-     * 메시지 읽음 상태 업데이트
-     * Payload: { userId, messageIds }
+     * 읽음 상태 변경분 (짧은 윈도우 동안 모은 방별 읽음 이벤트를 합쳐 전송)
+     * Payload: { roomId, reads: { userId: lastReadMessageId } }
      */
-    public static final String MESSAGES_READ = "messagesRead";
+    public static final String READ_RECEIPTS = "readReceipts";
 
     /**
      * 메시지 리액션 업데이트
@@ -140,6 +187,24 @@ public final class SocketIOEvents {
      */
     public static final String SESSION_ENDED = "session_ended";
 
+    /**
+     * 송신 지연으로 연결을 끊기 직전 알림 (재접속 후 resumeRooms로 누락분을 복구해야 함)
+     * Payload: { reason }
+     */
+    public static final String RESYNC_REQUIRED = "resyncRequired";
+
+    /**
+     * 노드 드레인 알림 (reconnectAfter 후 연결을 끊고 재접속하면 다른 노드로 연결되며 참여 방은 resumeRooms로 복구)
+     * Payload: { reconnectAfter }
+     */
+    public static final String SERVER_DRAINING = "serverDraining";
+
+    /**
+     * 방 소유 노드 힌트 (입장한 방의 소유 노드가 현재 노드가 아닐 때, query room=roomId로 재접속하면 NginX가 소유 노드로 연결)
+     * Payload: { roomId, local }
+     */
+    public static final String ROOM_AFFINITY = "roomAffinity";
+
 
     // ============================================
     // AI Streaming Events
@@ -45,6 +45,7 @@ public class ChatMessageHandler {
   private final BannedWordChecker bannedWordChecker;
   private final RateLimitService rateLimitService;
   private final MeterRegistry meterRegistry;
+  private final RoomMessageBatcher roomMessageBatcher;
 
   @OnEvent(CHAT_MESSAGE)
   public void handleChatMessage(SocketIOClient client, ChatMessageRequest data) {
@@ -151,8 +152,7 @@ public class ChatMessageHandler {
 
       Message savedMessage = messageRepository.save(message);
 
-      socketIOServer.getRoomOperations(roomId)
-          .sendEvent(MESSAGE, createMessageResponse(savedMessage, sender));
+      roomMessageBatcher.publish(roomId, createMessageResponse(savedMessage, sender));
 
       sessionService.updateLastActivity(socketUser.id());
 
@@ -4,13 +4,13 @@ import com.corundumstudio.socketio.SocketIOClient;
 import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.OnDisconnect;
 import com.ktb.chatapp.websocket.socketio.ConnectedUsers;
+import com.ktb.chatapp.websocket.socketio.PresenceTracker;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import com.ktb.chatapp.websocket.socketio.UserRooms;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -31,21 +31,18 @@ public class ConnectionLoginHandler {
     private final SocketIOServer socketIOServer;
     private final ConnectedUsers connectedUsers;
     private final UserRooms userRooms;
-    private final RoomJoinHandler roomJoinHandler;
-    private final RoomLeaveHandler roomLeaveHandler;
+    private final PresenceTracker presenceTracker;
 
     public ConnectionLoginHandler(
             SocketIOServer socketIOServer,
             ConnectedUsers connectedUsers,
             UserRooms userRooms,
-            RoomJoinHandler roomJoinHandler,
-            RoomLeaveHandler roomLeaveHandler,
+            PresenceTracker presenceTracker,
             MeterRegistry meterRegistry) {
         this.socketIOServer = socketIOServer;
         this.connectedUsers = connectedUsers;
         this.userRooms = userRooms;
-        this.roomJoinHandler = roomJoinHandler;
-        this.roomLeaveHandler = roomLeaveHandler;
+        this.presenceTracker = presenceTracker;
 
         // Register gauge metric for concurrent users
         Gauge.builder("socketio.concurrent.users", connectedUsers::size)
@@ -63,17 +60,19 @@ public class ConnectionLoginHandler {
             notifyDuplicateLogin(client, userId);
             client.set("user", user);
             
-            userRooms.get(userId).forEach(roomId -> {
-                // 재접속 시 기존 참여 방 재입장 처리
-                roomJoinHandler.handleJoinRoom(client, roomId);
-            });
+            // 유예 시간 내 재접속이면 대기 중인 퇴장을 취소한다
+            presenceTracker.cancelLeave(userId);
+
+            // 재접속 시 기존 참여 방은 소켓 room 재구독만 수행
+            // 누락 메시지 복구는 클라이언트의 resumeRooms 요청으로 처리한다
+            client.joinRooms(userRooms.get(userId));
             
             connectedUsers.set(userId, user);
 
             log.info("Socket.IO user connected: {} ({}) - Total concurrent users: {}",
                     getUserName(client), userId, connectedUsers.size());
 
-            client.joinRooms(Set.of("user:" + userId, "room-list"));
+            client.joinRoom("user:" + userId);
             
         } catch (Exception e) {
             log.error("Error handling Socket.IO connection", e);
@@ -93,20 +92,21 @@ public class ConnectionLoginHandler {
                 return;
             }
             
-            userRooms.get(userId).forEach(roomId -> {
-                roomLeaveHandler.handleLeaveRoom(client, roomId);
-            });
             String socketId = client.getSessionId().toString();
             
             // 해당 사용자의 현재 활성 연결인 경우에만 정리
             var socketUser = connectedUsers.get(userId);
-            if (socketUser != null && socketId.equals(socketUser.socketId())) {
-                connectedUsers.del(userId);
+            if (socketUser == null || socketId.equals(socketUser.socketId())) {
+                if (socketUser != null) {
+                    connectedUsers.del(userId);
+                }
+                // 방 퇴장은 재접속 유예 시간 이후 처리
+                presenceTracker.scheduleLeave(getUserDto(client));
             } else {
                 log.warn("Socket.IO disconnect: User {} has a different active connection. Skipping cleanup.", userId);
             }
 
-            client.leaveRooms(Set.of("user:" + userId, "room-list"));
+            client.leaveRoom("user:" + userId);
             client.del("user");
             client.disconnect();
             
@@ -8,10 +8,14 @@ import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.UserRepository;
 import com.ktb.chatapp.service.MessageReadStatusService;
-import com.ktb.chatapp.service.UserService;
-import jakarta.annotation.Nullable;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,7 +34,6 @@ public class MessageLoader {
 
     private final MessageRepository messageRepository;
     private final UserRepository userRepository;
-//    private final UserService userService;
     private final MessageResponseMapper messageResponseMapper;
     private final MessageReadStatusService messageReadStatusService;
 
@@ -51,6 +54,29 @@ public class MessageLoader {
         }
     }
 
+    /**
+     * 커서 이후 누락된 메시지 로드 (오래된 순)
+     * 커서 시각의 메시지도 포함하므로 클라이언트가 이미 받은 메시지가 섞일 수 있다. (processedMessageIds로 제거)
+     * hasMore가 true면 limit 이상 누락되었으므로 클라이언트가 방을 다시 로드해야 한다.
+     */
+    public FetchMessagesResponse loadMessagesAfter(String roomId, long afterMillis, int limit, String userId) {
+        try {
+            LocalDateTime after = LocalDateTime.ofInstant(Instant.ofEpochMilli(afterMillis), ZoneId.systemDefault());
+            Pageable pageable = PageRequest.of(0, limit, Sort.by("timestamp").ascending());
+
+            Page<Message> messagePage = messageRepository
+                    .findByRoomIdAndIsDeletedAndTimestampGreaterThanEqual(roomId, false, after, pageable);
+
+            return toResponse(roomId, limit, messagePage.getContent(), messagePage.hasNext(), userId);
+        } catch (Exception e) {
+            log.error("Error loading missed messages for room {}", roomId, e);
+            return FetchMessagesResponse.builder()
+                    .messages(emptyList())
+                    .hasMore(true)
+                    .build();
+        }
+    }
+
     private FetchMessagesResponse loadMessagesInternal(
             String roomId,
             int limit,
@@ -64,21 +90,27 @@ public class MessageLoader {
         List<Message> messages = messagePage.getContent();
 
         // DESC로 조회했으므로 ASC로 재정렬 (채팅 UI 표시 순서)
-        List<Message> sortedMessages = messages.reversed();
-        
+        return toResponse(roomId, limit, messages.reversed(), messagePage.hasNext(), userId);
+    }
+
+    private FetchMessagesResponse toResponse(
+            String roomId,
+            int limit,
+            List<Message> sortedMessages,
+            boolean hasMore,
+            String userId) {
         var messageIds = sortedMessages.stream().map(Message::getId).toList();
         messageReadStatusService.updateReadStatus(messageIds, userId);
         
-        // 메시지 응답 생성
+        // 발신자 일괄 조회 (메시지별 조회 대신 한 번의 $in 쿼리)
+        Map<String, User> senders = findSenders(sortedMessages);
+
+        // 메시지 응답 생성 (AI/시스템 메시지는 발신자 null)
         List<MessageResponse> messageResponses = sortedMessages.stream()
-                .map(message -> {
-                    var user = findUserById(message.getSenderId());
-                    return messageResponseMapper.mapToMessageResponse(message, user);
-                })
+                .map(message -> messageResponseMapper.mapToMessageResponse(
+                        message, message.getSenderId() != null ? senders.get(message.getSenderId()) : null))
                 .collect(Collectors.toList());
 
-        boolean hasMore = messagePage.hasNext();
-
         log.debug("Messages loaded - roomId: {}, limit: {}, count: {}, hasMore: {}",
                 roomId, limit, messageResponses.size(), hasMore);
 
@@ -88,18 +120,16 @@ public class MessageLoader {
                 .build();
     }
 
-    /**
-     * AI 경우 null 반환 가능
-     */
-    @Nullable
-    private User findUserById(String id) {
-        if (id == null) {
-            return null;
+    private Map<String, User> findSenders(List<Message> messages) {
+        Set<String> senderIds = messages.stream()
+                .map(Message::getSenderId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (senderIds.isEmpty()) {
+            return Map.of();
         }
 
-        //Todo: 확인하기
-        return userRepository.findById(id)
-                .orElse(null);
-//        return userService.getUserProfile(id);
+        return userRepository.findAllById(senderIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity(), (a, b) -> a));
     }
 }
@@ -1,10 +1,8 @@
 package com.ktb.chatapp.websocket.socketio.handler;
 
 import com.corundumstudio.socketio.SocketIOClient;
-import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.OnEvent;
 import com.ktb.chatapp.dto.MarkAsReadRequest;
-import com.ktb.chatapp.dto.MessagesReadResponse;
 import com.ktb.chatapp.model.Message;
 import com.ktb.chatapp.model.Room;
 import com.ktb.chatapp.model.User;
@@ -14,6 +12,7 @@ import com.ktb.chatapp.repository.UserRepository;
 import com.ktb.chatapp.service.MessageReadStatusService;
 import com.ktb.chatapp.service.UserService;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
+import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,7 +23,7 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 
 /**
  * 메시지 읽음 상태 처리 핸들러
- * 메시지 읽음 상태 업데이트 및 브로드캐스트 담당
+ * 메시지 읽음 상태 업데이트 후 브로드캐스트는 ReadReceiptAggregator에 위임
  */
 @Slf4j
 @Component
@@ -32,12 +31,12 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 @RequiredArgsConstructor
 public class MessageReadHandler {
 
-    private final SocketIOServer socketIOServer;
     private final MessageReadStatusService messageReadStatusService;
     private final MessageRepository messageRepository;
     private final RoomRepository roomRepository;
     private final UserRepository userRepository;
     private final UserService userService;
+    private final ReadReceiptAggregator readReceiptAggregator;
 
     @OnEvent(MARK_MESSAGES_AS_READ)
     public void handleMarkAsRead(SocketIOClient client, MarkAsReadRequest data) {
@@ -52,8 +51,9 @@ public class MessageReadHandler {
                 return;
             }
 
-            String roomId = messageRepository.findById(data.getMessageIds().getFirst())
-                    .map(Message::getRoomId).orElse(null);
+            // 방 확인과 작성자별 읽음 전송에 필요한 필드만 한 번에 조회
+            List<Message> messages = messageRepository.findRoomAndSenderByIdIn(data.getMessageIds());
+            String roomId = messages.isEmpty() ? null : messages.getFirst().getRoomId();
 
             if (roomId == null || roomId.isBlank()) {
                 client.sendEvent(ERROR, Map.of("message", "Invalid room"));
@@ -74,11 +74,9 @@ public class MessageReadHandler {
 
             messageReadStatusService.updateReadStatus(data.getMessageIds(), userId);
 
-            MessagesReadResponse response = new MessagesReadResponse(userId, data.getMessageIds());
-
-            // Broadcast to room
-            socketIOServer.getRoomOperations(roomId)
-                    .sendEvent(MESSAGES_READ, response);
+            readReceiptAggregator.read(roomId, userId, messages.stream()
+                    .filter(message -> roomId.equals(message.getRoomId()))
+                    .toList());
 
         } catch (Exception e) {
             log.error("Error handling markMessagesAsRead", e);
@@ -0,0 +1,51 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.annotation.OnEvent;
+import com.ktb.chatapp.websocket.socketio.RoomParticipants;
+import com.ktb.chatapp.websocket.socketio.SocketUser;
+import com.ktb.chatapp.websocket.socketio.UserRooms;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
+
+/**
+ * 참가자 목록 조회 핸들러
+ * 입장/퇴장은 delta 이벤트로만 브로드캐스트되므로, 전체 목록이 필요한 클라이언트는 명시적으로 요청한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ParticipantFetchHandler {
+
+    private final UserRooms userRooms;
+    private final RoomParticipants roomParticipants;
+
+    @OnEvent(FETCH_PARTICIPANTS)
+    public void handleFetchParticipants(SocketIOClient client, String roomId) {
+        try {
+            var user = (SocketUser) client.get("user");
+            if (user == null) {
+                client.sendEvent(ERROR, Map.of("message", "Unauthorized"));
+                return;
+            }
+
+            if (roomId == null || !userRooms.isInRoom(user.id(), roomId)) {
+                client.sendEvent(ERROR, Map.of("message", "Room access denied"));
+                return;
+            }
+
+            client.sendEvent(PARTICIPANTS_UPDATE, roomParticipants.get(roomId));
+
+        } catch (Exception e) {
+            log.error("Error handling fetchParticipants", e);
+            client.sendEvent(ERROR, Map.of(
+                    "message", "참가자 목록 조회 중 오류가 발생했습니다."));
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.dto.ReadReceiptsResponse;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.websocket.socketio.Drainable;
+import com.ktb.chatapp.websocket.socketio.RoomParticipants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.READ_RECEIPTS;
+
+/**
+ * 읽음 이벤트 집계기
+ * 새 메시지가 오면 방 참여자 대부분이 거의 동시에 읽음 처리를 보내므로, 이벤트마다 방 전체에 브로드캐스트하면
+ * 참여자 수의 제곱만큼 전송이 발생한다. 윈도우 동안 방별 읽음 이벤트를 모아
+ * { userId → 마지막으로 읽은 메시지 ID } 하나로 합쳐 전송한다.
+ *
+ * - 참여자 수가 author-only-threshold를 넘는 방은 방 전체 대신 읽힌 메시지의 작성자에게만 보낸다.
+ *   (작성자별로 자기 메시지에 대한 읽음 상태만 포함, 0이면 사용하지 않음)
+ * - 메시지 ID는 MongoDB ObjectId이므로 문자열 비교 순서가 생성 순서와 같다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class ReadReceiptAggregator implements Drainable {
+
+    private final SocketIOServer socketIOServer;
+    private final RoomParticipants roomParticipants;
+    private final Duration window;
+    private final int authorOnlyThreshold;
+
+    private final Map<String, RoomReceipts> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "read-receipt-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter roomBroadcasts;
+    private final Counter authorBroadcasts;
+
+    public ReadReceiptAggregator(
+            SocketIOServer socketIOServer,
+            RoomParticipants roomParticipants,
+            MeterRegistry meterRegistry,
+            @Value("${socketio.read-receipt.window:500ms}") Duration window,
+            @Value("${socketio.read-receipt.author-only-threshold:0}") int authorOnlyThreshold) {
+        this.socketIOServer = socketIOServer;
+        this.roomParticipants = roomParticipants;
+        this.window = window;
+        this.authorOnlyThreshold = authorOnlyThreshold;
+
+        this.roomBroadcasts = Counter.builder("socketio.read_receipts.broadcasts")
+                .description("Aggregated read receipt events sent")
+                .tag("target", "room")
+                .register(meterRegistry);
+        this.authorBroadcasts = Counter.builder("socketio.read_receipts.broadcasts")
+                .description("Aggregated read receipt events sent")
+                .tag("target", "author")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler.scheduleWithFixedDelay(
+                () -> flush(List.copyOf(pending.keySet())),
+                window.toMillis(), window.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdown();
+        flush(List.copyOf(pending.keySet()));
+    }
+
+    @Override
+    public void drain() {
+        flush(List.copyOf(pending.keySet()));
+    }
+
+    /**
+     * Record that a user read messages in a room
+     *
+     * @param roomId the room ID
+     * @param userId the user ID who read the messages
+     * @param messages the read messages, with at least their ID and sender populated
+     */
+    public void read(String roomId, String userId, List<Message> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        pending.compute(roomId, (id, current) -> {
+            RoomReceipts receipts = current != null ? current : new RoomReceipts();
+            receipts.add(userId, messages);
+            return receipts;
+        });
+    }
+
+    void flush(Collection<String> roomIds) {
+        for (String roomId : roomIds) {
+            RoomReceipts receipts = pending.remove(roomId);
+            if (receipts == null) {
+                continue;
+            }
+            try {
+                if (authorOnlyThreshold > 0 && roomParticipants.get(roomId).size() > authorOnlyThreshold) {
+                    receipts.byAuthor.forEach((authorId, reads) -> socketIOServer
+                            .getRoomOperations("user:" + authorId)
+                            .sendEvent(READ_RECEIPTS, new ReadReceiptsResponse(roomId, reads)));
+                    authorBroadcasts.increment(receipts.byAuthor.size());
+                } else {
+                    socketIOServer.getRoomOperations(roomId)
+                            .sendEvent(READ_RECEIPTS, new ReadReceiptsResponse(roomId, receipts.lastRead));
+                    roomBroadcasts.increment();
+                }
+            } catch (Exception e) {
+                log.error("Error flushing read receipts - room: {}", roomId, e);
+            }
+        }
+    }
+
+    private static String later(String a, String b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
+    /**
+     * 한 방에서 윈도우 동안 모인 읽음 상태
+     * pending.compute 안에서만 변경되므로 별도 동기화가 필요 없다.
+     */
+    private static final class RoomReceipts {
+        private final Map<String, String> lastRead = new HashMap<>();
+        private final Map<String, Map<String, String>> byAuthor = new HashMap<>();
+
+        void add(String userId, List<Message> messages) {
+            for (Message message : messages) {
+                lastRead.merge(userId, message.getId(), ReadReceiptAggregator::later);
+                String authorId = message.getSenderId();
+                if (authorId != null && !authorId.equals(userId)) {
+                    byAuthor.computeIfAbsent(authorId, id -> new HashMap<>())
+                            .merge(userId, message.getId(), ReadReceiptAggregator::later);
+                }
+            }
+        }
+    }
+}
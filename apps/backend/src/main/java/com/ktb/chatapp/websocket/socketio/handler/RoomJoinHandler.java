@@ -7,19 +7,25 @@ import com.ktb.chatapp.dto.FetchMessagesRequest;
 import com.ktb.chatapp.dto.FetchMessagesResponse;
 import com.ktb.chatapp.dto.JoinRoomSuccessResponse;
 import com.ktb.chatapp.dto.UserResponse;
-import com.ktb.chatapp.model.Message;
-import com.ktb.chatapp.model.MessageType;
 import com.ktb.chatapp.model.Room;
-import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.RoomRepository;
-import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.service.UserService;
+import com.ktb.chatapp.websocket.socketio.RoomAffinity;
+import com.ktb.chatapp.websocket.socketio.RoomParticipants;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import com.ktb.chatapp.websocket.socketio.UserRooms;
-import java.time.LocalDateTime;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 
 import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
@@ -27,6 +33,14 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 /**
  * 방 입장 처리 핸들러
  * 채팅방 입장, 참가자 관리, 초기 메시지 로드 담당
+ *
+ * 입장 흐름:
+ * 1. 사용자 조회 (캐시)
+ * 2. findAndModify로 참여자 추가 + 갱신된 방 반환 (존재 확인/재조회 생략)
+ * 3. 히스토리 로드, 참가자 스냅샷 갱신을 병렬 실행
+ * 4. 입장 메시지는 SystemMessageAggregator가 방 단위로 모아 저장/전송
+ * 5. 방 소유 노드가 다른 노드면 RoomAffinity가 재접속 힌트를 보냄
+ * 각 단계 지연 시간은 socketio.join.stage.time 으로 기록한다.
  */
 @Slf4j
 @Component
@@ -35,16 +49,19 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 public class RoomJoinHandler {
 
   private final SocketIOServer socketIOServer;
-  private final MessageRepository messageRepository;
   private final RoomRepository roomRepository;
-  private final UserRepository userRepository;
+  private final UserService userService;
   private final UserRooms userRooms;
+  private final RoomParticipants roomParticipants;
   private final MessageLoader messageLoader;
-  private final MessageResponseMapper messageResponseMapper;
-  private final RoomLeaveHandler roomLeaveHandler;
+  private final SystemMessageAggregator systemMessageAggregator;
+  private final RoomAffinity roomAffinity;
+  private final ExecutorService socketIOTaskExecutor;
+  private final MeterRegistry meterRegistry;
 
   @OnEvent(JOIN_ROOM)
   public void handleJoinRoom(SocketIOClient client, String roomId) {
+    Timer.Sample totalSample = Timer.start(meterRegistry);
     try {
       String userId = getUserId(client);
       String userName = getUserName(client);
@@ -54,81 +71,66 @@ public class RoomJoinHandler {
         return;
       }
 
-      if (userRepository.findById(userId).isEmpty()) {
-        client.sendEvent(JOIN_ROOM_ERROR, Map.of("message", "User not found"));
-        return;
-      }
-
-      if (roomRepository.findById(roomId).isEmpty()) {
-        client.sendEvent(JOIN_ROOM_ERROR, Map.of("message", "채팅방을 찾을 수 없습니다."));
-        return;
-      }
-
       // 이미 해당 방에 참여 중인지 확인
       if (userRooms.isInRoom(userId, roomId)) {
         log.debug("User {} already in room {}", userId, roomId);
         client.joinRoom(roomId);
         client.sendEvent(JOIN_ROOM_SUCCESS, Map.of("roomId", roomId));
+        roomAffinity.hint(client, roomId);
         return;
       }
 
-      // MongoDB의 $addToSet 연산자를 사용한 원자적 업데이트
-      roomRepository.addParticipant(roomId, userId);
+      User user;
+      try {
+        user = timed("user", () -> userService.getUserProfile(userId));
+      } catch (UsernameNotFoundException e) {
+        client.sendEvent(JOIN_ROOM_ERROR, Map.of("message", "User not found"));
+        return;
+      }
+
+      // $addToSet + returnNew: 방 존재 확인과 최신 participantIds 조회를 한 번에 처리
+      Optional<Room> roomOpt = timed("room_update", () -> roomRepository.addParticipantAndGet(roomId, userId));
+      if (roomOpt.isEmpty()) {
+        client.sendEvent(JOIN_ROOM_ERROR, Map.of("message", "채팅방을 찾을 수 없습니다."));
+        return;
+      }
+      Room room = roomOpt.get();
 
       // Join socket room and add to user's room set
       client.joinRoom(roomId);
       userRooms.add(userId, roomId);
 
-      Message joinMessage = Message.builder()
-          .roomId(roomId)
-          .content(userName + "님이 입장하였습니다.")
-          .type(MessageType.system)
-          .timestamp(LocalDateTime.now())
-          .isDeleted(false)
-          .reactions(new HashMap<>())
-          .readers(new ArrayList<>())
-          .metadata(new HashMap<>())
-          .build();
-
-      joinMessage = messageRepository.save(joinMessage);
-
-      // 초기 메시지 로드
+      UserResponse joinedParticipant = UserResponse.from(user);
       FetchMessagesRequest req = new FetchMessagesRequest(roomId, 30, null);
-      FetchMessagesResponse messageLoadResult = messageLoader.loadMessages(req, userId);
 
-      // 업데이트된 room 다시 조회하여 최신 participantIds 가져오기
-      Optional<Room> roomOpt = roomRepository.findById(roomId);
-      if (roomOpt.isEmpty()) {
-        client.sendEvent(JOIN_ROOM_ERROR, Map.of("message", "채팅방을 찾을 수 없습니다."));
-        return;
-      }
+      // 서로 의존하지 않는 하위 작업을 병렬 실행
+      CompletableFuture<FetchMessagesResponse> history =
+          supplyTimed("history", () -> messageLoader.loadMessages(req, userId));
+      CompletableFuture<List<UserResponse>> participants =
+          supplyTimed("participants", () -> roomParticipants.add(room, joinedParticipant));
 
-      // 참가자 정보 조회
-      List<UserResponse> participants = roomOpt.get().getParticipantIds()
-          .stream()
-          .map(userRepository::findById)
-          .filter(Optional::isPresent)
-          .map(Optional::get)
-          .map(UserResponse::from)
-          .toList();
+      FetchMessagesResponse messageLoadResult = join(history);
 
       JoinRoomSuccessResponse response = JoinRoomSuccessResponse.builder()
           .roomId(roomId)
-          .participants(participants)
+          .participants(join(participants))
           .messages(messageLoadResult.getMessages())
           .hasMore(messageLoadResult.isHasMore())
           .activeStreams(Collections.emptyList())
           .build();
 
       client.sendEvent(JOIN_ROOM_SUCCESS, response);
+      // 방 소유 노드가 다른 노드면 재접속 힌트
+      roomAffinity.hint(client, roomId);
 
-      // 입장 메시지 브로드캐스트
-      socketIOServer.getRoomOperations(roomId)
-          .sendEvent(MESSAGE, messageResponseMapper.mapToMessageResponse(joinMessage, null));
+      // 입장 메시지는 윈도우 단위로 합쳐서 전송
+      systemMessageAggregator.joined(roomId, userId, userName);
 
-      // 참가자 목록 업데이트 브로드캐스트
+      // 참가자 변경분만 브로드캐스트 (전체 목록은 fetchParticipants로 요청)
       socketIOServer.getRoomOperations(roomId)
-          .sendEvent(PARTICIPANTS_UPDATE, participants);
+          .sendEvent(PARTICIPANT_JOINED, joinedParticipant);
+
+      totalSample.stop(stageTimer("total"));
 
       log.info("User {} joined room {} successfully. Message count: {}, hasMore: {}",
           userName, roomId, messageLoadResult.getMessages().size(), messageLoadResult.isHasMore());
@@ -140,6 +142,32 @@ public class RoomJoinHandler {
     }
   }
 
+  private <T> T timed(String stage, Supplier<T> supplier) {
+    return stageTimer(stage).record(supplier);
+  }
+
+  private <T> CompletableFuture<T> supplyTimed(String stage, Supplier<T> supplier) {
+    return CompletableFuture.supplyAsync(() -> timed(stage, supplier), socketIOTaskExecutor);
+  }
+
+  private static <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private Timer stageTimer(String stage) {
+    return Timer.builder("socketio.join.stage.time")
+        .description("Socket.IO joinRoom latency per stage")
+        .tag("stage", stage)
+        .register(meterRegistry);
+  }
+
   private SocketUser getUser(SocketIOClient client) {
     return client.get("user");
   }
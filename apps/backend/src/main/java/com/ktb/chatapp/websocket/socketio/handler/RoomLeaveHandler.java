@@ -3,23 +3,14 @@ package com.ktb.chatapp.websocket.socketio.handler;
 import com.corundumstudio.socketio.SocketIOClient;
 import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.OnEvent;
-import com.ktb.chatapp.dto.MessageResponse;
-import com.ktb.chatapp.dto.UserResponse;
-import com.ktb.chatapp.model.Message;
-import com.ktb.chatapp.model.MessageType;
 import com.ktb.chatapp.model.Room;
 import com.ktb.chatapp.model.User;
-import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.RoomRepository;
-import com.ktb.chatapp.repository.UserRepository;
 import com.ktb.chatapp.service.UserService;
+import com.ktb.chatapp.websocket.socketio.RoomParticipants;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import com.ktb.chatapp.websocket.socketio.UserRooms;
-import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -38,11 +29,10 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 public class RoomLeaveHandler {
 
   private final SocketIOServer socketIOServer;
-  private final MessageRepository messageRepository;
   private final RoomRepository roomRepository;
-  private final UserRepository userRepository;
   private final UserRooms userRooms;
-  private final MessageResponseMapper messageResponseMapper;
+  private final RoomParticipants roomParticipants;
+  private final SystemMessageAggregator systemMessageAggregator;
     private final UserService userService;
 
     @OnEvent(LEAVE_ROOM)
@@ -56,36 +46,8 @@ public class RoomLeaveHandler {
         return;
       }
 
-      if (!userRooms.isInRoom(userId, roomId)) {
-        log.debug("User {} is not in room {}", userId, roomId);
-        return;
-      }
-
-      //User user = userRepository.findById(userId).orElse(null);
-
-      Room room = roomRepository.findById(roomId).orElse(null);
-      User user = userService.getUserProfile(userId);
-
-      if (user == null || room == null) {
-        log.warn("Room {} not found or user {} has no access", roomId, userId);
-        return;
-      }
-
-      roomRepository.removeParticipant(roomId, userId);
-
       client.leaveRoom(roomId);
-      userRooms.remove(userId, roomId);
-
-      log.info("User {} left room {}", userName, room.getName());
-
-      log.debug("Leave room cleanup - roomId: {}, userId: {}", roomId, userId);
-
-      sendSystemMessage(roomId, userName + "님이 퇴장하였습니다.");
-      broadcastParticipantList(roomId);
-      socketIOServer.getRoomOperations(roomId)
-          .sendEvent(USER_LEFT, Map.of(
-              "userId", userId,
-              "userName", userName));
+      leave(userId, userName, roomId);
 
     } catch (Exception e) {
       log.error("Error handling leaveRoom", e);
@@ -93,50 +55,41 @@ public class RoomLeaveHandler {
     }
   }
 
-  private void sendSystemMessage(String roomId, String content) {
-    try {
-      Message systemMessage = new Message();
-      systemMessage.setRoomId(roomId);
-      systemMessage.setContent(content);
-      systemMessage.setType(MessageType.system);
-      systemMessage.setTimestamp(LocalDateTime.now());
-      systemMessage.setIsDeleted(false);
-      systemMessage.setReactions(new HashMap<>());
-      systemMessage.setReaders(new ArrayList<>());
-      systemMessage.setMetadata(new HashMap<>());
-
-      Message savedMessage = messageRepository.save(systemMessage);
-      MessageResponse response = messageResponseMapper.mapToMessageResponse(savedMessage, null);
-
-      socketIOServer.getRoomOperations(roomId)
-          .sendEvent(MESSAGE, response);
-
-    } catch (Exception e) {
-      log.error("Error sending system message", e);
-    }
-  }
-
-  private void broadcastParticipantList(String roomId) {
-    Optional<Room> roomOpt = roomRepository.findById(roomId);
-    if (roomOpt.isEmpty()) {
+  /**
+   * 소켓 연결과 무관한 퇴장 처리 (참여자 제거, 시스템 메시지, 퇴장 브로드캐스트)
+   * 연결 끊김 유예 시간이 지난 뒤의 지연 퇴장에도 사용된다.
+   */
+  public void leave(String userId, String userName, String roomId) {
+    if (!userRooms.isInRoom(userId, roomId)) {
+      log.debug("User {} is not in room {}", userId, roomId);
       return;
     }
 
-    var participantList = roomOpt.get()
-        .getParticipantIds()
-        .stream()
-        .map(userRepository::findById)
-        .filter(Optional::isPresent)
-        .map(Optional::get)
-        .map(UserResponse::from)
-        .toList();
+    Room room = roomRepository.findById(roomId).orElse(null);
+    User user = userService.getUserProfile(userId);
 
-    if (participantList.isEmpty()) {
+    if (user == null || room == null) {
+      log.warn("Room {} not found or user {} has no access", roomId, userId);
       return;
     }
 
+    roomRepository.removeParticipant(roomId, userId);
+    userRooms.remove(userId, roomId);
+
+    log.info("User {} left room {}", userName, room.getName());
+
+    log.debug("Leave room cleanup - roomId: {}, userId: {}", roomId, userId);
+
+    systemMessageAggregator.left(roomId, userId, userName);
+    roomParticipants.remove(roomId, userId);
+    socketIOServer.getRoomOperations(roomId)
+        .sendEvent(PARTICIPANT_LEFT, Map.of(
+            "userId", userId,
+            "userName", userName));
     socketIOServer.getRoomOperations(roomId)
-        .sendEvent(PARTICIPANTS_UPDATE, participantList);
+        .sendEvent(USER_LEFT, Map.of(
+            "userId", userId,
+            "userName", userName));
   }
 
   private SocketUser getUserDto(SocketIOClient client) {
@@ -0,0 +1,241 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.annotation.OnDisconnect;
+import com.corundumstudio.socketio.annotation.OnEvent;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.dto.RoomListSubscribeRequest;
+import com.ktb.chatapp.dto.RoomListUpdateResponse;
+import com.ktb.chatapp.dto.RoomResponse;
+import com.ktb.chatapp.websocket.socketio.Drainable;
+import com.ktb.chatapp.websocket.socketio.SocketUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
+
+/**
+ * 로비 방 목록 구독 관리
+ * 모든 소켓을 "room-list" 방에 넣고 방 생성마다 전체 브로드캐스트하면 접속자 수만큼 전송이 발생하므로,
+ * 로비 화면을 보고 있는 클라이언트만 subscribeRoomList로 보고 있는 목록 조건을 등록한다.
+ *
+ * - 방 생성/변경은 발생한 노드에서 윈도우 동안 모아 노드 간 토픽으로 한 번만 발행한다.
+ * - 각 노드는 변경분을 자기 노드의 구독 조건별로 한 번씩 거른 뒤 해당 소켓에 roomListUpdate로 보낸다.
+ * - 새로 만든 방은 최신순 첫 페이지를 보는 구독에만, 변경된 방은 검색어가 맞는 구독에만 전달한다.
+ * - 구독하지 않은 소켓(채팅방 화면 등)은 방 목록 이벤트를 받지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class RoomListSubscriptions implements Drainable {
+
+    private static final String DELTA_TOPIC = "room-list:delta";
+    private static final TypeReference<Map<String, Object>> ROOM_FIELDS = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+    private final RTopic deltaTopic;
+    private final Duration window;
+
+    // 이 노드에 연결된 구독 소켓 (sessionId → 구독)
+    private final Map<UUID, Subscription> subscriptions = new ConcurrentHashMap<>();
+
+    // 이 노드에서 발생한 변경분, 같은 방은 마지막 상태만 남긴다
+    private final Object pendingLock = new Object();
+    private Map<String, Map<String, Object>> pendingCreated = new LinkedHashMap<>();
+    private Map<String, Map<String, Object>> pendingUpdated = new LinkedHashMap<>();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "room-list-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter deliveries;
+    private int listenerId;
+
+    public RoomListSubscriptions(
+            ObjectMapper objectMapper,
+            RedissonClient redissonClient,
+            MeterRegistry meterRegistry,
+            @Value("${socketio.room-list.window:1s}") Duration window) {
+        this.objectMapper = objectMapper;
+        this.deltaTopic = redissonClient.getTopic(DELTA_TOPIC, StringCodec.INSTANCE);
+        this.window = window;
+
+        this.deliveries = Counter.builder("socketio.room_list.deliveries")
+                .description("roomListUpdate events sent to subscribed sockets")
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("socketio.room_list.subscribers", Tags.empty(), subscriptions);
+    }
+
+    @PostConstruct
+    void start() {
+        listenerId = deltaTopic.addListener(String.class, (channel, message) -> onDelta(message));
+        scheduler.scheduleWithFixedDelay(this::flush, window.toMillis(), window.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdown();
+        flush();
+        deltaTopic.removeListener(listenerId);
+    }
+
+    @Override
+    public void drain() {
+        flush();
+    }
+
+    @OnEvent(SUBSCRIBE_ROOM_LIST)
+    public void handleSubscribe(SocketIOClient client, RoomListSubscribeRequest data) {
+        SocketUser user = client.get("user");
+        if (user == null) {
+            client.sendEvent(ERROR, Map.of("message", "Unauthorized"));
+            return;
+        }
+        // 페이지/검색어가 바뀌면 같은 이벤트로 다시 보내므로 기존 구독을 덮어쓴다
+        subscriptions.put(client.getSessionId(), new Subscription(client, Filter.of(data)));
+    }
+
+    @OnEvent(UNSUBSCRIBE_ROOM_LIST)
+    public void handleUnsubscribe(SocketIOClient client) {
+        subscriptions.remove(client.getSessionId());
+    }
+
+    @OnDisconnect
+    public void onDisconnect(SocketIOClient client) {
+        subscriptions.remove(client.getSessionId());
+    }
+
+    /**
+     * Queue a newly created room for the next room-list delta
+     *
+     * @param room the created room
+     */
+    public void created(RoomResponse room) {
+        Map<String, Object> fields = objectMapper.convertValue(room, ROOM_FIELDS);
+        synchronized (pendingLock) {
+            pendingCreated.put(room.getId(), fields);
+        }
+    }
+
+    /**
+     * Queue a changed room for the next room-list delta
+     *
+     * @param room the room with its current state
+     */
+    public void updated(RoomResponse room) {
+        Map<String, Object> fields = objectMapper.convertValue(room, ROOM_FIELDS);
+        synchronized (pendingLock) {
+            // 같은 윈도우에 생성된 방은 생성 항목을 최신 상태로 바꾼다
+            if (pendingCreated.containsKey(room.getId())) {
+                pendingCreated.put(room.getId(), fields);
+            } else {
+                pendingUpdated.put(room.getId(), fields);
+            }
+        }
+    }
+
+    void flush() {
+        RoomListUpdateResponse delta;
+        synchronized (pendingLock) {
+            if (pendingCreated.isEmpty() && pendingUpdated.isEmpty()) {
+                return;
+            }
+            delta = new RoomListUpdateResponse(
+                    List.copyOf(pendingCreated.values()), List.copyOf(pendingUpdated.values()));
+            pendingCreated = new LinkedHashMap<>();
+            pendingUpdated = new LinkedHashMap<>();
+        }
+        try {
+            deltaTopic.publish(objectMapper.writeValueAsString(delta));
+        } catch (Exception e) {
+            // 발행 실패 시 로비 클라이언트는 다음 목록 조회에서 갱신된다
+            log.warn("Failed to publish room-list delta - created: {}, updated: {}",
+                    delta.created().size(), delta.updated().size(), e);
+        }
+    }
+
+    void onDelta(String message) {
+        try {
+            deliver(objectMapper.readValue(message, RoomListUpdateResponse.class));
+        } catch (Exception e) {
+            log.error("Error delivering room-list delta", e);
+        }
+    }
+
+    /**
+     * 변경분을 이 노드의 구독 소켓에 전달한다. 구독 조건별로 한 번만 거른다.
+     */
+    void deliver(RoomListUpdateResponse delta) {
+        Map<Filter, RoomListUpdateResponse> selected = new HashMap<>();
+        for (Subscription subscription : subscriptions.values()) {
+            RoomListUpdateResponse update = selected.computeIfAbsent(subscription.filter(), filter -> filter.select(delta));
+            if (update.created().isEmpty() && update.updated().isEmpty()) {
+                continue;
+            }
+            subscription.client().sendEvent(ROOM_LIST_UPDATE, update);
+            deliveries.increment();
+        }
+    }
+
+    private record Subscription(SocketIOClient client, Filter filter) {
+    }
+
+    /**
+     * 구독 조건
+     *
+     * @param search 소문자로 정규화한 검색어 (빈 문자열이면 전체)
+     * @param newestFirstPage 최신순 첫 페이지를 보고 있는지 (새 방은 이 목록의 맨 앞에만 나타난다)
+     */
+    record Filter(String search, boolean newestFirstPage) {
+
+        static Filter of(RoomListSubscribeRequest request) {
+            if (request == null) {
+                request = new RoomListSubscribeRequest(0, null, null, null);
+            }
+            return new Filter(
+                    request.search().toLowerCase(Locale.ROOT),
+                    request.page() == 0
+                            && "createdAt".equals(request.sortField())
+                            && "desc".equalsIgnoreCase(request.sortOrder()));
+        }
+
+        RoomListUpdateResponse select(RoomListUpdateResponse delta) {
+            List<Map<String, Object>> created = newestFirstPage
+                    ? delta.created().stream().filter(this::matches).toList()
+                    : List.of();
+            List<Map<String, Object>> updated = delta.updated().stream().filter(this::matches).toList();
+            return new RoomListUpdateResponse(created, updated);
+        }
+
+        private boolean matches(Map<String, Object> room) {
+            if (search.isEmpty()) {
+                return true;
+            }
+            return room.get("name") instanceof String name && name.toLowerCase(Locale.ROOT).contains(search);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.dto.MessageResponse;
+import com.ktb.chatapp.websocket.socketio.Drainable;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.MESSAGE;
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.MESSAGES_BATCH;
+
+/**
+ * 방별 적응형 채팅 메시지 배처
+ * 조용한 방은 메시지를 즉시 message 이벤트로 보내고, 초당 메시지 수가 rate-threshold를 넘은 방은
+ * 최대 max-delay 동안 모아 messagesBatch 이벤트(MessageResponse 배열) 하나로 보낸다.
+ * 참여자 수 × 메시지 수만큼 발생하던 소켓 write와 프레임을 배치 크기만큼 줄인다.
+ *
+ * - max-batch에 도달하면 max-delay를 기다리지 않고 바로 전송한다.
+ * - 배치에 메시지가 하나뿐이면 기존 message 이벤트로 보낸다.
+ * - 방 단위로 잠금을 잡고 전송하므로 즉시 전송과 배치 전송이 섞여도 방 안의 메시지 순서가 유지된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class RoomMessageBatcher implements Drainable {
+
+    private static final long RATE_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long IDLE_EVICT_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final SocketIOServer socketIOServer;
+    private final int rateThreshold;
+    private final Duration maxDelay;
+    private final int maxBatch;
+
+    private final Map<String, RoomLane> lanes = new ConcurrentHashMap<>();
+    private final AtomicInteger batchingRooms = new AtomicInteger();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "room-message-batch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter immediateMessages;
+    private final Counter batchedMessages;
+    private final DistributionSummary batchSize;
+
+    public RoomMessageBatcher(
+            SocketIOServer socketIOServer,
+            MeterRegistry meterRegistry,
+            @Value("${socketio.message-batch.rate-threshold:20}") int rateThreshold,
+            @Value("${socketio.message-batch.max-delay:20ms}") Duration maxDelay,
+            @Value("${socketio.message-batch.max-batch:50}") int maxBatch) {
+        this.socketIOServer = socketIOServer;
+        this.rateThreshold = rateThreshold;
+        this.maxDelay = maxDelay;
+        this.maxBatch = maxBatch;
+
+        this.immediateMessages = Counter.builder("socketio.messages.outbound")
+                .description("Chat messages broadcast to rooms by delivery mode")
+                .tag("mode", "immediate")
+                .register(meterRegistry);
+        this.batchedMessages = Counter.builder("socketio.messages.outbound")
+                .description("Chat messages broadcast to rooms by delivery mode")
+                .tag("mode", "batched")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("socketio.messages.batch.size")
+                .description("Messages per messagesBatch event")
+                .register(meterRegistry);
+        meterRegistry.gauge("socketio.messages.batching.rooms", batchingRooms);
+
+        scheduler.scheduleWithFixedDelay(this::evictIdleLanes, 1, 1, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdown();
+        lanes.forEach(this::flush);
+    }
+
+    @Override
+    public void drain() {
+        lanes.forEach(this::flush);
+    }
+
+    /**
+     * Broadcast a chat message to a room, batching it with other messages if the room is busy
+     *
+     * @param roomId the room ID
+     * @param message the message to broadcast
+     */
+    public void publish(String roomId, MessageResponse message) {
+        RoomLane lane = lanes.computeIfAbsent(roomId, id -> new RoomLane());
+        synchronized (lane) {
+            boolean busy = lane.record(System.nanoTime()) >= rateThreshold;
+            updateBatching(lane, busy);
+
+            if (!busy && lane.pending.isEmpty()) {
+                socketIOServer.getRoomOperations(roomId).sendEvent(MESSAGE, message);
+                immediateMessages.increment();
+                return;
+            }
+
+            lane.pending.add(message);
+            if (lane.pending.size() >= maxBatch) {
+                flush(roomId, lane);
+            } else if (!lane.flushScheduled) {
+                lane.flushScheduled = true;
+                scheduler.schedule(() -> scheduledFlush(roomId, lane), maxDelay.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private void scheduledFlush(String roomId, RoomLane lane) {
+        synchronized (lane) {
+            lane.flushScheduled = false;
+            flush(roomId, lane);
+        }
+    }
+
+    private void flush(String roomId, RoomLane lane) {
+        synchronized (lane) {
+            if (lane.pending.isEmpty()) {
+                return;
+            }
+            List<MessageResponse> batch = List.copyOf(lane.pending);
+            lane.pending.clear();
+            try {
+                if (batch.size() == 1) {
+                    socketIOServer.getRoomOperations(roomId).sendEvent(MESSAGE, batch.getFirst());
+                } else {
+                    socketIOServer.getRoomOperations(roomId).sendEvent(MESSAGES_BATCH, batch);
+                }
+                batchedMessages.increment(batch.size());
+                batchSize.record(batch.size());
+            } catch (Exception e) {
+                log.error("Error flushing message batch - room: {}, size: {}", roomId, batch.size(), e);
+            }
+        }
+    }
+
+    private void updateBatching(RoomLane lane, boolean busy) {
+        if (busy != lane.batching) {
+            lane.batching = busy;
+            batchingRooms.addAndGet(busy ? 1 : -1);
+        }
+    }
+
+    private void evictIdleLanes() {
+        long now = System.nanoTime();
+        lanes.forEach((roomId, lane) -> {
+            synchronized (lane) {
+                if (lane.pending.isEmpty() && now - lane.windowStart > IDLE_EVICT_NANOS) {
+                    updateBatching(lane, false);
+                    lanes.remove(roomId, lane);
+                }
+            }
+        });
+    }
+
+    /**
+     * 방별 전송 상태
+     * 모든 필드는 lane 모니터 안에서만 접근한다.
+     */
+    private static final class RoomLane {
+        private final List<MessageResponse> pending = new ArrayList<>();
+        private long windowStart = System.nanoTime();
+        private int windowCount;
+        private int previousWindowCount;
+        private boolean flushScheduled;
+        private boolean batching;
+
+        /**
+         * 메시지 하나를 기록하고 초당 메시지 수 추정치를 반환한다.
+         * 직전 1초 구간과 현재 구간 중 큰 값을 써서 버스트 시작과 동시에 배칭으로 전환한다.
+         */
+        int record(long now) {
+            long elapsed = now - windowStart;
+            if (elapsed >= RATE_WINDOW_NANOS) {
+                previousWindowCount = elapsed >= 2 * RATE_WINDOW_NANOS ? 0 : windowCount;
+                windowCount = 0;
+                windowStart = now;
+            }
+            windowCount++;
+            return Math.max(windowCount, previousWindowCount);
+        }
+    }
+}
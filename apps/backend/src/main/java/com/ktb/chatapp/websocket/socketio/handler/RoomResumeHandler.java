@@ -0,0 +1,109 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.annotation.OnEvent;
+import com.ktb.chatapp.dto.FetchMessagesResponse;
+import com.ktb.chatapp.dto.ResumeRoomsRequest;
+import com.ktb.chatapp.dto.ResumeRoomsResponse;
+import com.ktb.chatapp.dto.ResumeRoomsResponse.ResumedRoom;
+import com.ktb.chatapp.websocket.socketio.SocketUser;
+import com.ktb.chatapp.websocket.socketio.UserRooms;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
+
+/**
+ * 재접속 복구 핸들러
+ * 클라이언트가 보낸 방별 커서를 기준으로 참여 방을 한 번에 재구독하고 누락된 메시지만 전달한다.
+ *
+ * 연결 끊김 유예 시간(PresenceTracker) 내 재접속이면 퇴장 처리 전이므로 참여 상태가 그대로 남아 있다.
+ *
+ * - 아직 참여 중인 방: 소켓 room 재구독만 수행 (입장 시스템 메시지 없음)
+ * - 그 외: failedRoomIds 로 반환하여 클라이언트가 joinRoom 으로 다시 입장
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RoomResumeHandler {
+
+    /**
+     * 방별 누락 메시지 최대 전송 개수. 초과 시 hasMore로 전체 재로드를 유도한다.
+     */
+    private static final int MAX_MISSED_MESSAGES = 100;
+
+    private final UserRooms userRooms;
+    private final MessageLoader messageLoader;
+    private final ExecutorService socketIOTaskExecutor;
+
+    @OnEvent(RESUME_ROOMS)
+    public void handleResumeRooms(SocketIOClient client, ResumeRoomsRequest data) {
+        try {
+            SocketUser socketUser = client.get("user");
+            if (socketUser == null) {
+                client.sendEvent(ERROR, Map.of("message", "Unauthorized"));
+                return;
+            }
+            String userId = socketUser.id();
+            Map<String, Long> cursors = data != null ? data.cursors() : Map.of();
+
+            Set<String> joinedRooms = userRooms.get(userId);
+            List<String> resumedRoomIds = new ArrayList<>();
+            List<String> failedRoomIds = new ArrayList<>();
+
+            for (String roomId : cursors.keySet()) {
+                if (joinedRooms.contains(roomId)) {
+                    resumedRoomIds.add(roomId);
+                } else {
+                    failedRoomIds.add(roomId);
+                }
+            }
+
+            // 소켓 room 재구독은 한 번에 처리
+            client.joinRooms(Set.copyOf(resumedRoomIds));
+
+            // 방별 누락 메시지를 병렬 조회
+            Map<String, CompletableFuture<FetchMessagesResponse>> missed = new LinkedHashMap<>();
+            for (String roomId : resumedRoomIds) {
+                long cursor = Optional.ofNullable(cursors.get(roomId)).orElse(0L);
+                missed.put(roomId, CompletableFuture.supplyAsync(
+                        () -> messageLoader.loadMessagesAfter(roomId, cursor, MAX_MISSED_MESSAGES, userId),
+                        socketIOTaskExecutor));
+            }
+
+            List<ResumedRoom> rooms = missed.entrySet().stream()
+                    .map(entry -> {
+                        FetchMessagesResponse result = entry.getValue().join();
+                        return ResumedRoom.builder()
+                                .roomId(entry.getKey())
+                                .messages(result.getMessages())
+                                .hasMore(result.isHasMore())
+                                .build();
+                    })
+                    .toList();
+
+            client.sendEvent(RESUME_ROOMS_SUCCESS, ResumeRoomsResponse.builder()
+                    .rooms(rooms)
+                    .failedRoomIds(failedRoomIds)
+                    .build());
+
+            log.info("User {} resumed {} rooms ({} failed)", userId, rooms.size(), failedRoomIds.size());
+
+        } catch (Exception e) {
+            log.error("Error handling resumeRooms", e);
+            client.sendEvent(ERROR, Map.of(
+                    "message", "채팅방 복구 중 오류가 발생했습니다."));
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.websocket.socketio.Drainable;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.MESSAGE;
+
+/**
+ * 입장/퇴장 시스템 메시지 집계기
+ * 방별 입장/퇴장 이벤트를 짧은 윈도우 동안 모아 방마다 하나의 시스템 메시지로 합쳐 전송한다.
+ * 예) "A, B님 외 3명이 입장하였습니다."
+ *
+ * - 윈도우마다 모인 모든 방의 메시지를 한 번의 bulk insert로 저장한다.
+ * - 한 방의 이벤트가 max-batch에 도달하면 윈도우를 기다리지 않고 바로 전송한다.
+ * - 같은 윈도우 안에서 입장 후 퇴장(또는 퇴장 후 재입장)한 사용자는 서로 상쇄된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class SystemMessageAggregator implements Drainable {
+
+    /**
+     * 메시지에 이름을 표시할 최대 인원. 나머지는 "외 N명"으로 표시한다.
+     */
+    private static final int MAX_DISPLAYED_NAMES = 2;
+
+    private final SocketIOServer socketIOServer;
+    private final MessageRepository messageRepository;
+    private final MessageResponseMapper messageResponseMapper;
+    private final Duration window;
+    private final int maxBatch;
+
+    private final Map<String, RoomEvents> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "system-message-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SystemMessageAggregator(
+            SocketIOServer socketIOServer,
+            MessageRepository messageRepository,
+            MessageResponseMapper messageResponseMapper,
+            @Value("${socketio.system-message.window:500ms}") Duration window,
+            @Value("${socketio.system-message.max-batch:50}") int maxBatch) {
+        this.socketIOServer = socketIOServer;
+        this.messageRepository = messageRepository;
+        this.messageResponseMapper = messageResponseMapper;
+        this.window = window;
+        this.maxBatch = maxBatch;
+    }
+
+    @PostConstruct
+    void start() {
+        scheduler.scheduleWithFixedDelay(
+                () -> flush(List.copyOf(pending.keySet())),
+                window.toMillis(), window.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdown();
+        flush(List.copyOf(pending.keySet()));
+    }
+
+    @Override
+    public void drain() {
+        flush(List.copyOf(pending.keySet()));
+    }
+
+    /**
+     * Record that a user joined a room
+     *
+     * @param roomId the room ID
+     * @param userId the user ID
+     * @param userName the display name of the user
+     */
+    public void joined(String roomId, String userId, String userName) {
+        record(roomId, userId, userName, true);
+    }
+
+    /**
+     * Record that a user left a room
+     *
+     * @param roomId the room ID
+     * @param userId the user ID
+     * @param userName the display name of the user
+     */
+    public void left(String roomId, String userId, String userName) {
+        record(roomId, userId, userName, false);
+    }
+
+    private void record(String roomId, String userId, String userName, boolean joined) {
+        RoomEvents events = pending.compute(roomId, (id, current) -> {
+            RoomEvents next = current != null ? current : new RoomEvents();
+            next.add(userId, userName, joined);
+            return next;
+        });
+
+        if (events.size() >= maxBatch) {
+            scheduler.execute(() -> flush(List.of(roomId)));
+        }
+    }
+
+    void flush(Collection<String> roomIds) {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<Message> messages = new ArrayList<>();
+            for (String roomId : roomIds) {
+                RoomEvents events = pending.remove(roomId);
+                if (events == null) {
+                    continue;
+                }
+                if (!events.joined.isEmpty()) {
+                    messages.add(systemMessage(roomId, "join", events.joined, "입장하였습니다.", now));
+                }
+                if (!events.left.isEmpty()) {
+                    messages.add(systemMessage(roomId, "leave", events.left, "퇴장하였습니다.", now));
+                }
+            }
+            if (messages.isEmpty()) {
+                return;
+            }
+
+            // 모든 방의 시스템 메시지를 한 번에 저장
+            List<Message> savedMessages = messageRepository.insert(messages);
+            savedMessages.forEach(message -> socketIOServer.getRoomOperations(message.getRoomId())
+                    .sendEvent(MESSAGE, messageResponseMapper.mapToMessageResponse(message, null)));
+
+            log.debug("System messages flushed - rooms: {}, messages: {}", roomIds.size(), savedMessages.size());
+        } catch (Exception e) {
+            log.error("Error flushing system messages", e);
+        }
+    }
+
+    private Message systemMessage(
+            String roomId,
+            String event,
+            Map<String, String> users,
+            String action,
+            LocalDateTime timestamp) {
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("event", event);
+        metadata.put("userIds", List.copyOf(users.keySet()));
+
+        return Message.builder()
+                .roomId(roomId)
+                .content(format(List.copyOf(users.values()), action))
+                .type(MessageType.system)
+                .timestamp(timestamp)
+                .isDeleted(false)
+                .reactions(new HashMap<>())
+                .readers(new ArrayList<>())
+                .metadata(metadata)
+                .build();
+    }
+
+    static String format(List<String> names, String action) {
+        if (names.size() <= MAX_DISPLAYED_NAMES) {
+            return String.join(", ", names) + "님이 " + action;
+        }
+        String displayed = String.join(", ", names.subList(0, MAX_DISPLAYED_NAMES));
+        return displayed + "님 외 " + (names.size() - MAX_DISPLAYED_NAMES) + "명이 " + action;
+    }
+
+    /**
+     * 한 방에서 윈도우 동안 모인 입장/퇴장 사용자 (userId → 이름, 발생 순서 유지)
+     * pending.compute 안에서만 변경되므로 별도 동기화가 필요 없다.
+     */
+    private static final class RoomEvents {
+        private final Map<String, String> joined = new LinkedHashMap<>();
+        private final Map<String, String> left = new LinkedHashMap<>();
+
+        void add(String userId, String userName, boolean isJoin) {
+            Map<String, String> target = isJoin ? joined : left;
+            Map<String, String> opposite = isJoin ? left : joined;
+            if (opposite.remove(userId) == null) {
+                target.put(userId, userName);
+            }
+        }
+
+        int size() {
+            return joined.size() + left.size();
+        }
+    }
+}
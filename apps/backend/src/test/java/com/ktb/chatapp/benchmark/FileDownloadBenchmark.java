@@ -0,0 +1,112 @@
+package com.ktb.chatapp.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.UrlResource;
+import org.springframework.util.StreamUtils;
+
+/**
+ * 대용량 파일 다운로드 전송 경로 비교 (loopback 소켓으로 전송, 수신측은 별도 스레드가 버림)
+ *
+ * - resourceStreamCopy: 기존 경로. UrlResource 스트림을 ResourceHttpMessageConverter처럼 힙 버퍼로 복사
+ * - transferTo: FileChannel.transferTo (Linux에서는 sendfile, 페이지 캐시 → 소켓 직접 복사)
+ *
+ * 실행: make benchmark BENCH=FileDownloadBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileDownloadBenchmark {
+
+    @Param({"1", "16", "48"})
+    private int fileSizeMb;
+
+    private Path file;
+    private ServerSocketChannel server;
+    private SocketChannel sender;
+    private Thread drainer;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("download-bench", ".bin");
+        byte[] chunk = new byte[1024 * 1024];
+        new Random(42).nextBytes(chunk);
+        try (OutputStream out = Files.newOutputStream(file)) {
+            for (int i = 0; i < fileSizeMb; i++) {
+                out.write(chunk);
+            }
+        }
+
+        server = ServerSocketChannel.open().bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        sender = SocketChannel.open(server.getLocalAddress());
+        SocketChannel receiver = server.accept();
+        drainer = new Thread(() -> drain(receiver), "download-bench-drain");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException, InterruptedException {
+        sender.close();
+        drainer.join(1000);
+        server.close();
+        Files.deleteIfExists(file);
+    }
+
+    private static void drain(SocketChannel receiver) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(256 * 1024);
+        try (receiver) {
+            while (receiver.read(buffer) >= 0) {
+                buffer.clear();
+            }
+        } catch (IOException ignored) {
+            // 벤치마크 종료
+        }
+    }
+
+    @Benchmark
+    public long resourceStreamCopy() throws IOException {
+        UrlResource resource = new UrlResource(file.toUri());
+        try (InputStream in = resource.getInputStream()) {
+            return StreamUtils.copy(in, Channels.newOutputStream(sender));
+        }
+    }
+
+    @Benchmark
+    public long transferTo() throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, sender);
+            }
+            return position;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(FileDownloadBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
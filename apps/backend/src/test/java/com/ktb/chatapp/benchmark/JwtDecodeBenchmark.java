@@ -0,0 +1,90 @@
+package com.ktb.chatapp.benchmark;
+
+import com.ktb.chatapp.security.CachingJwtDecoder;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.*;
+
+/**
+ * JWT 디코드 처리량 비교 (NimbusJwtDecoder 단독 vs CachingJwtDecoder)
+ *
+ * 실행: make benchmark BENCH=JwtDecodeBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtDecodeBenchmark {
+
+    private static final String SECRET = "benchmarksecretbenchmarksecretbenchmarksecret1234";
+
+    /**
+     * 요청에 섞여 들어오는 서로 다른 토큰 수 (동시 접속 사용자 수에 해당)
+     */
+    @Param({"1", "1000"})
+    private int distinctTokens;
+
+    private JwtDecoder nimbusDecoder;
+    private JwtDecoder cachingDecoder;
+    private String[] tokens;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        SecretKeySpec key = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        JwtEncoder encoder = new NimbusJwtEncoder(new ImmutableSecret<>(key));
+
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withSecretKey(key)
+                .macAlgorithm(MacAlgorithm.HS256)
+                .build();
+        decoder.setJwtValidator(JwtValidators.createDefault());
+        nimbusDecoder = decoder;
+        cachingDecoder = new CachingJwtDecoder(decoder, 10_000, Duration.ofMinutes(5));
+
+        tokens = new String[distinctTokens];
+        Instant now = Instant.now();
+        for (int i = 0; i < distinctTokens; i++) {
+            JwtClaimsSet claims = JwtClaimsSet.builder()
+                    .subject("user" + i + "@example.com")
+                    .issuedAt(now)
+                    .expiresAt(now.plus(Duration.ofHours(1)))
+                    .claim("sessionId", "session-" + i)
+                    .claim("userId", "user-" + i)
+                    .build();
+            tokens[i] = encoder.encode(JwtEncoderParameters.from(
+                    JwsHeader.with(MacAlgorithm.HS256).build(), claims)).getTokenValue();
+        }
+    }
+
+    private String nextToken() {
+        cursor = (cursor + 1) % tokens.length;
+        return tokens[cursor];
+    }
+
+    @Benchmark
+    public Jwt nimbus() {
+        return nimbusDecoder.decode(nextToken());
+    }
+
+    @Benchmark
+    public Jwt cached() {
+        return cachingDecoder.decode(nextToken());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtDecodeBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
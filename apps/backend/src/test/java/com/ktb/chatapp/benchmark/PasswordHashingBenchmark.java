@@ -0,0 +1,65 @@
+package com.ktb.chatapp.benchmark;
+
+import com.ktb.chatapp.security.PooledPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 로그인 비밀번호 검증 처리량
+ *
+ * - direct: 단일 스레드에서 BCrypt 검증 → 코어당 초당 로그인 수
+ * - pooled: 64개 요청 스레드가 PooledPasswordEncoder로 검증 → 풀 크기(코어 수)로 제한된 전체 처리량
+ *
+ * 실행: make benchmark BENCH=PasswordHashingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+    @Param({"10", "12"})
+    private int strength;
+
+    private BCryptPasswordEncoder bcrypt;
+    private PooledPasswordEncoder pooled;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        bcrypt = new BCryptPasswordEncoder(strength);
+        pooled = new PooledPasswordEncoder(bcrypt, Runtime.getRuntime().availableProcessors(), 1024,
+                new SimpleMeterRegistry());
+        encoded = bcrypt.encode("benchmark-password");
+    }
+
+    @TearDown
+    public void tearDown() {
+        pooled.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean direct() {
+        return bcrypt.matches("benchmark-password", encoded);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean pooled() {
+        return pooled.matches("benchmark-password", encoded);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PasswordHashingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,122 @@
+package com.ktb.chatapp.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ktb.chatapp.codec.CompactRedisSerializer;
+import com.ktb.chatapp.codec.ValueCodecs;
+import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.model.RateLimit;
+import com.ktb.chatapp.model.Session;
+import com.ktb.chatapp.service.SessionMetadata;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Redis 값 직렬화 비교 (기존 GenericJackson2Json + default typing vs 바이너리 코덱)
+ * 값별 직렬화 크기는 setup 시 출력한다.
+ *
+ * 실행: make benchmark BENCH=RedisValueCodecBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedisValueCodecBenchmark {
+
+    @Param({"session", "rateLimit", "userResponse", "roomIds"})
+    private String valueType;
+
+    private RedisSerializer<Object> json;
+    private RedisSerializer<Object> compact;
+    private Object value;
+    private byte[] jsonBytes;
+    private byte[] compactBytes;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.activateDefaultTyping(
+                objectMapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY);
+        json = new GenericJackson2JsonRedisSerializer(objectMapper);
+        compact = new CompactRedisSerializer(ValueCodecs.defaults(), json);
+
+        value = switch (valueType) {
+            case "session" -> Session.builder()
+                    .userId("6750a1b2c3d4e5f601234567")
+                    .sessionId("3f2b8c1e-9a4d-4e6f-8b7a-1c2d3e4f5a6b")
+                    .createdAt(System.currentTimeMillis())
+                    .lastActivity(System.currentTimeMillis())
+                    .metadata(new SessionMetadata(
+                            "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36",
+                            "10.0.12.34", "desktop"))
+                    .expiresAt(Instant.now().plus(Duration.ofMinutes(30)))
+                    .build();
+            case "rateLimit" -> RateLimit.builder()
+                    .clientId("10.0.12.34")
+                    .count(42)
+                    .expiresAt(Instant.now().plus(Duration.ofMinutes(1)))
+                    .build();
+            case "userResponse" -> UserResponse.builder()
+                    .id("6750a1b2c3d4e5f601234567")
+                    .name("benchmark user")
+                    .email("benchmark@example.com")
+                    .profileImage("/uploads/profiles/6750a1b2c3d4e5f601234567.png")
+                    .build();
+            case "roomIds" -> {
+                HashSet<String> roomIds = new HashSet<>();
+                for (int i = 0; i < 20; i++) {
+                    roomIds.add("6750a1b2c3d4e5f6012345" + (10 + i));
+                }
+                yield roomIds;
+            }
+            default -> throw new IllegalArgumentException(valueType);
+        };
+
+        jsonBytes = json.serialize(value);
+        compactBytes = compact.serialize(value);
+        System.out.printf("%n[%s] payload bytes - json: %d, compact: %d%n",
+                valueType, jsonBytes.length, compactBytes.length);
+    }
+
+    @Benchmark
+    public byte[] jsonSerialize() {
+        return json.serialize(value);
+    }
+
+    @Benchmark
+    public byte[] compactSerialize() {
+        return compact.serialize(value);
+    }
+
+    @Benchmark
+    public Object jsonDeserialize() {
+        return json.deserialize(jsonBytes);
+    }
+
+    @Benchmark
+    public Object compactDeserialize() {
+        return compact.deserialize(compactBytes);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RedisValueCodecBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,212 @@
+package com.ktb.chatapp.benchmark;
+
+import com.ktb.chatapp.websocket.socketio.ConsistentHashRing;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 방 affinity 라우팅 시뮬레이션 (로컬, 인메모리 다중 노드 모델)
+ * NginX 설정과 같은 12개 노드에 연결을 배치하고, 메시지마다 발신 노드 밖으로 나가야 하는 전달량을 비교한다.
+ *
+ * - ip_hash: 방과 무관하게 연결이 노드에 고르게 흩어진다. (기존 설정)
+ * - affinity: 연결은 보고 있는 방(primary room)의 소유 노드에 붙는다. (ConsistentHashRing, NginX hash consistent)
+ *
+ * 모델:
+ * - 방 인기도는 Zipf 분포, 연결마다 primary room 하나와 이전에 입장해 구독 중인 secondary room 여러 개
+ * - 메시지 발신자는 무작위 연결이며, primary-ratio 확률로 primary room, 나머지는 secondary room에 보낸다
+ *
+ * 지표:
+ * - cross-node: 수신자 중 발신 노드가 아닌 노드에 있는 비율 (Redis pub/sub을 거쳐야 하는 전달)
+ * - remote nodes/msg: 메시지당 수신자가 있는 다른 노드 수 (방 단위 버스라면 publish가 필요한 노드 수)
+ * - local-only: 모든 수신자가 발신 노드에 있는 메시지 비율
+ * - max load: 연결이 가장 많은 노드의 연결 수 / 평균 (인기 방이 한 노드에 몰리는 정도)
+ *
+ * 실행: make simulate-affinity
+ * 옵션: -Dsim.rooms=2000 -Dsim.connections=50000 -Dsim.messages=200000 -Dsim.primary-ratio=0.9 -Dsim.seed=42
+ */
+public class RoomAffinitySimulation {
+
+    private static final List<String> NODES = List.of(
+            "10.0.101.178:5002", "10.0.102.40:5002", "10.0.101.157:5002", "10.0.102.208:5002",
+            "10.0.101.248:5002", "10.0.102.29:5002", "10.0.101.213:5002", "10.0.102.125:5002",
+            "10.0.101.47:5002", "10.0.102.63:5002", "10.0.101.214:5002", "10.0.102.212:5002");
+
+    private static final int[] SECONDARY_ROOMS = {0, 1, 3};
+
+    public static void main(String[] args) {
+        int rooms = Integer.getInteger("sim.rooms", 2000);
+        int connections = Integer.getInteger("sim.connections", 50000);
+        int messages = Integer.getInteger("sim.messages", 200000);
+        double primaryRatio = Double.parseDouble(System.getProperty("sim.primary-ratio", "0.9"));
+        long seed = Long.getLong("sim.seed", 42);
+
+        ConsistentHashRing ring = new ConsistentHashRing(NODES);
+        System.out.printf("nodes=%d rooms=%d connections=%d messages=%d primary-ratio=%.2f%n%n",
+                NODES.size(), rooms, connections, messages, primaryRatio);
+        System.out.printf("%-10s %-10s %12s %18s %12s %10s%n",
+                "secondary", "placement", "cross-node", "remote nodes/msg", "local-only", "max load");
+
+        for (int secondary : SECONDARY_ROOMS) {
+            Population population = Population.generate(rooms, connections, secondary, new Random(seed));
+            int[] ipHash = population.placeByIp(new Random(seed + 1));
+            int[] affinity = population.placeByPrimaryRoom(ring);
+
+            Result baseline = simulate(population, ipHash, messages, primaryRatio, new Random(seed + 2));
+            Result routed = simulate(population, affinity, messages, primaryRatio, new Random(seed + 2));
+            print(secondary, "ip_hash", baseline);
+            print(secondary, "affinity", routed);
+            System.out.printf("%-10s %-10s %11.1f%%%n%n", "", "reduction",
+                    100 * (1 - routed.crossNodeRatio() / baseline.crossNodeRatio()));
+        }
+
+        // 노드 하나가 빠질 때 소유 노드가 바뀌는 방 비율 (consistent hashing이면 약 1/N)
+        Population population = Population.generate(rooms, 0, 0, new Random(seed));
+        ConsistentHashRing drained = new ConsistentHashRing(NODES.subList(1, NODES.size()));
+        long moved = population.roomIds.stream()
+                .filter(roomId -> !ring.nodeFor(roomId).equals(drained.nodeFor(roomId)))
+                .count();
+        System.out.printf("rooms moved when one node leaves: %.1f%% (1/N = %.1f%%)%n",
+                100.0 * moved / rooms, 100.0 / NODES.size());
+    }
+
+    private static Result simulate(Population population, int[] nodeOf, int messages, double primaryRatio, Random random) {
+        int[][] roomNodes = population.membersPerNode(nodeOf, NODES.size());
+        long deliveries = 0;
+        long crossNode = 0;
+        long remoteNodes = 0;
+        long localOnly = 0;
+
+        for (int i = 0; i < messages; i++) {
+            int sender = random.nextInt(population.primary.length);
+            int[] secondary = population.secondary[sender];
+            int room = secondary.length == 0 || random.nextDouble() < primaryRatio
+                    ? population.primary[sender]
+                    : secondary[random.nextInt(secondary.length)];
+            int senderNode = nodeOf[sender];
+
+            int remote = 0;
+            for (int node = 0; node < NODES.size(); node++) {
+                int members = roomNodes[room][node];
+                deliveries += members;
+                if (node != senderNode && members > 0) {
+                    crossNode += members;
+                    remote++;
+                }
+            }
+            remoteNodes += remote;
+            if (remote == 0) {
+                localOnly++;
+            }
+        }
+        int[] load = new int[NODES.size()];
+        for (int node : nodeOf) {
+            load[node]++;
+        }
+        double maxLoad = Arrays.stream(load).max().orElse(0) * NODES.size() / (double) nodeOf.length;
+        return new Result((double) crossNode / deliveries, (double) remoteNodes / messages,
+                (double) localOnly / messages, maxLoad);
+    }
+
+    private static void print(int secondary, String placement, Result result) {
+        System.out.printf("%-10d %-10s %11.1f%% %18.2f %11.1f%% %9.2fx%n", secondary, placement,
+                100 * result.crossNodeRatio(), result.remoteNodesPerMessage(), 100 * result.localOnlyRatio(),
+                result.maxLoad());
+    }
+
+    private record Result(double crossNodeRatio, double remoteNodesPerMessage, double localOnlyRatio, double maxLoad) {
+    }
+
+    /**
+     * 방과 연결의 구독 관계
+     */
+    private static final class Population {
+        private final List<String> roomIds;
+        private final int[] primary;
+        private final int[][] secondary;
+
+        private Population(List<String> roomIds, int[] primary, int[][] secondary) {
+            this.roomIds = roomIds;
+            this.primary = primary;
+            this.secondary = secondary;
+        }
+
+        static Population generate(int rooms, int connections, int secondaryRooms, Random random) {
+            List<String> roomIds = new ArrayList<>(rooms);
+            byte[] objectId = new byte[12];
+            for (int i = 0; i < rooms; i++) {
+                random.nextBytes(objectId);
+                roomIds.add(HexFormat.of().formatHex(objectId));
+            }
+
+            // Zipf(s=1) 누적 분포
+            double[] cumulative = new double[rooms];
+            double sum = 0;
+            for (int rank = 0; rank < rooms; rank++) {
+                sum += 1.0 / (rank + 1);
+                cumulative[rank] = sum;
+            }
+
+            int[] primary = new int[connections];
+            int[][] secondary = new int[connections][];
+            for (int c = 0; c < connections; c++) {
+                primary[c] = sample(cumulative, random);
+                int count = Math.min(secondaryRooms, rooms - 1);
+                int[] joined = new int[count];
+                for (int j = 0; j < count; j++) {
+                    int room;
+                    do {
+                        room = sample(cumulative, random);
+                    } while (room == primary[c] || contains(joined, j, room));
+                    joined[j] = room;
+                }
+                secondary[c] = joined;
+            }
+            return new Population(roomIds, primary, secondary);
+        }
+
+        int[] placeByIp(Random random) {
+            int[] nodeOf = new int[primary.length];
+            for (int c = 0; c < nodeOf.length; c++) {
+                nodeOf[c] = random.nextInt(NODES.size());
+            }
+            return nodeOf;
+        }
+
+        int[] placeByPrimaryRoom(ConsistentHashRing ring) {
+            int[] nodeOf = new int[primary.length];
+            for (int c = 0; c < nodeOf.length; c++) {
+                nodeOf[c] = NODES.indexOf(ring.nodeFor(roomIds.get(primary[c])));
+            }
+            return nodeOf;
+        }
+
+        int[][] membersPerNode(int[] nodeOf, int nodes) {
+            int[][] counts = new int[roomIds.size()][nodes];
+            for (int c = 0; c < primary.length; c++) {
+                counts[primary[c]][nodeOf[c]]++;
+                for (int room : secondary[c]) {
+                    counts[room][nodeOf[c]]++;
+                }
+            }
+            return counts;
+        }
+
+        private static int sample(double[] cumulative, Random random) {
+            double target = random.nextDouble() * cumulative[cumulative.length - 1];
+            int index = Arrays.binarySearch(cumulative, target);
+            return index >= 0 ? index : -index - 1;
+        }
+
+        private static boolean contains(int[] values, int length, int value) {
+            for (int i = 0; i < length; i++) {
+                if (values[i] == value) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.ktb.chatapp.benchmark;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.protocol.EngineIOVersion;
+import com.corundumstudio.socketio.protocol.Packet;
+import com.corundumstudio.socketio.protocol.PacketType;
+import com.ktb.chatapp.websocket.socketio.ShardedFanout;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 큰 방 브로드캐스트의 노드 내 전송 비용 비교
+ * (기존 호출 스레드 순차 전송 vs ShardedFanout의 lane별 병렬 전송)
+ *
+ * client.send는 채널 큐에 패킷을 넣고 event loop에 write 작업을 예약하는 정도의 비용(send-cost 토큰)으로 흉내 낸다.
+ * 측정값은 마지막 참여자까지 전송이 끝날 때까지의 시간이며,
+ * sharded 모드에서 호출 스레드(배치 스케줄러, pub/sub 수신 스레드)는 shard를 나눈 직후 반환된다.
+ *
+ * 실행: make benchmark BENCH=RoomFanoutBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoomFanoutBenchmark {
+
+    @Param({"1000", "5000", "10000"})
+    private int members;
+
+    @Param({"inline", "sharded"})
+    private String mode;
+
+    @Param({"4"})
+    private int lanes;
+
+    @Param({"200"})
+    private int sendCost;
+
+    private ShardedFanout fanout;
+    private List<SocketIOClient> clients;
+    private Packet packet;
+
+    @Setup
+    public void setUp() {
+        int threshold = "sharded".equals(mode) ? 500 : Integer.MAX_VALUE;
+        fanout = new ShardedFanout(new SimpleMeterRegistry(), lanes, threshold);
+
+        clients = new ArrayList<>(members);
+        for (int i = 0; i < members; i++) {
+            clients.add(client(UUID.randomUUID(), sendCost));
+        }
+
+        packet = new Packet(PacketType.MESSAGE, EngineIOVersion.UNKNOWN);
+        packet.setSubType(PacketType.EVENT);
+        packet.setName("message");
+        packet.setData(List.of("payload"));
+    }
+
+    /**
+     * 방 전체에 메시지 하나 전송 (RoomMessageBatcher, DISPATCH 수신)
+     */
+    @Benchmark
+    public void broadcast() {
+        fanout.deliver(clients, packet).join();
+    }
+
+    private static SocketIOClient client(UUID sessionId, int sendCost) {
+        return (SocketIOClient) Proxy.newProxyInstance(
+                SocketIOClient.class.getClassLoader(),
+                new Class<?>[]{SocketIOClient.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getSessionId" -> sessionId;
+                    case "getEngineIOVersion" -> EngineIOVersion.V4;
+                    case "send" -> {
+                        Blackhole.consumeCPU(sendCost);
+                        yield null;
+                    }
+                    case "hashCode" -> sessionId.hashCode();
+                    case "equals" -> proxy == args[0];
+                    default -> null;
+                });
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RoomFanoutBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,117 @@
+package com.ktb.chatapp.benchmark;
+
+import com.corundumstudio.socketio.Configuration;
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.Transport;
+import com.corundumstudio.socketio.handler.ClientHead;
+import com.corundumstudio.socketio.namespace.Namespace;
+import com.corundumstudio.socketio.store.RedissonStoreFactory;
+import com.corundumstudio.socketio.store.StoreFactory;
+import com.corundumstudio.socketio.transport.NamespaceClient;
+import com.ktb.chatapp.websocket.socketio.NodeLocalStoreFactory;
+import com.ktb.chatapp.websocket.socketio.SocketUser;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.testcontainers.containers.GenericContainer;
+
+/**
+ * 소켓 핸들러 진입부의 사용자 조회 비용 비교
+ * (기존 RedissonStoreFactory vs NodeLocalStoreFactory)
+ *
+ * 서버와 같은 경로로 측정한다: StoreFactory가 만든 Store를 가진 ClientHead를 NamespaceClient로 감싸고,
+ * 핸들러의 getUserId/getUserName처럼 client.get("user")을 호출한다.
+ * redisson 파라미터는 -Dbench.redis.address가 있으면 그 Redis를, 없으면 Testcontainers로 띄운 Redis를 쓴다 (Docker 필요).
+ *
+ * 실행: make benchmark BENCH=SocketClientStoreBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SocketClientStoreBenchmark {
+
+    @Param({"memory", "redisson"})
+    private String store;
+
+    private GenericContainer<?> redis;
+    private RedissonClient redissonClient;
+    private SocketIOClient client;
+    private final SocketUser user = new SocketUser("user-1", "tester", "session-1", "socket-1");
+
+    @Setup
+    public void setUp() {
+        StoreFactory storeFactory;
+        if ("redisson".equals(store)) {
+            redissonClient = Redisson.create(redisConfig());
+            storeFactory = new RedissonStoreFactory(redissonClient);
+        } else {
+            storeFactory = new NodeLocalStoreFactory(null);
+        }
+
+        // 핸드셰이크 이후 서버가 만드는 것과 같은 구성 (Store는 ClientHead 생성 시 StoreFactory에서 받는다)
+        Configuration configuration = new Configuration();
+        ClientHead head = new ClientHead(UUID.randomUUID(), null, null, storeFactory, null, null,
+                Transport.WEBSOCKET, null, configuration, Map.of());
+        client = new NamespaceClient(head, new Namespace("", configuration));
+        client.set("user", user);
+    }
+
+    private Config redisConfig() {
+        String address = System.getProperty("bench.redis.address");
+        if (address == null) {
+            redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+            redis.start();
+            address = "redis://" + redis.getHost() + ":" + redis.getMappedPort(6379);
+        }
+        Config config = new Config();
+        config.useSingleServer().setAddress(address);
+        return config;
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (redissonClient != null) {
+            client.del("user");
+            redissonClient.shutdown();
+        }
+        if (redis != null) {
+            redis.stop();
+        }
+    }
+
+    /**
+     * 이벤트 핸들러 진입부: getUserId, getUserName이 각각 client.get("user")을 호출한다 (RoomJoinHandler 등)
+     */
+    @Benchmark
+    public void handlerGetUser(Blackhole blackhole) {
+        SocketUser forId = client.get("user");
+        blackhole.consume(forId != null ? forId.id() : null);
+        SocketUser forName = client.get("user");
+        blackhole.consume(forName != null ? forName.name() : null);
+    }
+
+    /**
+     * 연결 시 사용자 저장 (ConnectionLoginHandler)
+     */
+    @Benchmark
+    public void connectSetUser() {
+        client.set("user", user);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SocketClientStoreBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,134 @@
+package com.ktb.chatapp.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TwoTierCacheManagerTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RTopic evictionTopic;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrentMapCacheManager remoteCacheManager;
+    private TwoTierCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        when(redissonClient.getTopic("cache:evict", StringCodec.INSTANCE)).thenReturn(evictionTopic);
+        meterRegistry = new SimpleMeterRegistry();
+        remoteCacheManager = new ConcurrentMapCacheManager();
+        remoteCacheManager.setAllowNullValues(false);
+        cacheManager = new TwoTierCacheManager(remoteCacheManager, redissonClient, meterRegistry,
+                name -> new TwoTierCacheManager.CacheSpec(100, Duration.ofSeconds(30)));
+    }
+
+    private double localGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tags("cache", "users.l1", "result", result)
+                .functionCounter().count();
+    }
+
+    private double remoteGets(String result) {
+        return meterRegistry.get("cache.l2.gets")
+                .tags("cache", "users", "result", result)
+                .counter().count();
+    }
+
+    @Test
+    @DisplayName("L2에서 찾은 값은 L1에 채워져 다음 조회는 L2를 거치지 않는다")
+    void remoteHit_populatesLocal() {
+        Cache cache = cacheManager.getCache("users");
+        remoteCacheManager.getCache("users").put("user-1", "profile");
+
+        assertThat(cache.get("user-1", String.class)).isEqualTo("profile");
+        remoteCacheManager.getCache("users").evict("user-1");
+        assertThat(cache.get("user-1", String.class)).isEqualTo("profile");
+
+        assertThat(remoteGets("hit")).isEqualTo(1.0);
+        assertThat(localGets("hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("값 로더 결과는 L1과 L2에 모두 저장된다")
+    void valueLoader_writesThroughBothTiers() {
+        Cache cache = cacheManager.getCache("users");
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get("user-1", () -> "profile-" + loads.incrementAndGet())).isEqualTo("profile-1");
+        assertThat(cache.get("user-1", () -> "profile-" + loads.incrementAndGet())).isEqualTo("profile-1");
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(remoteCacheManager.getCache("users").get("user-1", String.class)).isEqualTo("profile-1");
+        assertThat(remoteGets("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("evict는 두 계층에서 제거하고 다른 노드에 전파한다")
+    void evict_removesBothTiersAndPublishes() {
+        Cache cache = cacheManager.getCache("users");
+        cache.put("user-1", "profile");
+
+        cache.evict("user-1");
+
+        assertThat(cache.get("user-1")).isNull();
+        assertThat(remoteCacheManager.getCache("users").get("user-1")).isNull();
+        verify(evictionTopic).publish(endsWith(":evict:users:user-1"));
+    }
+
+    @Test
+    @DisplayName("다른 노드의 삭제 전파는 L1에서만 제거한다")
+    void remoteEviction_removesLocalOnly() {
+        Cache cache = cacheManager.getCache("users");
+        cache.put("user-1", "profile");
+        remoteCacheManager.getCache("users").put("user-1", "updated");
+
+        cacheManager.onEviction("other-node:evict:users:user-1");
+
+        assertThat(cache.get("user-1", String.class)).isEqualTo("updated");
+        verify(evictionTopic, never()).publish(startsWith("other-node"));
+    }
+
+    @Test
+    @DisplayName("2단계 캐시 메트릭은 다른 Caffeine 캐시 메트릭과 함께 Prometheus로 노출된다")
+    void metrics_coexistWithOtherCachesInPrometheus() {
+        PrometheusMeterRegistry prometheus = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        // SessionNearCacheStore, CachingJwtDecoder 등이 먼저 등록한 경우
+        CaffeineCacheMetrics.monitor(prometheus, Caffeine.newBuilder().recordStats().build(), "session.near");
+        Cache cache = new TwoTierCacheManager(remoteCacheManager, redissonClient, prometheus,
+                name -> new TwoTierCacheManager.CacheSpec(100, Duration.ofSeconds(30))).getCache("users");
+
+        cache.get("user-1", () -> "profile");
+        cache.get("user-1", () -> "profile");
+
+        String scrape = prometheus.scrape();
+        assertThat(scrape)
+                .contains("cache_gets_total{cache=\"session.near\",result=\"hit\"}")
+                .contains("cache_gets_total{cache=\"users.l1\",result=\"hit\"} 1.0")
+                .contains("cache_l2_gets_total{cache=\"users\",result=\"miss\"} 1.0");
+    }
+}
@@ -0,0 +1,108 @@
+package com.ktb.chatapp.codec;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.model.RateLimit;
+import com.ktb.chatapp.model.Session;
+import com.ktb.chatapp.model.User;
+import com.ktb.chatapp.service.SessionMetadata;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactRedisSerializerTest {
+
+    private final GenericJackson2JsonRedisSerializer json = jsonSerializer();
+    private final CompactRedisSerializer serializer = new CompactRedisSerializer(ValueCodecs.defaults(), json);
+
+    private static GenericJackson2JsonRedisSerializer jsonSerializer() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.activateDefaultTyping(
+                objectMapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY);
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
+
+    private static Session session() {
+        return Session.builder()
+                .userId("user-1")
+                .sessionId("session-1")
+                .createdAt(1_700_000_000_000L)
+                .lastActivity(1_700_000_060_000L)
+                .metadata(new SessionMetadata("Mozilla/5.0", "10.0.0.1", null))
+                .expiresAt(Instant.parse("2026-01-01T00:30:00.123456789Z"))
+                .build();
+    }
+
+    @Test
+    @DisplayName("등록된 타입은 바이너리로 왕복 변환되고 JSON보다 작다")
+    void registeredTypes_roundTrip() {
+        User user = new User();
+        user.setId("user-1");
+        user.setName("홍길동");
+        user.setEmail("hong@example.com");
+        user.setPassword("$2a$10$hash");
+        user.setCreatedAt(LocalDateTime.of(2025, 1, 1, 9, 0, 0, 500));
+        user.setOnline(true);
+
+        List<Object> values = List.of(
+                session(),
+                RateLimit.builder().clientId("127.0.0.1").count(3).expiresAt(Instant.now()).build(),
+                user,
+                UserResponse.builder().id("user-1").name("홍길동").email("hong@example.com").profileImage("").build(),
+                new HashSet<>(Set.of("room-1", "room-2")));
+
+        for (Object value : values) {
+            byte[] bytes = serializer.serialize(value);
+
+            assertThat(bytes[0]).isEqualTo(ValueCodecRegistry.MAGIC);
+            assertThat(bytes.length).isLessThan(json.serialize(value).length);
+            assertThat(serializer.deserialize(bytes)).isEqualTo(value);
+        }
+    }
+
+    @Test
+    @DisplayName("배포 전에 JSON으로 저장된 값도 읽을 수 있다")
+    void legacyJson_isStillReadable() {
+        Session session = session();
+
+        assertThat(serializer.deserialize(json.serialize(session))).isEqualTo(session);
+    }
+
+    @Test
+    @DisplayName("코덱이 없는 타입은 JSON 그대로 저장한다")
+    void unregisteredTypes_fallBackToJson() {
+        assertThat(serializer.serialize("session-1")).isEqualTo(json.serialize("session-1"));
+        assertThat(serializer.deserialize(serializer.serialize("session-1"))).isEqualTo("session-1");
+        assertThat(serializer.serialize(new HashSet<>(Set.of(1L)))).isEqualTo(json.serialize(new HashSet<>(Set.of(1L))));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 태그나 버전은 직렬화 예외로 처리한다")
+    void unknownTagOrVersion_fails() {
+        byte[] bytes = serializer.serialize(session());
+
+        byte[] unknownTag = bytes.clone();
+        unknownTag[1] = 99;
+        assertThatThrownBy(() -> serializer.deserialize(unknownTag)).isInstanceOf(SerializationException.class);
+
+        byte[] unknownVersion = bytes.clone();
+        unknownVersion[2] = 99;
+        assertThatThrownBy(() -> serializer.deserialize(unknownVersion)).isInstanceOf(SerializationException.class);
+    }
+}
@@ -0,0 +1,248 @@
+package com.ktb.chatapp.config;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 in-process S3 호환 서버 (path-style: /{bucket}/{key})
+ * Docker 없이 S3Client/S3Presigner 연동을 검증하기 위한 최소 구현이다.
+ *
+ * - PUT: 객체 저장 (aws-chunked 스트리밍 본문 디코딩 포함)
+ * - multipart upload: 시작(POST ?uploads), 파트 업로드(PUT ?partNumber&uploadId), 완료(POST ?uploadId), 중단(DELETE ?uploadId)
+ * - GET: 서명 헤더 또는 presigned 쿼리(X-Amz-Signature)가 있어야 하며, presigned URL 만료 시 403
+ *   response-content-type / response-content-disposition 쿼리를 응답 헤더로 반영한다.
+ * - DELETE: 객체 삭제
+ *
+ * 서명 값 자체는 검증하지 않는다.
+ */
+public class FakeS3Server implements AutoCloseable {
+
+    private static final DateTimeFormatter AMZ_DATE = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+            .withZone(ZoneOffset.UTC);
+
+    private final HttpServer server;
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+    private final Map<String, MultipartUpload> uploads = new ConcurrentHashMap<>();
+    private final AtomicInteger uploadIds = new AtomicInteger();
+    private volatile int failingPartNumber = -1;
+
+    public FakeS3Server() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    public URI endpoint() {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    public boolean contains(String bucket, String key) {
+        return objects.containsKey(bucket + "/" + key);
+    }
+
+    public byte[] content(String bucket, String key) {
+        return objects.get(bucket + "/" + key).body();
+    }
+
+    /**
+     * 진행 중(완료/중단되지 않은) multipart upload 수
+     */
+    public int pendingUploads() {
+        return uploads.size();
+    }
+
+    /**
+     * 지정한 파트 번호의 업로드를 500으로 실패시킨다
+     */
+    public void failPart(int partNumber) {
+        this.failingPartNumber = partNumber;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath().substring(1);
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+
+            switch (exchange.getRequestMethod()) {
+                case "POST" -> {
+                    exchange.getRequestBody().readAllBytes();
+                    if (query.containsKey("uploads")) {
+                        String uploadId = "upload-" + uploadIds.incrementAndGet();
+                        uploads.put(uploadId, new MultipartUpload(
+                                path, exchange.getRequestHeaders().getFirst("Content-Type"), new ConcurrentSkipListMap<>()));
+                        sendXml(exchange, "<InitiateMultipartUploadResult><UploadId>" + uploadId
+                                + "</UploadId></InitiateMultipartUploadResult>");
+                    } else if (query.containsKey("uploadId")) {
+                        MultipartUpload upload = uploads.remove(query.get("uploadId"));
+                        if (upload == null) {
+                            exchange.sendResponseHeaders(404, -1);
+                            return;
+                        }
+                        ByteArrayOutputStream assembled = new ByteArrayOutputStream();
+                        upload.parts().values().forEach(assembled::writeBytes);
+                        objects.put(upload.path(), new StoredObject(assembled.toByteArray(), upload.contentType()));
+                        sendXml(exchange, "<CompleteMultipartUploadResult><ETag>\"" + md5Hex(assembled.toByteArray())
+                                + "-" + upload.parts().size() + "\"</ETag></CompleteMultipartUploadResult>");
+                    } else {
+                        exchange.sendResponseHeaders(400, -1);
+                    }
+                }
+                case "PUT" -> {
+                    byte[] body = exchange.getRequestBody().readAllBytes();
+                    String contentSha = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+                    if (contentSha != null && contentSha.startsWith("STREAMING-")) {
+                        body = decodeAwsChunked(body);
+                    }
+                    if (query.containsKey("uploadId")) {
+                        int partNumber = Integer.parseInt(query.get("partNumber"));
+                        MultipartUpload upload = uploads.get(query.get("uploadId"));
+                        if (upload == null || partNumber == failingPartNumber) {
+                            exchange.sendResponseHeaders(upload == null ? 404 : 500, -1);
+                            return;
+                        }
+                        upload.parts().put(partNumber, body);
+                    } else {
+                        objects.put(path, new StoredObject(body, exchange.getRequestHeaders().getFirst("Content-Type")));
+                    }
+                    // SDK는 ETag를 본문 MD5와 비교해 무결성을 검증한다
+                    exchange.getResponseHeaders().set("ETag", "\"" + md5Hex(body) + "\"");
+                    exchange.sendResponseHeaders(200, -1);
+                }
+                case "GET" -> {
+                    if (!isSigned(exchange, query)) {
+                        exchange.sendResponseHeaders(403, -1);
+                        return;
+                    }
+                    StoredObject object = objects.get(path);
+                    if (object == null) {
+                        exchange.sendResponseHeaders(404, -1);
+                        return;
+                    }
+                    String contentType = query.getOrDefault("response-content-type", object.contentType());
+                    if (contentType != null) {
+                        exchange.getResponseHeaders().set("Content-Type", contentType);
+                    }
+                    if (query.containsKey("response-content-disposition")) {
+                        exchange.getResponseHeaders().set("Content-Disposition", query.get("response-content-disposition"));
+                    }
+                    exchange.sendResponseHeaders(200, object.body().length);
+                    try (OutputStream out = exchange.getResponseBody()) {
+                        out.write(object.body());
+                    }
+                }
+                case "DELETE" -> {
+                    if (query.containsKey("uploadId")) {
+                        uploads.remove(query.get("uploadId"));
+                    } else {
+                        objects.remove(path);
+                    }
+                    exchange.sendResponseHeaders(204, -1);
+                }
+                default -> exchange.sendResponseHeaders(405, -1);
+            }
+        }
+    }
+
+    private static void sendXml(HttpExchange exchange, String xml) throws IOException {
+        byte[] body = xml.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static boolean isSigned(HttpExchange exchange, Map<String, String> query) {
+        if (exchange.getRequestHeaders().containsKey("Authorization")) {
+            return true;
+        }
+        if (!query.containsKey("X-Amz-Signature") || !query.containsKey("X-Amz-Date")) {
+            return false;
+        }
+        Instant signedAt = AMZ_DATE.parse(query.get("X-Amz-Date"), Instant::from);
+        long expiresIn = Long.parseLong(query.getOrDefault("X-Amz-Expires", "0"));
+        return Instant.now().isBefore(signedAt.plusSeconds(expiresIn));
+    }
+
+    /**
+     * "{hex-size};chunk-signature=...\r\n{data}\r\n" 반복, 크기 0 청크로 종료
+     */
+    private static byte[] decodeAwsChunked(byte[] body) throws IOException {
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+        InputStream in = new ByteArrayInputStream(body);
+        while (true) {
+            String header = readLine(in);
+            int size = Integer.parseInt(header.split(";")[0].trim(), 16);
+            if (size == 0) {
+                return decoded.toByteArray();
+            }
+            decoded.write(in.readNBytes(size));
+            readLine(in);
+        }
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int b;
+        while ((b = in.read()) != -1 && b != '\n') {
+            if (b != '\r') {
+                line.append((char) b);
+            }
+        }
+        return line.toString();
+    }
+
+    private static String md5Hex(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            query.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    private record StoredObject(byte[] body, String contentType) {
+    }
+
+    private record MultipartUpload(String path, String contentType, Map<Integer, byte[]> parts) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.ktb.chatapp.event;
+
+import com.ktb.chatapp.dto.RoomResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoomEventDispatcherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<String> published = new CopyOnWriteArrayList<>();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private RoomEventDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        dispatcher.shutdown();
+    }
+
+    private RoomEventDispatcher dispatcher(int queueCapacity, CountDownLatch done) {
+        return new RoomEventDispatcher(event -> {
+            published.add(((RoomUpdatedEvent) event).getRoomResponse().getName());
+            done.countDown();
+        }, meterRegistry, 1, queueCapacity);
+    }
+
+    private Supplier<ApplicationEvent> event(String name) {
+        return () -> new RoomUpdatedEvent(this, "room-1", RoomResponse.builder().name(name).build());
+    }
+
+    /**
+     * 첫 이벤트를 만드는 동안 lane을 붙잡아 이후 이벤트가 쌓이게 한다
+     */
+    private Supplier<ApplicationEvent> blockingEvent(String name) {
+        return () -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return event(name).get();
+        };
+    }
+
+    @Test
+    @DisplayName("같은 방의 이벤트는 순서대로 발행하고 연속된 스냅샷 이벤트는 마지막 것만 발행한다")
+    void publish_keepsOrderAndCoalescesConsecutiveSnapshots() throws Exception {
+        CountDownLatch done = new CountDownLatch(4);
+        dispatcher = dispatcher(100, done);
+
+        dispatcher.publish("room-1", blockingEvent("created-1"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        dispatcher.publishLatest("room-1", event("update-1"));
+        dispatcher.publishLatest("room-1", event("update-2"));
+        dispatcher.publishLatest("room-1", event("update-3"));
+        dispatcher.publish("room-1", event("created-2"));
+        dispatcher.publishLatest("room-1", event("update-4"));
+        release.countDown();
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(published).containsExactly("created-1", "update-3", "created-2", "update-4");
+        assertThat(meterRegistry.get("events.dispatch.coalesced").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("대기 이벤트가 queue-capacity를 넘으면 새 이벤트를 버리고 overflow를 기록한다")
+    void publish_dropsWhenQueueIsFull() throws Exception {
+        CountDownLatch done = new CountDownLatch(3);
+        dispatcher = dispatcher(2, done);
+
+        dispatcher.publish("room-1", blockingEvent("created-1"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        dispatcher.publish("room-1", event("created-2"));
+        dispatcher.publish("room-2", event("created-3"));
+        dispatcher.publish("room-3", event("dropped"));
+
+        assertThat(dispatcher.pending()).isEqualTo(2);
+        assertThat(meterRegistry.get("events.dispatch.overflow").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(published).containsExactlyInAnyOrder("created-1", "created-2", "created-3");
+    }
+}
@@ -0,0 +1,70 @@
+package com.ktb.chatapp.security;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingJwtDecoderTest {
+
+    @Mock
+    private JwtDecoder delegate;
+
+    private static Jwt jwt(String token, Instant expiresAt) {
+        return Jwt.withTokenValue(token)
+                .header("alg", "HS256")
+                .claim("userId", "user-1")
+                .issuedAt(Instant.now().minusSeconds(1))
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 검증한다")
+    void decode_cachesVerifiedToken() {
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 100, Duration.ofMinutes(5));
+        Jwt verified = jwt("token-a", Instant.now().plusSeconds(3600));
+        when(delegate.decode("token-a")).thenReturn(verified);
+
+        assertThat(decoder.decode("token-a")).isSameAs(verified);
+        assertThat(decoder.decode("token-a")).isSameAs(verified);
+
+        verify(delegate, times(1)).decode("token-a");
+    }
+
+    @Test
+    @DisplayName("exp가 지난 캐시 항목은 사용하지 않는다")
+    void decode_neverOutlivesExpiration() throws InterruptedException {
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 100, Duration.ofMinutes(5));
+        when(delegate.decode("token-b")).thenReturn(jwt("token-b", Instant.now().plusMillis(200)));
+
+        decoder.decode("token-b");
+        Thread.sleep(300);
+        decoder.decode("token-b");
+
+        verify(delegate, times(2)).decode("token-b");
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 토큰은 캐시하지 않는다")
+    void decode_doesNotCacheFailures() {
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 100, Duration.ofMinutes(5));
+        when(delegate.decode("bad")).thenThrow(new BadJwtException("invalid signature"));
+
+        assertThatThrownBy(() -> decoder.decode("bad")).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> decoder.decode("bad")).isInstanceOf(BadJwtException.class);
+
+        verify(delegate, times(2)).decode("bad");
+    }
+}
@@ -0,0 +1,92 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.repository.FileRepository;
+import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.repository.RoomRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FileAccessCacheTest {
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    private FileAccessCache fileAccessCache;
+
+    private final File file = File.builder()
+            .id("file-1")
+            .filename("video.mp4")
+            .originalname("video.mp4")
+            .mimetype("video/mp4")
+            .size(1024)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        fileAccessCache = new FileAccessCache(fileRepository, messageRepository, roomRepository,
+                new SimpleMeterRegistry(), 100, Duration.ofMinutes(10), Duration.ofSeconds(30));
+        lenient().when(fileRepository.findByFilename("video.mp4")).thenReturn(Optional.of(file));
+        lenient().when(messageRepository.findByFileId("file-1"))
+                .thenReturn(Optional.of(Message.builder().roomId("room-1").build()));
+    }
+
+    @Test
+    @DisplayName("반복 다운로드는 파일/메시지/방 조회 없이 캐시에서 권한을 확인한다")
+    void authorize_cachesTupleAndMembership() {
+        when(roomRepository.existsByIdAndParticipantIdsContains("room-1", "user-1")).thenReturn(true);
+
+        assertThat(fileAccessCache.authorize("video.mp4", "user-1")).isSameAs(file);
+        assertThat(fileAccessCache.authorize("video.mp4", "user-1")).isSameAs(file);
+
+        verify(fileRepository, times(1)).findByFilename("video.mp4");
+        verify(messageRepository, times(1)).findByFileId("file-1");
+        verify(roomRepository, times(1)).existsByIdAndParticipantIdsContains("room-1", "user-1");
+    }
+
+    @Test
+    @DisplayName("참여하지 않은 사용자는 거부되고 거부 결과는 캐시하지 않는다")
+    void authorize_deniesNonParticipantWithoutCaching() {
+        when(roomRepository.existsByIdAndParticipantIdsContains("room-1", "user-2")).thenReturn(false);
+
+        assertThatThrownBy(() -> fileAccessCache.authorize("video.mp4", "user-2"))
+                .hasMessageContaining("권한");
+        assertThatThrownBy(() -> fileAccessCache.authorize("video.mp4", "user-2"))
+                .hasMessageContaining("권한");
+
+        // 파일→방 튜플은 캐시되지만 참여 여부는 매번 확인한다
+        verify(fileRepository, times(1)).findByFilename("video.mp4");
+        verify(roomRepository, times(2)).existsByIdAndParticipantIdsContains("room-1", "user-2");
+    }
+
+    @Test
+    @DisplayName("evict 후에는 파일 정보를 다시 조회한다")
+    void evict_reloadsFile() {
+        when(roomRepository.existsByIdAndParticipantIdsContains("room-1", "user-1")).thenReturn(true);
+
+        fileAccessCache.authorize("video.mp4", "user-1");
+        fileAccessCache.evict("video.mp4");
+        fileAccessCache.authorize("video.mp4", "user-1");
+
+        verify(fileRepository, times(2)).findByFilename("video.mp4");
+    }
+}
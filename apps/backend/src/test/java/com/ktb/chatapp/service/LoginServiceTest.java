@@ -0,0 +1,95 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.User;
+import com.ktb.chatapp.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoginServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private SessionService sessionService;
+
+    @Mock
+    private JwtService jwtService;
+
+    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(5);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SessionMetadata metadata = new SessionMetadata("agent", "127.0.0.1", "agent");
+
+    private LoginService loginService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        loginService = new LoginService(userRepository, passwordEncoder, sessionService, jwtService, meterRegistry);
+        user = User.builder()
+                .id("user-1")
+                .name("tester")
+                .email("tester@example.com")
+                .password(passwordEncoder.encode("password"))
+                .build();
+    }
+
+    @Test
+    @DisplayName("사용자를 한 번만 조회하고 세션 교체 후 토큰을 발급한다")
+    void login_success() {
+        when(userRepository.findByEmail("tester@example.com")).thenReturn(Optional.of(user));
+        when(sessionService.createSession("user-1", metadata))
+                .thenReturn(SessionCreationResult.builder().sessionId("session-1").build());
+        when(jwtService.generateToken("session-1", "tester@example.com", "user-1")).thenReturn("token");
+
+        LoginResult result = loginService.login("Tester@Example.com", "password", metadata);
+
+        assertThat(result.getUser()).isSameAs(user);
+        assertThat(result.getSessionId()).isEqualTo("session-1");
+        assertThat(result.getToken()).isEqualTo("token");
+        verify(userRepository, times(1)).findByEmail(any());
+        verify(userRepository, never()).save(any());
+        assertThat(meterRegistry.get("auth.login.stage.time").tag("stage", "session").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비밀번호가 틀리면 세션을 만들지 않는다")
+    void login_wrongPassword() {
+        when(userRepository.findByEmail("tester@example.com")).thenReturn(Optional.of(user));
+
+        assertThatThrownBy(() -> loginService.login("tester@example.com", "wrong", metadata))
+                .isInstanceOf(BadCredentialsException.class);
+
+        verifyNoInteractions(sessionService, jwtService);
+    }
+
+    @Test
+    @DisplayName("저장된 해시의 strength가 낮으면 로그인 시 재해싱한다")
+    void login_rehashesWeakerHash() {
+        user.setPassword(new BCryptPasswordEncoder(4).encode("password"));
+        when(userRepository.findByEmail("tester@example.com")).thenReturn(Optional.of(user));
+        when(userRepository.save(user)).thenReturn(user);
+        when(sessionService.createSession("user-1", metadata))
+                .thenReturn(SessionCreationResult.builder().sessionId("session-1").build());
+
+        loginService.login("tester@example.com", "password", metadata);
+
+        verify(userRepository).save(user);
+        assertThat(user.getPassword()).startsWith("$2a$05$");
+        assertThat(passwordEncoder.matches("password", user.getPassword())).isTrue();
+    }
+}
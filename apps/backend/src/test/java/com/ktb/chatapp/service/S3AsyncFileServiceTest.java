@@ -0,0 +1,112 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.config.FakeS3Server;
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.repository.FileRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class S3AsyncFileServiceTest {
+
+    private static final String BUCKET = "chat-test";
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @Mock
+    private FileAccessCache fileAccessCache;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private FakeS3Server fakeS3;
+    private S3AsyncFileService s3AsyncFileService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        fakeS3 = new FakeS3Server();
+        s3AsyncFileService = new S3AsyncFileService(fileRepository, fileAccessCache, meterRegistry,
+                BUCKET, "ap-northeast-2", "test", "test", fakeS3.endpoint().toString(),
+                8, Duration.ofSeconds(5), DataSize.ofMegabytes(5), DataSize.ofMegabytes(5), 2);
+        s3AsyncFileService.init();
+
+        lenient().when(fileRepository.save(any(File.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3AsyncFileService.shutdown();
+        fakeS3.close();
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+
+    private double requests(String operation) {
+        return meterRegistry.get("s3.requests")
+                .tags("client", "async", "operation", operation, "result", "success")
+                .timer().count();
+    }
+
+    @Test
+    @DisplayName("비동기 업로드가 완료되면 객체와 메타데이터가 저장된다")
+    void uploadFileAsync_storesObject() throws Exception {
+        byte[] content = randomBytes(1024);
+        MockMultipartFile file = new MockMultipartFile("file", "photo.png", "image/png", content);
+
+        File saved = s3AsyncFileService.uploadFileAsync(file, "user-1").get(10, TimeUnit.SECONDS).getFile();
+
+        assertThat(fakeS3.content(BUCKET, saved.getFilename())).isEqualTo(content);
+        assertThat(saved.getSize()).isEqualTo(1024);
+        assertThat(requests("PutObject")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("s3.requests.in_flight").tag("client", "async").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("임계값 이상 파일은 multipart upload로 나눠 전송한다")
+    void uploadFileAsync_usesMultipartForLargeFiles() throws Exception {
+        byte[] content = randomBytes(11 * 1024 * 1024);
+        MockMultipartFile file = new MockMultipartFile("file", "clip.mp4", "video/mp4", content);
+
+        File saved = s3AsyncFileService.uploadFileAsync(file, "user-1").get(30, TimeUnit.SECONDS).getFile();
+
+        assertThat(fakeS3.content(BUCKET, saved.getFilename())).isEqualTo(content);
+        assertThat(requests("CreateMultipartUpload")).isEqualTo(1.0);
+        assertThat(requests("UploadPart")).isEqualTo(3.0);
+        assertThat(fakeS3.pendingUploads()).isZero();
+    }
+
+    @Test
+    @DisplayName("비동기 삭제는 업로더만 가능하고 S3 객체와 메타데이터를 지운다")
+    void deleteFileAsync_removesObject() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "photo.png", "image/png", randomBytes(100));
+        File saved = s3AsyncFileService.uploadFileAsync(file, "user-1").get(10, TimeUnit.SECONDS).getFile();
+        saved.setId("file-1");
+        when(fileRepository.findById("file-1")).thenReturn(Optional.of(saved));
+
+        assertThat(s3AsyncFileService.deleteFileAsync("file-1", "user-1").get(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(fakeS3.contains(BUCKET, saved.getFilename())).isFalse();
+        verify(fileRepository).delete(saved);
+        verify(fileAccessCache).evict(saved.getFilename());
+    }
+}
@@ -0,0 +1,135 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.config.FakeS3Server;
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.repository.FileRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class S3FileServiceTest {
+
+    private static final String BUCKET = "chat-test";
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @Mock
+    private FileAccessCache fileAccessCache;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private FakeS3Server fakeS3;
+    private S3FileService s3FileService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        fakeS3 = new FakeS3Server();
+        s3FileService = new S3FileService(fileRepository, fileAccessCache, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(s3FileService, "bucketName", BUCKET);
+        ReflectionTestUtils.setField(s3FileService, "region", "ap-northeast-2");
+        ReflectionTestUtils.setField(s3FileService, "accessKey", "test");
+        ReflectionTestUtils.setField(s3FileService, "secretKey", "test");
+        ReflectionTestUtils.setField(s3FileService, "endpoint", fakeS3.endpoint().toString());
+        ReflectionTestUtils.setField(s3FileService, "downloadRedirect", true);
+        ReflectionTestUtils.setField(s3FileService, "presignTtl", Duration.ofMinutes(15));
+        ReflectionTestUtils.setField(s3FileService, "presignRefreshMargin", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(s3FileService, "presignCacheSize", 100L);
+        ReflectionTestUtils.setField(s3FileService, "uploadPartSize", DataSize.ofMegabytes(5));
+        ReflectionTestUtils.setField(s3FileService, "uploadMaxConcurrentParts", 2);
+        ReflectionTestUtils.setField(s3FileService, "uploadThreads", 2);
+        s3FileService.init();
+
+        lenient().when(fileRepository.save(any(File.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3FileService.shutdown();
+        fakeS3.close();
+    }
+
+    private File upload(String content) {
+        MockMultipartFile multipartFile = new MockMultipartFile(
+                "file", "clip.mp4", "video/mp4", content.getBytes(StandardCharsets.UTF_8));
+        return s3FileService.uploadFile(multipartFile, "user-1").getFile();
+    }
+
+    private HttpResponse<String> get(String url) throws Exception {
+        return httpClient.send(HttpRequest.newBuilder(URI.create(url)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    @DisplayName("presigned GET URL로 앱 서버를 거치지 않고 S3에서 직접 내려받는다")
+    void presignedDownloadUrl_servesObjectFromS3() throws Exception {
+        File file = upload("video-bytes");
+        String disposition = "attachment; filename*=UTF-8''clip.mp4";
+
+        String url = s3FileService.generatePresignedDownloadUrl(file, disposition);
+        HttpResponse<String> response = get(url);
+
+        assertThat(url).contains("X-Amz-Signature=");
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).isEqualTo("video-bytes");
+        assertThat(response.headers().firstValue("Content-Type")).hasValue("video/mp4");
+        assertThat(response.headers().firstValue("Content-Disposition")).hasValue(disposition);
+    }
+
+    @Test
+    @DisplayName("만료 전까지는 같은 presigned URL을 재사용하고 Content-Disposition별로 구분한다")
+    void presignedDownloadUrl_isCachedPerDisposition() throws Exception {
+        File file = upload("video-bytes");
+
+        String download = s3FileService.generatePresignedDownloadUrl(file, "attachment");
+        Thread.sleep(1100); // X-Amz-Date가 바뀌어도 캐시된 URL을 반환해야 한다
+        String again = s3FileService.generatePresignedDownloadUrl(file, "attachment");
+        String inline = s3FileService.generatePresignedDownloadUrl(file, "inline");
+
+        assertThat(again).isEqualTo(download);
+        assertThat(inline).isNotEqualTo(download);
+    }
+
+    @Test
+    @DisplayName("서명 없는 원본 객체 URL은 거부된다")
+    void rawObjectUrl_isRejected() throws Exception {
+        File file = upload("video-bytes");
+
+        assertThat(fakeS3.contains(BUCKET, file.getFilename())).isTrue();
+        assertThat(get(file.getPath()).statusCode()).isEqualTo(403);
+    }
+
+    @Test
+    @DisplayName("스트리밍 업로드는 요청 본문을 S3에 저장하고 실제 전송 크기로 메타데이터를 남긴다")
+    void uploadFileStream_storesObjectAndMetadata() {
+        byte[] content = "streamed-video".getBytes(StandardCharsets.UTF_8);
+
+        File file = s3FileService.uploadFileStream(
+                new ByteArrayInputStream(content), "clip.mp4", "video/mp4", -1, "user-1").getFile();
+
+        assertThat(fakeS3.content(BUCKET, file.getFilename())).isEqualTo(content);
+        assertThat(file.getSize()).isEqualTo(content.length);
+        assertThat(file.getOriginalname()).isEqualTo("clip.mp4");
+        assertThat(file.getUser()).isEqualTo("user-1");
+    }
+}
@@ -0,0 +1,95 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.config.FakeS3Server;
+import java.io.ByteArrayInputStream;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class S3MultipartUploaderTest {
+
+    private static final String BUCKET = "chat-test";
+    private static final int PART_SIZE = S3MultipartUploader.MIN_PART_SIZE;
+
+    private FakeS3Server fakeS3;
+    private S3Client s3Client;
+    private ExecutorService executor;
+    private S3MultipartUploader uploader;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        fakeS3 = new FakeS3Server();
+        s3Client = S3Client.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")))
+                .endpointOverride(fakeS3.endpoint())
+                .forcePathStyle(true)
+                .build();
+        executor = Executors.newFixedThreadPool(2);
+        uploader = new S3MultipartUploader(s3Client, executor, PART_SIZE, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        s3Client.close();
+        fakeS3.close();
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+
+    @Test
+    @DisplayName("입력을 파트 단위로 나눠 업로드하고 하나의 객체로 완료한다")
+    void upload_assemblesParts() {
+        byte[] content = randomBytes(PART_SIZE * 2 + 1234);
+
+        long size = uploader.upload(BUCKET, "clip.mp4", "video/mp4",
+                new ByteArrayInputStream(content), Long.MAX_VALUE, IllegalStateException::new);
+
+        assertThat(size).isEqualTo(content.length);
+        assertThat(fakeS3.content(BUCKET, "clip.mp4")).isEqualTo(content);
+        assertThat(fakeS3.pendingUploads()).isZero();
+    }
+
+    @Test
+    @DisplayName("크기 제한을 넘으면 업로드를 중단하고 파트를 정리한다")
+    void upload_abortsWhenSizeExceeded() {
+        byte[] content = randomBytes(PART_SIZE * 2);
+
+        assertThatThrownBy(() -> uploader.upload(BUCKET, "big.mp4", "video/mp4",
+                new ByteArrayInputStream(content), PART_SIZE + 1, () -> new RuntimeException("초과할 수 없습니다")))
+                .hasMessageContaining("초과할 수 없습니다");
+
+        assertThat(fakeS3.contains(BUCKET, "big.mp4")).isFalse();
+        assertThat(fakeS3.pendingUploads()).isZero();
+    }
+
+    @Test
+    @DisplayName("파트 업로드가 실패하면 multipart upload를 abort한다")
+    void upload_abortsWhenPartFails() {
+        fakeS3.failPart(2);
+        byte[] content = randomBytes(PART_SIZE * 3);
+
+        assertThatThrownBy(() -> uploader.upload(BUCKET, "broken.mp4", "video/mp4",
+                new ByteArrayInputStream(content), Long.MAX_VALUE, IllegalStateException::new))
+                .isInstanceOf(RuntimeException.class);
+
+        assertThat(fakeS3.contains(BUCKET, "broken.mp4")).isFalse();
+        assertThat(fakeS3.pendingUploads()).isZero();
+    }
+}
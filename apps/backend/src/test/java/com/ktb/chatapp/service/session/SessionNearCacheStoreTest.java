@@ -0,0 +1,107 @@
+package com.ktb.chatapp.service.session;
+
+import com.ktb.chatapp.model.Session;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SessionNearCacheStoreTest {
+
+    @Mock
+    private SessionRedisStore delegate;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RTopic invalidationTopic;
+
+    private SessionNearCacheStore store;
+
+    private final Session session = Session.builder()
+            .userId("user-1")
+            .sessionId("session-1")
+            .lastActivity(System.currentTimeMillis())
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        when(redissonClient.getTopic("session:invalidate", StringCodec.INSTANCE)).thenReturn(invalidationTopic);
+        store = new SessionNearCacheStore(
+                delegate, redissonClient, new SimpleMeterRegistry(), 1000, Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("조회 결과는 로컬에 캐시되어 Redis를 다시 조회하지 않는다")
+    void findByUserId_servedFromNearCache() {
+        when(delegate.findByUserId("user-1")).thenReturn(Optional.of(session));
+
+        assertThat(store.findByUserId("user-1")).contains(session);
+        assertThat(store.findByUserId("user-1")).contains(session);
+
+        verify(delegate, times(1)).findByUserId("user-1");
+    }
+
+    @Test
+    @DisplayName("세션이 없으면 캐시하지 않는다")
+    void findByUserId_doesNotCacheMiss() {
+        when(delegate.findByUserId("user-1")).thenReturn(Optional.empty());
+
+        assertThat(store.findByUserId("user-1")).isEmpty();
+        assertThat(store.findByUserId("user-1")).isEmpty();
+
+        verify(delegate, times(2)).findByUserId("user-1");
+    }
+
+    @Test
+    @DisplayName("전체 삭제 시 로컬 항목을 제거하고 다른 노드에 무효화를 발행한다")
+    void deleteAll_invalidatesAndPublishes() {
+        when(delegate.findByUserId("user-1")).thenReturn(Optional.of(session)).thenReturn(Optional.empty());
+        store.findByUserId("user-1");
+
+        store.deleteAll("user-1");
+
+        verify(delegate).deleteAll("user-1");
+        verify(invalidationTopic).publish(endsWith(":user-1"));
+        assertThat(store.findByUserId("user-1")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("저장 시 로컬 항목을 갱신하고 다른 노드에 무효화를 발행한다")
+    void save_updatesLocalAndPublishes() {
+        when(delegate.save(session)).thenReturn(session);
+
+        store.save(session);
+
+        assertThat(store.findByUserId("user-1")).contains(session);
+        verify(delegate, never()).findByUserId(anyString());
+        verify(invalidationTopic).publish(endsWith(":user-1"));
+    }
+
+    @Test
+    @DisplayName("세션 교체 시 저장소에 한 번 위임하고 로컬 항목을 갱신한다")
+    void replaceAll_updatesLocalAndPublishes() {
+        when(delegate.replaceAll(session)).thenReturn(session);
+
+        store.replaceAll(session);
+
+        assertThat(store.findByUserId("user-1")).contains(session);
+        verify(delegate, never()).deleteAll(anyString());
+        verify(delegate, never()).findByUserId(anyString());
+        verify(invalidationTopic).publish(endsWith(":user-1"));
+    }
+}
@@ -0,0 +1,89 @@
+package com.ktb.chatapp.util;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileRangeWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path file;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        file = tempDir.resolve("sample.bin");
+        Files.writeString(file, "0123456789", StandardCharsets.US_ASCII);
+        request = new MockHttpServletRequest();
+        response = new MockHttpServletResponse();
+    }
+
+    private void write() throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.CACHE_CONTROL, "no-store");
+        FileRangeWriter.write(file, "video/mp4", headers, request, response);
+    }
+
+    @Test
+    @DisplayName("Range 헤더가 없으면 전체 파일을 200으로 전송한다")
+    void write_fullContent() throws Exception {
+        write();
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+        assertThat(response.getContentLengthLong()).isEqualTo(10);
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-store");
+    }
+
+    @Test
+    @DisplayName("단일 Range 요청은 해당 구간만 206으로 전송한다")
+    void write_partialContent() throws Exception {
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+
+        write();
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo("2345");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 Range 요청은 416으로 응답한다")
+    void write_unsatisfiableRange() throws Exception {
+        request.addHeader(HttpHeaders.RANGE, "bytes=20-30");
+
+        write();
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("sendfile을 지원하면 본문 대신 파일 구간을 요청 속성으로 넘긴다")
+    void write_delegatesToSendfile() throws Exception {
+        request.setAttribute(FileRangeWriter.SENDFILE_SUPPORTED, Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=-3");
+
+        write();
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(request.getAttribute(FileRangeWriter.SENDFILE_FILENAME)).isEqualTo(file.toAbsolutePath().toString());
+        assertThat(request.getAttribute(FileRangeWriter.SENDFILE_START)).isEqualTo(7L);
+        assertThat(request.getAttribute(FileRangeWriter.SENDFILE_END)).isEqualTo(10L);
+    }
+}
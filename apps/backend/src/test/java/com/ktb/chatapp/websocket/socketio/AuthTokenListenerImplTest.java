@@ -0,0 +1,113 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.AuthTokenResult;
+import com.corundumstudio.socketio.SocketIOClient;
+import com.ktb.chatapp.service.JwtService;
+import com.ktb.chatapp.service.SessionService;
+import com.ktb.chatapp.service.UserService;
+import com.ktb.chatapp.websocket.socketio.handler.ConnectionLoginHandler;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthTokenListenerImplTest {
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private SessionService sessionService;
+
+    @Mock
+    private ObjectProvider<ConnectionLoginHandler> connectionLoginHandlerProvider;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private HandshakeAdmission handshakeAdmission;
+
+    @Mock
+    private ObjectProvider<PresenceTracker> presenceTrackerProvider;
+
+    @Mock
+    private PresenceTracker presenceTracker;
+
+    @Mock
+    private SocketIOClient client;
+
+    private AuthTokenListenerImpl listener;
+    private Boolean verifiedResume;
+
+    @BeforeEach
+    void setUp() {
+        listener = new AuthTokenListenerImpl(jwtService, sessionService, connectionLoginHandlerProvider, userService,
+                handshakeAdmission, presenceTrackerProvider);
+        lenient().when(presenceTrackerProvider.getObject()).thenReturn(presenceTracker);
+        // 재접속 확인 결과만 보도록 resume 주장이 있을 때 확인 작업을 실행한 뒤 과부하 거절로 응답한다
+        lenient().when(handshakeAdmission.admit(anyBoolean(), any())).thenAnswer(invocation -> {
+            if (invocation.<Boolean>getArgument(0)) {
+                verifiedResume = invocation.<BooleanSupplier>getArgument(1).getAsBoolean();
+            }
+            return new HandshakeAdmission.Admission(false, 1000);
+        });
+    }
+
+    private AuthTokenResult handshake(Object resume) {
+        return listener.getAuthTokenResult(Map.of("token", "jwt", "sessionId", "session-1", "resume", resume), client);
+    }
+
+    @Test
+    @DisplayName("재접속 유예 중인 사용자의 resume 핸드셰이크만 재접속 bucket을 쓴다")
+    void resume_usesResumeLaneOnlyWithinGracePeriod() {
+        when(jwtService.extractUserId("jwt")).thenReturn("user-1");
+        when(presenceTracker.hasPendingLeave("user-1")).thenReturn(true);
+
+        assertThat(handshake(true).isSuccess()).isFalse();
+
+        verify(handshakeAdmission).admit(eq(true), any());
+        assertThat(verifiedResume).isTrue();
+    }
+
+    @Test
+    @DisplayName("유예 중이 아닌 사용자가 보낸 resume 플래그는 무시하고 공용 bucket을 쓴다")
+    void resume_ignoresUnverifiedFlag() {
+        when(jwtService.extractUserId("jwt")).thenReturn("user-1");
+        when(presenceTracker.hasPendingLeave("user-1")).thenReturn(false);
+
+        handshake(true);
+
+        assertThat(verifiedResume).isFalse();
+    }
+
+    @Test
+    @DisplayName("토큰이 유효하지 않으면 resume 플래그를 무시한다")
+    void resume_ignoresFlagWithInvalidToken() {
+        when(jwtService.extractUserId("jwt")).thenThrow(new BadJwtException("invalid"));
+
+        handshake("true");
+
+        assertThat(verifiedResume).isFalse();
+        verifyNoInteractions(presenceTracker);
+    }
+
+    @Test
+    @DisplayName("resume 플래그가 없으면 토큰 해석이나 Redis 조회 없이 수락 여부를 판단한다")
+    void newConnection_skipsResumeCheck() {
+        handshake(false);
+
+        verify(handshakeAdmission).admit(eq(false), any());
+        verifyNoInteractions(jwtService, presenceTracker);
+    }
+}
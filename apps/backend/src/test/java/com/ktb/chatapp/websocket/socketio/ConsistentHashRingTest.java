@@ -0,0 +1,69 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConsistentHashRingTest {
+
+    private static final List<String> NODES = List.of(
+            "10.0.101.178:5002", "10.0.102.40:5002", "10.0.101.157:5002", "10.0.102.208:5002",
+            "10.0.101.248:5002", "10.0.102.29:5002");
+
+    private static List<String> keys(int count) {
+        List<String> keys = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            keys.add(String.format("%024x", i * 2654435761L));
+        }
+        return keys;
+    }
+
+    @Test
+    @DisplayName("노드 입력 순서와 무관하게 같은 key는 같은 노드로 배정되고, 빈 ring은 null을 반환한다")
+    void nodeFor_isDeterministic() {
+        ConsistentHashRing ring = new ConsistentHashRing(NODES);
+        ConsistentHashRing reversed = new ConsistentHashRing(NODES.reversed());
+
+        for (String key : keys(1000)) {
+            assertThat(ring.nodeFor(key)).isEqualTo(reversed.nodeFor(key)).isIn(NODES);
+        }
+        assertThat(new ConsistentHashRing(List.of()).nodeFor("room")).isNull();
+    }
+
+    @Test
+    @DisplayName("key는 노드에 고르게 분산된다")
+    void nodeFor_spreadsKeysAcrossNodes() {
+        ConsistentHashRing ring = new ConsistentHashRing(NODES);
+        Map<String, Integer> counts = new HashMap<>();
+        List<String> keys = keys(60_000);
+        keys.forEach(key -> counts.merge(ring.nodeFor(key), 1, Integer::sum));
+
+        double average = (double) keys.size() / NODES.size();
+        assertThat(counts).hasSize(NODES.size());
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(
+                (int) (average * 0.7), (int) (average * 1.3)));
+    }
+
+    @Test
+    @DisplayName("노드가 빠지면 그 노드가 소유한 key만 다른 노드로 옮겨진다")
+    void nodeFor_onlyRemapsKeysOfRemovedNode() {
+        ConsistentHashRing ring = new ConsistentHashRing(NODES);
+        String removed = NODES.get(0);
+        ConsistentHashRing shrunk = new ConsistentHashRing(NODES.subList(1, NODES.size()));
+
+        for (String key : keys(10_000)) {
+            String before = ring.nodeFor(key);
+            String after = shrunk.nodeFor(key);
+            if (before.equals(removed)) {
+                assertThat(after).isNotEqualTo(removed);
+            } else {
+                assertThat(after).isEqualTo(before);
+            }
+        }
+    }
+}
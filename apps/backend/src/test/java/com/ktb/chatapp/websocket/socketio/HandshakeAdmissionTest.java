@@ -0,0 +1,135 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HandshakeAdmissionTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private HandshakeAdmission admission(int burst, int resumeBurst, int maxInFlight) {
+        // rate가 매우 낮아 테스트 동안 토큰이 다시 채워지지 않는다
+        return new HandshakeAdmission(meterRegistry, 0.001, burst, 0.001, resumeBurst, maxInFlight,
+                Duration.ofSeconds(1), Duration.ofSeconds(2));
+    }
+
+    private double handshakes(String lane, String result) {
+        return meterRegistry.get("socketio.handshakes").tag("lane", lane).tag("result", result).counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+
+    private double rejections(String lane, String reason) {
+        return meterRegistry.get("socketio.handshakes")
+                .tag("lane", lane).tag("result", "rejected").tag("reason", reason)
+                .counter().count();
+    }
+
+    private static HandshakeAdmission.Admission admit(HandshakeAdmission admission, boolean resume) {
+        return admission.admit(resume, () -> true);
+    }
+
+    @Test
+    @DisplayName("새 연결 bucket이 비면 재시도 힌트와 함께 거절하고, 재접속은 전용 bucket으로 수락한다")
+    void admit_rejectsNewConnectionsButKeepsResumeLane() {
+        HandshakeAdmission admission = admission(1, 1, 10);
+
+        assertThat(admit(admission, false).admitted()).isTrue();
+        admission.release();
+
+        HandshakeAdmission.Admission rejected = admit(admission, false);
+        assertThat(rejected.admitted()).isFalse();
+        assertThat(rejected.retryAfterMillis()).isBetween(60_000L, 62_000L);
+
+        assertThat(admit(admission, true).admitted()).isTrue();
+        admission.release();
+        assertThat(admit(admission, true).admitted()).isFalse();
+
+        assertThat(handshakes("new", "admitted")).isEqualTo(1);
+        assertThat(handshakes("new", "rejected")).isEqualTo(1);
+        assertThat(handshakes("resume", "admitted")).isEqualTo(1);
+        assertThat(handshakes("resume", "rejected")).isEqualTo(1);
+        assertThat(rejections("new", "rate")).isEqualTo(1);
+        assertThat(rejections("resume", "rate")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리 중인 핸드셰이크가 max-in-flight에 도달하면 거절하고 release 후 다시 수락한다")
+    void admit_limitsInFlightHandshakes() {
+        HandshakeAdmission admission = admission(10, 10, 1);
+
+        assertThat(admit(admission, false).admitted()).isTrue();
+        assertThat(meterRegistry.get("socketio.handshakes.in_flight").gauge().value()).isEqualTo(1);
+
+        HandshakeAdmission.Admission rejected = admit(admission, true);
+        assertThat(rejected.admitted()).isFalse();
+        assertThat(rejected.retryAfterMillis()).isBetween(1_000L, 3_000L);
+
+        assertThat(rejections("resume", "in_flight")).isEqualTo(1);
+
+        admission.release();
+        assertThat(admit(admission, true).admitted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("재접속 확인은 in-flight 슬롯을 얻고 재접속 bucket에 토큰이 있을 때만 실행한다")
+    void admit_verifiesResumeOnlyWhenItCanMatter() {
+        HandshakeAdmission admission = admission(1, 1, 1);
+        AtomicInteger checks = new AtomicInteger();
+        BooleanSupplier verify = () -> checks.incrementAndGet() > 0;
+
+        assertThat(admission.admit(true, verify).admitted()).isTrue();
+        assertThat(checks.get()).isEqualTo(1);
+
+        // in-flight가 가득 차면 확인 없이 거절
+        assertThat(admission.admit(true, verify).admitted()).isFalse();
+        assertThat(checks.get()).isEqualTo(1);
+        admission.release();
+
+        // 재접속 bucket이 비면 확인 없이 공용 bucket으로 처리
+        assertThat(admission.admit(true, verify).admitted()).isTrue();
+        assertThat(checks.get()).isEqualTo(1);
+        admission.release();
+        assertThat(handshakes("new", "admitted")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("확인되지 않은 재접속은 공용 bucket을 쓰고, 드레인 중에는 draining으로 거절한다")
+    void admit_usesNewLaneForUnverifiedResume() {
+        HandshakeAdmission admission = admission(1, 1, 10);
+
+        assertThat(admission.admit(true, () -> false).admitted()).isTrue();
+        admission.release();
+        assertThat(handshakes("new", "admitted")).isEqualTo(1);
+        assertThat(handshakes("resume", "admitted")).isZero();
+
+        admission.stopAdmitting();
+        assertThat(admit(admission, true).admitted()).isFalse();
+        assertThat(rejections("resume", "draining")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("token bucket은 경과 시간만큼 최대 capacity까지 다시 채워진다")
+    void tokenBucket_refillsOverTime() {
+        long start = 0;
+        HandshakeAdmission.TokenBucket bucket = new HandshakeAdmission.TokenBucket(10, 2, start);
+
+        assertThat(bucket.tryAcquire(start)).isTrue();
+        assertThat(bucket.tryAcquire(start)).isTrue();
+        assertThat(bucket.tryAcquire(start)).isFalse();
+        assertThat(bucket.nanosUntilToken(start)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+
+        long later = start + TimeUnit.SECONDS.toNanos(10);
+        assertThat(bucket.tryAcquire(later)).isTrue();
+        assertThat(bucket.tryAcquire(later)).isTrue();
+        assertThat(bucket.tryAcquire(later)).isFalse();
+    }
+}
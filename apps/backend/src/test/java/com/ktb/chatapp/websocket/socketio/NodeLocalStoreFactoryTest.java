@@ -0,0 +1,48 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.store.MemoryStore;
+import com.corundumstudio.socketio.store.Store;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RedissonClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class NodeLocalStoreFactoryTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Test
+    @DisplayName("클라이언트 속성은 Redis를 거치지 않고 노드 메모리에 저장된다")
+    void createStore_keepsAttributesInMemory() {
+        NodeLocalStoreFactory factory = new NodeLocalStoreFactory(redissonClient);
+        SocketUser user = new SocketUser("user-1", "tester", "session-1", "socket-1");
+
+        Store store = factory.createStore(UUID.randomUUID());
+        store.set("user", user);
+
+        assertThat(store).isInstanceOf(MemoryStore.class);
+        assertThat(store.<SocketUser>get("user")).isEqualTo(user);
+        assertThat(store.has("user")).isTrue();
+        verifyNoInteractions(redissonClient);
+    }
+
+    @Test
+    @DisplayName("세션마다 독립된 저장소를 만든다")
+    void createStore_isPerSession() {
+        NodeLocalStoreFactory factory = new NodeLocalStoreFactory(redissonClient);
+
+        Store first = factory.createStore(UUID.randomUUID());
+        Store second = factory.createStore(UUID.randomUUID());
+        first.set("user", "a");
+
+        assertThat(second.has("user")).isFalse();
+    }
+}
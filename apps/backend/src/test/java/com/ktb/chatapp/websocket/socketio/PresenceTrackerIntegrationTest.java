@@ -0,0 +1,103 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.ktb.chatapp.websocket.socketio.handler.RoomLeaveHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * 노드 간 재접속 시 대기 중인 퇴장 Lua 스크립트를 실제 Redis에서 검증한다
+ */
+@Testcontainers
+class PresenceTrackerIntegrationTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static RedissonClient redissonClient;
+
+    private final UserRooms userRooms = mock(UserRooms.class);
+    private final RoomLeaveHandler roomLeaveHandler = mock(RoomLeaveHandler.class);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private PresenceTracker nodeA;
+    private PresenceTracker nodeB;
+
+    private final SocketUser user = new SocketUser("user-1", "tester", "session-1", "socket-1");
+
+    @BeforeAll
+    static void connect() {
+        Config config = new Config();
+        config.useSingleServer().setAddress("redis://" + REDIS.getHost() + ":" + REDIS.getMappedPort(6379));
+        redissonClient = Redisson.create(config);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        redissonClient.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redissonClient.getKeys().flushall();
+        when(userRooms.get("user-1")).thenReturn(Set.of("room-1"));
+        nodeA = node(Duration.ofMillis(500));
+        nodeB = node(Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.shutdown();
+        nodeB.shutdown();
+        executor.shutdownNow();
+    }
+
+    private PresenceTracker node(Duration gracePeriod) {
+        return new PresenceTracker(redissonClient, userRooms, roomLeaveHandler, executor, new SimpleMeterRegistry(),
+                gracePeriod, Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("다른 노드로 재접속한 뒤 다시 끊기면 이전 노드의 타이머는 새 유예를 끊지 않는다")
+    void staleTimerDoesNotCutNewGracePeriod() throws InterruptedException {
+        nodeA.scheduleLeave(user);
+        assertThat(nodeB.cancelLeave("user-1")).isTrue();
+        nodeB.scheduleLeave(user);
+
+        // A의 타이머가 실행될 때까지 기다린다
+        Thread.sleep(1500);
+
+        verifyNoInteractions(roomLeaveHandler);
+        assertThat(nodeB.hasPendingLeave("user-1")).isTrue();
+        assertThat(nodeB.cancelLeave("user-1")).isTrue();
+        assertThat(redissonClient.getScoredSortedSet("presence:deadlines").isExists()).isFalse();
+    }
+
+    @Test
+    @DisplayName("유예가 끝난 퇴장은 한 번만 처리된다")
+    void expiredLeaveIsProcessedOnce() {
+        nodeA.scheduleLeave(user);
+
+        verify(roomLeaveHandler, timeout(3000)).leave("user-1", "tester", "room-1");
+        nodeB.sweep();
+
+        assertThat(nodeB.hasPendingLeave("user-1")).isFalse();
+        verify(roomLeaveHandler, after(500).times(1)).leave("user-1", "tester", "room-1");
+    }
+}
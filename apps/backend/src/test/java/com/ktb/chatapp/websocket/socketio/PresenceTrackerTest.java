@@ -0,0 +1,194 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.ktb.chatapp.websocket.socketio.handler.RoomLeaveHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.OngoingStubbing;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PresenceTrackerTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private UserRooms userRooms;
+
+    @Mock
+    private RoomLeaveHandler roomLeaveHandler;
+
+    @Mock
+    private ExecutorService executor;
+
+    @Mock
+    private RScript script;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PresenceTracker presenceTracker;
+
+    private final SocketUser user = new SocketUser("user-1", "tester", "session-1", "socket-1");
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lenient().when(redissonClient.getScript(StringCodec.INSTANCE)).thenReturn(script);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (presenceTracker != null) {
+            presenceTracker.shutdown();
+        }
+    }
+
+    private PresenceTracker tracker(Duration gracePeriod) {
+        presenceTracker = new PresenceTracker(
+                redissonClient, userRooms, roomLeaveHandler, executor, meterRegistry, gracePeriod, Duration.ofSeconds(5));
+        return presenceTracker;
+    }
+
+    private <T> OngoingStubbing<T> whenScript(String fragment, RScript.ReturnType returnType) {
+        return when(script.eval(eq(RScript.Mode.READ_WRITE), contains(fragment), eq(returnType),
+                eq(List.of("presence:pending-leave:user-1", "presence:deadlines")), any(Object[].class)));
+    }
+
+    private Object[] scriptArgs(String fragment) {
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(script).eval(any(), contains(fragment), any(), anyList(), args.capture());
+        return args.getValue();
+    }
+
+    private void runTasksInline() {
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+    }
+
+    private double leaves(String result) {
+        return meterRegistry.get("socketio.presence.leaves").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("유예 시간 내 재접속하면 퇴장이 취소되고 suppressed로 집계된다")
+    void cancelLeave_suppressesPendingLeave() {
+        PresenceTracker tracker = tracker(Duration.ofSeconds(30));
+
+        tracker.scheduleLeave(user);
+        assertThat(scriptArgs("zadd")).startsWith("user-1").contains("tester");
+
+        whenScript("if not token", RScript.ReturnType.INTEGER).thenReturn(1L);
+        assertThat(tracker.cancelLeave("user-1")).isTrue();
+
+        verifyNoInteractions(roomLeaveHandler);
+        assertThat(leaves("suppressed")).isEqualTo(1.0);
+        assertThat(leaves("processed")).isZero();
+    }
+
+    @Test
+    @DisplayName("대기 중인 퇴장이 없으면 재접속은 아무것도 취소하지 않는다")
+    void cancelLeave_withoutPendingLeave() {
+        PresenceTracker tracker = tracker(Duration.ofSeconds(30));
+
+        whenScript("if not token", RScript.ReturnType.INTEGER).thenReturn(0L);
+        assertThat(tracker.cancelLeave("user-1")).isFalse();
+
+        assertThat(leaves("suppressed")).isZero();
+    }
+
+    @Test
+    @DisplayName("유예 시간이 0이면 즉시 모든 방에서 퇴장 처리한다")
+    void scheduleLeave_withZeroGraceLeavesImmediately() {
+        PresenceTracker tracker = tracker(Duration.ZERO);
+        when(userRooms.get("user-1")).thenReturn(Set.of("room-1", "room-2"));
+
+        tracker.scheduleLeave(user);
+
+        verify(roomLeaveHandler).leave("user-1", "tester", "room-1");
+        verify(roomLeaveHandler).leave("user-1", "tester", "room-2");
+        verifyNoInteractions(script);
+        assertThat(leaves("processed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("한 방의 퇴장 처리가 실패해도 나머지 방은 퇴장 처리한다")
+    void scheduleLeave_continuesAfterFailedRoomLeave() {
+        PresenceTracker tracker = tracker(Duration.ZERO);
+        when(userRooms.get("user-1")).thenReturn(new LinkedHashSet<>(List.of("room-1", "room-2")));
+        doThrow(new IllegalStateException("boom")).when(roomLeaveHandler).leave("user-1", "tester", "room-1");
+
+        tracker.scheduleLeave(user);
+
+        verify(roomLeaveHandler).leave("user-1", "tester", "room-2");
+        assertThat(leaves("processed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("sweep은 다른 노드가 남긴 만료된 퇴장을 가져와 처리한다")
+    void sweep_processesClaimedDeadlines() {
+        PresenceTracker tracker = tracker(Duration.ofSeconds(30));
+        runTasksInline();
+        claimReturns("user-1:token-1");
+        whenScript("return name", RScript.ReturnType.VALUE).thenReturn("tester");
+        when(userRooms.get("user-1")).thenReturn(Set.of("room-1"));
+
+        tracker.sweep();
+
+        assertThat(scriptArgs("return name")).containsExactly("user-1", "token-1");
+        verify(roomLeaveHandler).leave("user-1", "tester", "room-1");
+        assertThat(leaves("processed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("토큰이 바뀐 이전 끊김의 만료 항목은 새 유예 중인 퇴장을 처리하지 않는다")
+    void sweep_ignoresStaleToken() {
+        PresenceTracker tracker = tracker(Duration.ofSeconds(30));
+        runTasksInline();
+        claimReturns("user-1:stale-token");
+        whenScript("return name", RScript.ReturnType.VALUE).thenReturn(null);
+
+        tracker.sweep();
+
+        verifyNoInteractions(roomLeaveHandler);
+        assertThat(leaves("processed")).isZero();
+    }
+
+    @Test
+    @DisplayName("로컬 타이머는 자기 끊김의 토큰으로만 만료 처리한다")
+    void timer_expiresWithItsOwnToken() {
+        PresenceTracker tracker = tracker(Duration.ofMillis(200));
+        runTasksInline();
+
+        tracker.scheduleLeave(user);
+        Object token = scriptArgs("zadd")[1];
+
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(script, timeout(3000)).eval(any(), contains("return name"), any(), anyList(), args.capture());
+        assertThat(args.getValue()).containsExactly("user-1", token);
+        verifyNoInteractions(roomLeaveHandler);
+    }
+
+    private void claimReturns(String... entries) {
+        when(script.eval(eq(RScript.Mode.READ_WRITE), contains("zrangebyscore"), eq(RScript.ReturnType.MULTI),
+                eq(List.of("presence:deadlines")), any(Object[].class))).thenReturn(List.of(entries));
+    }
+}
@@ -0,0 +1,127 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.ktb.chatapp.codec.CompactRedissonCodec;
+import com.ktb.chatapp.codec.ValueCodecs;
+import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.model.User;
+import com.ktb.chatapp.repository.RoomRepository;
+import com.ktb.chatapp.repository.UserRepository;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.Redisson;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * 참가자 스냅샷 Lua 스크립트를 실제 Redis에서 검증한다
+ */
+@Testcontainers
+class RoomParticipantsIntegrationTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static RedissonClient redissonClient;
+    private static CompactRedissonCodec codec;
+
+    private final RoomRepository roomRepository = mock(RoomRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private RoomParticipants roomParticipants;
+
+    private final User alice = User.builder().id("user-1").name("alice").email("alice@test.com").build();
+    private final User bob = User.builder().id("user-2").name("bob").email("bob@test.com").build();
+    private final User carol = User.builder().id("user-3").name("carol").email("carol@test.com").build();
+
+    @BeforeAll
+    static void connect() {
+        Config config = new Config();
+        config.useSingleServer().setAddress("redis://" + REDIS.getHost() + ":" + REDIS.getMappedPort(6379));
+        redissonClient = Redisson.create(config);
+        codec = new CompactRedissonCodec(ValueCodecs.defaults(), redissonClient.getConfig().getCodec());
+    }
+
+    @AfterAll
+    static void disconnect() {
+        redissonClient.shutdown();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redissonClient.getKeys().flushall();
+        roomParticipants = new RoomParticipants(redissonClient, codec, roomRepository, userRepository);
+    }
+
+    private RMap<String, UserResponse> snapshot() {
+        return redissonClient.getMap("room:participants:{room-1}", codec);
+    }
+
+    private void roomHas(User... users) {
+        Set<String> ids = Arrays.stream(users).map(User::getId).collect(Collectors.toSet());
+        when(roomRepository.findById("room-1"))
+                .thenReturn(Optional.of(Room.builder().id("room-1").participantIds(ids).build()));
+        when(userRepository.findAllById(ids)).thenReturn(List.of(users));
+    }
+
+    @Test
+    @DisplayName("스냅샷이 만료된 뒤 입장하면 신규 참가자만 있는 스냅샷 대신 전체 참가자를 적재하고 TTL을 건다")
+    void add_afterExpiryLoadsFullSnapshot() {
+        roomHas(alice, bob);
+
+        List<UserResponse> participants = roomParticipants.add(
+                Room.builder().id("room-1").participantIds(Set.of("user-1", "user-2")).build(), UserResponse.from(bob));
+
+        assertThat(participants).extracting(UserResponse::getId).containsExactlyInAnyOrder("user-1", "user-2");
+        assertThat(snapshot().readAllKeySet()).containsExactlyInAnyOrder("user-1", "user-2");
+        assertThat(snapshot().remainTimeToLive()).isPositive();
+    }
+
+    @Test
+    @DisplayName("적재 중에 퇴장한 참가자는 적재 결과로 되살아나지 않는다")
+    void load_doesNotUndoConcurrentRemove() {
+        Room stale = Room.builder().id("room-1").participantIds(Set.of("user-1", "user-2")).build();
+        when(roomRepository.findById("room-1")).thenAnswer(invocation -> {
+            // MongoDB 조회 직후 bob이 퇴장한다
+            roomParticipants.remove("room-1", "user-2");
+            return Optional.of(stale);
+        });
+        when(userRepository.findAllById(stale.getParticipantIds())).thenReturn(List.of(alice, bob));
+
+        roomParticipants.get("room-1");
+
+        assertThat(snapshot().readAllKeySet()).doesNotContain("user-2");
+    }
+
+    @Test
+    @DisplayName("입장/퇴장마다 스냅샷 TTL을 갱신한다")
+    void writes_refreshTtl() {
+        roomHas(alice, bob, carol);
+        roomParticipants.get("room-1");
+        snapshot().expire(Duration.ofSeconds(5));
+
+        roomParticipants.add(Room.builder().id("room-1").build(), UserResponse.from(carol));
+        assertThat(snapshot().remainTimeToLive()).isGreaterThan(60_000);
+
+        snapshot().expire(Duration.ofSeconds(5));
+        roomParticipants.remove("room-1", "user-1");
+        assertThat(snapshot().remainTimeToLive()).isGreaterThan(60_000);
+        assertThat(roomParticipants.get("room-1")).extracting(UserResponse::getId)
+                .containsExactlyInAnyOrder("user-2", "user-3");
+    }
+}
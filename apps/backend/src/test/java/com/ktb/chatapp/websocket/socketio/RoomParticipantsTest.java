@@ -0,0 +1,120 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.ktb.chatapp.codec.CompactRedissonCodec;
+import com.ktb.chatapp.codec.ValueCodecs;
+import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.model.User;
+import com.ktb.chatapp.repository.RoomRepository;
+import com.ktb.chatapp.repository.UserRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RMap;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.StringCodec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoomParticipantsTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RScript script;
+
+    @Mock
+    private RAtomicLong version;
+
+    @Mock
+    private RMap<Object, Object> snapshot;
+
+    private RoomParticipants roomParticipants;
+
+    private final User alice = User.builder().id("user-1").name("alice").email("alice@test.com").build();
+    private final User bob = User.builder().id("user-2").name("bob").email("bob@test.com").build();
+    private final Room room = Room.builder().id("room-1").participantIds(Set.of("user-1", "user-2")).build();
+
+    @BeforeEach
+    void setUp() {
+        CompactRedissonCodec codec = new CompactRedissonCodec(ValueCodecs.defaults(), StringCodec.INSTANCE);
+        roomParticipants = new RoomParticipants(redissonClient, codec, roomRepository, userRepository);
+        lenient().when(redissonClient.getScript(ByteArrayCodec.INSTANCE)).thenReturn(script);
+        lenient().when(redissonClient.getAtomicLong("room:participants:{room-1}:version")).thenReturn(version);
+        lenient().when(redissonClient.getMap(eq("room:participants:{room-1}"), any(CompactRedissonCodec.class)))
+                .thenReturn(snapshot);
+    }
+
+    private void scriptReturns(long... results) {
+        var stubbing = when(script.eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER),
+                eq(List.of("room:participants:{room-1}", "room:participants:{room-1}:version")), any(Object[].class)));
+        for (long result : results) {
+            stubbing = stubbing.thenReturn(result);
+        }
+    }
+
+    @Test
+    @DisplayName("스냅샷이 있으면 입장은 필드 하나만 추가하고 MongoDB를 조회하지 않는다")
+    void add_updatesExistingSnapshot() {
+        scriptReturns(1);
+        when(snapshot.readAllValues()).thenReturn(List.of(UserResponse.from(alice), UserResponse.from(bob)));
+
+        List<UserResponse> participants = roomParticipants.add(room, UserResponse.from(bob));
+
+        assertThat(participants).extracting(UserResponse::getId).containsExactly("user-1", "user-2");
+        verifyNoInteractions(roomRepository, userRepository);
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없으면 버전을 먼저 읽고 MongoDB에서 다시 적재해 버전 조건부로 기록한다")
+    void add_reloadsWithVersionGuardOnMiss() {
+        scriptReturns(0, 1);
+        when(version.get()).thenReturn(7L);
+        when(roomRepository.findById("room-1")).thenReturn(Optional.of(room));
+        when(userRepository.findAllById(room.getParticipantIds())).thenReturn(List.of(alice, bob));
+
+        List<UserResponse> participants = roomParticipants.add(room, UserResponse.from(bob));
+
+        assertThat(participants).extracting(UserResponse::getId).containsExactlyInAnyOrder("user-1", "user-2");
+        InOrder inOrder = inOrder(version, roomRepository, script);
+        inOrder.verify(version).get();
+        inOrder.verify(roomRepository).findById("room-1");
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        inOrder.verify(script).eval(any(), contains("for i"), any(), anyList(), args.capture());
+        // 적재 전에 읽은 버전, TTL, 참가자 2명의 userId/UserResponse
+        assertThat(args.getValue()).hasSize(6);
+        assertThat(new String((byte[]) args.getValue()[0])).isEqualTo("7");
+    }
+
+    @Test
+    @DisplayName("적재 중 입장/퇴장이 있어 기록을 건너뛰어도 조회 결과는 반환한다")
+    void get_returnsMongoResultWhenLoadIsSkipped() {
+        when(snapshot.readAllValues()).thenReturn(List.of());
+        scriptReturns(0);
+        when(roomRepository.findById("room-1")).thenReturn(Optional.of(room));
+        when(userRepository.findAllById(room.getParticipantIds())).thenReturn(List.of(alice, bob));
+
+        assertThat(roomParticipants.get("room-1")).hasSize(2);
+    }
+}
@@ -0,0 +1,146 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.protocol.EngineIOVersion;
+import com.corundumstudio.socketio.protocol.Packet;
+import com.corundumstudio.socketio.protocol.PacketType;
+import com.corundumstudio.socketio.store.StoreFactory;
+import com.corundumstudio.socketio.store.pubsub.DispatchMessage;
+import com.corundumstudio.socketio.store.pubsub.PubSubStore;
+import com.corundumstudio.socketio.store.pubsub.PubSubType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ShardedFanoutTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Map<UUID, List<String>> received = new ConcurrentHashMap<>();
+    private final Map<UUID, String> receivedOn = new ConcurrentHashMap<>();
+    private final ShardedFanout fanout = new ShardedFanout(meterRegistry, 4, 10);
+
+    @AfterEach
+    void tearDown() {
+        fanout.shutdown();
+    }
+
+    private List<SocketIOClient> clients(int count) {
+        List<SocketIOClient> clients = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            UUID sessionId = UUID.randomUUID();
+            SocketIOClient client = mock(SocketIOClient.class);
+            when(client.getSessionId()).thenReturn(sessionId);
+            when(client.getEngineIOVersion()).thenReturn(EngineIOVersion.V4);
+            doAnswer(invocation -> {
+                Packet packet = invocation.getArgument(0);
+                received.computeIfAbsent(sessionId, id -> new CopyOnWriteArrayList<>()).add(packet.getName());
+                receivedOn.put(sessionId, Thread.currentThread().getName());
+                return null;
+            }).when(client).send(any(Packet.class));
+            clients.add(client);
+        }
+        return clients;
+    }
+
+    private static Packet event(String name) {
+        Packet packet = new Packet(PacketType.MESSAGE, EngineIOVersion.UNKNOWN);
+        packet.setSubType(PacketType.EVENT);
+        packet.setName(name);
+        packet.setData(List.of("payload"));
+        return packet;
+    }
+
+    private double broadcasts(String mode) {
+        return meterRegistry.get("socketio.fanout.broadcasts").tag("mode", mode).counter().count();
+    }
+
+    @Test
+    @DisplayName("참여자가 shard-threshold 미만이면 호출 스레드에서 바로 보낸다")
+    void deliver_sendsSmallRoomsInline() {
+        List<SocketIOClient> clients = clients(9);
+
+        assertThat(fanout.deliver(clients, event("message"))).isDone();
+
+        assertThat(received).hasSize(9);
+        assertThat(receivedOn.values()).containsOnly(Thread.currentThread().getName());
+        assertThat(broadcasts("inline")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("큰 방은 lane별 shard로 나눠 병렬 전송하고, 클라이언트마다 한 번씩 발행 순서대로 받는다")
+    void deliver_shardsLargeRoomsAndKeepsPerClientOrder() throws Exception {
+        List<SocketIOClient> clients = clients(200);
+
+        fanout.deliver(clients, event("first"));
+        fanout.deliver(clients, event("second")).get(5, TimeUnit.SECONDS);
+        assertThat(fanout.awaitIdle(Duration.ofSeconds(5))).isTrue();
+
+        assertThat(received).hasSize(200);
+        assertThat(received.values()).allSatisfy(events -> assertThat(events).containsExactly("first", "second"));
+        assertThat(receivedOn.values()).allSatisfy(thread -> assertThat(thread).startsWith("room-fanout-"));
+        assertThat(receivedOn.values().stream().distinct().count()).isGreaterThan(1);
+        assertThat(broadcasts("sharded")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("lane에 보내지 않은 shard가 남아 있으면 threshold 미만으로 줄어든 방도 lane을 거쳐 순서를 지킨다")
+    void deliver_keepsPerClientOrderWhenRoomShrinksBelowThreshold() throws Exception {
+        List<SocketIOClient> clients = clients(20);
+        SocketIOClient blocked = clients.getFirst();
+        UUID blockedId = blocked.getSessionId();
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            Packet packet = invocation.getArgument(0);
+            if ("first".equals(packet.getName())) {
+                sending.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            received.computeIfAbsent(blockedId, id -> new CopyOnWriteArrayList<>()).add(packet.getName());
+            return null;
+        }).when(blocked).send(any(Packet.class));
+
+        fanout.deliver(clients, event("first"));
+        assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+        List<SocketIOClient> remaining = clients.subList(0, 5);
+        fanout.deliver(remaining, event("second"));
+        release.countDown();
+        assertThat(fanout.awaitIdle(Duration.ofSeconds(5))).isTrue();
+
+        assertThat(remaining).allSatisfy(client ->
+                assertThat(received.get(client.getSessionId())).containsExactly("first", "second"));
+        assertThat(broadcasts("inline")).isZero();
+    }
+
+    @Test
+    @DisplayName("방 브로드캐스트는 노드 내 전송과 별도로 다른 노드에 DISPATCH 메시지 하나만 보낸다")
+    void roomOperations_dispatchOncePerBroadcast() {
+        StoreFactory storeFactory = mock(StoreFactory.class);
+        PubSubStore pubSubStore = mock(PubSubStore.class);
+        when(storeFactory.pubSubStore()).thenReturn(pubSubStore);
+        List<SocketIOClient> clients = clients(50);
+
+        new ShardedRoomOperations("", "room-1", clients, storeFactory, fanout).sendEvent("message", "hello");
+
+        ArgumentCaptor<DispatchMessage> dispatched = ArgumentCaptor.forClass(DispatchMessage.class);
+        verify(pubSubStore, times(1)).publish(eq(PubSubType.DISPATCH), dispatched.capture());
+        assertThat(dispatched.getValue().getRoom()).isEqualTo("room-1");
+        assertThat(dispatched.getValue().getPacket().getName()).isEqualTo("message");
+    }
+}
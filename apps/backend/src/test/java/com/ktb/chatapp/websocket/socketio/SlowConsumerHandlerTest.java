@@ -0,0 +1,159 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.Configuration;
+import com.corundumstudio.socketio.Transport;
+import com.corundumstudio.socketio.handler.ClientHead;
+import com.corundumstudio.socketio.messages.OutPacketMessage;
+import com.corundumstudio.socketio.protocol.EngineIOVersion;
+import com.corundumstudio.socketio.protocol.JacksonJsonSupport;
+import com.corundumstudio.socketio.protocol.Packet;
+import com.corundumstudio.socketio.protocol.PacketEncoder;
+import com.corundumstudio.socketio.protocol.PacketType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.util.ReferenceCountUtil;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class SlowConsumerHandlerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Queue<Packet> packets = new ConcurrentLinkedQueue<>();
+    private final ClientHead clientHead = mock(ClientHead.class);
+
+    private EmbeddedChannel channel;
+
+    @BeforeEach
+    void setUp() {
+        when(clientHead.getPacketsQueue(Transport.WEBSOCKET)).thenReturn(packets);
+        when(clientHead.getEngineIOVersion()).thenReturn(EngineIOVersion.V4);
+    }
+
+    private void connect(int coalesceThreshold, int maxQueuedPackets) {
+        SlowConsumerPolicy policy = new SlowConsumerPolicy(
+                meterRegistry,
+                DataSize.ofBytes(8),
+                DataSize.ofBytes(16),
+                coalesceThreshold,
+                maxQueuedPackets,
+                Duration.ofSeconds(30),
+                new String[] {"readReceipts"});
+        PacketEncoder encoder = new PacketEncoder(new Configuration(), new JacksonJsonSupport());
+        channel = new EmbeddedChannel();
+        channel.config().setWriteBufferWaterMark(policy.getWaterMark());
+        channel.pipeline().addLast(new SlowConsumerHandler(policy, encoder, 65536));
+    }
+
+    /**
+     * 플러시하지 않은 쓰기로 high water mark를 넘겨 채널을 unwritable로 만든다
+     */
+    private void stall() {
+        channel.write(Unpooled.wrappedBuffer(new byte[32]));
+        assertThat(channel.isWritable()).isFalse();
+    }
+
+    private void send(Packet... queued) {
+        packets.addAll(List.of(queued));
+        channel.write(new OutPacketMessage(clientHead, Transport.WEBSOCKET));
+    }
+
+    private static Packet event(String name, Object payload) {
+        Packet packet = new Packet(PacketType.MESSAGE, EngineIOVersion.V4);
+        packet.setSubType(PacketType.EVENT);
+        packet.setNsp("");
+        packet.setName(name);
+        packet.setData(List.of(payload));
+        return packet;
+    }
+
+    private List<String> writtenFrames() {
+        List<String> frames = new ArrayList<>();
+        for (Object out = channel.readOutbound(); out != null; out = channel.readOutbound()) {
+            if (out instanceof TextWebSocketFrame frame) {
+                frames.add(frame.text());
+            }
+            ReferenceCountUtil.release(out);
+        }
+        return frames;
+    }
+
+    @Test
+    @DisplayName("unwritable 동안 ephemeral 이벤트는 버리고 나머지는 writable로 돌아오면 순서대로 보낸다")
+    void deferredPackets_dropEphemeralAndFlushOnWritable() {
+        connect(100, 100);
+        stall();
+
+        send(event("message", Map.of("_id", "m1")), event("readReceipts", Map.of("userId", "u1")));
+        send(event("message", Map.of("_id", "m2")));
+
+        assertThat(packets).isEmpty();
+        assertThat(writtenFrames()).isEmpty();
+
+        channel.flush();
+        channel.runPendingTasks();
+
+        assertThat(writtenFrames()).containsExactly(
+                "42[\"message\",{\"_id\":\"m1\"}]",
+                "42[\"message\",{\"_id\":\"m2\"}]");
+        assertThat(meterRegistry.get("socketio.outbound.dropped").tag("reason", "ephemeral").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("보류 패킷이 coalesce-threshold를 넘으면 연속된 채팅 메시지를 messagesBatch 하나로 합친다")
+    void deferredPackets_coalesceChatMessages() {
+        connect(2, 100);
+        stall();
+
+        send(event("message", Map.of("_id", "m1")),
+                event("message", Map.of("_id", "m2")),
+                event("messagesBatch", List.of(Map.of("_id", "m3"), Map.of("_id", "m4"))));
+
+        channel.flush();
+        channel.runPendingTasks();
+
+        assertThat(writtenFrames()).containsExactly(
+                "42[\"messagesBatch\",[{\"_id\":\"m1\"},{\"_id\":\"m2\"},{\"_id\":\"m3\"},{\"_id\":\"m4\"}]]");
+        assertThat(meterRegistry.get("socketio.outbound.dropped").tag("reason", "coalesced").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("보류 패킷이 max-queued-packets를 넘으면 resyncRequired를 보내고 연결을 닫는다")
+    void deferredPackets_disconnectWithResyncHintWhenLimitExceeded() {
+        connect(100, 1);
+        stall();
+
+        send(event("message", Map.of("_id", "m1")), event("message", Map.of("_id", "m2")));
+        channel.runPendingTasks();
+
+        assertThat(writtenFrames()).containsExactly("42[\"resyncRequired\",{\"reason\":\"slow_consumer\"}]");
+        assertThat(channel.isOpen()).isFalse();
+        assertThat(meterRegistry.get("socketio.outbound.disconnects").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("writable 채널은 OutPacketMessage를 그대로 인코더로 넘긴다")
+    void writableChannel_passesThrough() {
+        connect(100, 100);
+
+        send(event("message", Map.of("_id", "m1")));
+        channel.flush();
+
+        assertThat((Object) channel.readOutbound()).isInstanceOf(OutPacketMessage.class);
+        assertThat(packets).hasSize(1);
+    }
+}
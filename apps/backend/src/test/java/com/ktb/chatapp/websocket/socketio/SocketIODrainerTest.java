@@ -0,0 +1,112 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.event.RoomEventDispatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.SERVER_DRAINING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SocketIODrainerTest {
+
+    @Mock
+    private SocketIOServer socketIOServer;
+
+    @Mock
+    private SlowConsumerChannelInitializer channelInitializer;
+
+    @Mock
+    private HandshakeAdmission handshakeAdmission;
+
+    @Mock
+    private RoomEventDispatcher roomEventDispatcher;
+
+    @Mock
+    private RoomAffinity roomAffinity;
+
+    @Mock
+    private ShardedFanout shardedFanout;
+
+    @Mock
+    private Drainable drainable;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SocketIODrainer drainer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 3 waves, 100ms 간격
+        drainer = new SocketIODrainer(socketIOServer, channelInitializer, handshakeAdmission,
+                roomEventDispatcher, roomAffinity, shardedFanout, List.of(drainable), meterRegistry,
+                Duration.ofMillis(300), 3, Duration.ofMillis(100));
+    }
+
+    private SocketIOClient client() {
+        SocketIOClient client = mock(SocketIOClient.class);
+        when(client.isChannelOpen()).thenReturn(true);
+        return client;
+    }
+
+    @Test
+    @DisplayName("연결 수락을 멈추고 클라이언트마다 재접속 힌트를 한 번씩 보낸 뒤, 대기 작업을 비우고 서버를 멈춘다")
+    void drain_notifiesClientsInWavesThenFlushesAndStops() throws Exception {
+        List<SocketIOClient> clients = List.of(client(), client(), client());
+        when(socketIOServer.getAllClients()).thenReturn(clients);
+        when(roomEventDispatcher.awaitIdle(any())).thenReturn(true);
+        when(shardedFanout.awaitIdle(any())).thenReturn(true);
+
+        drainer.drain().get(5, TimeUnit.SECONDS);
+
+        verify(channelInitializer).stopAccepting();
+        verify(handshakeAdmission).stopAdmitting();
+        verify(roomAffinity).leave();
+        for (SocketIOClient client : clients) {
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Map<String, Object>> payload = ArgumentCaptor.forClass(Map.class);
+            verify(client).sendEvent(eq(SERVER_DRAINING), payload.capture());
+            assertThat((Long) payload.getValue().get("reconnectAfter")).isBetween(0L, 100L);
+        }
+
+        InOrder order = inOrder(roomEventDispatcher, drainable, shardedFanout, socketIOServer);
+        order.verify(roomEventDispatcher).awaitIdle(Duration.ofMillis(100));
+        order.verify(drainable).drain();
+        order.verify(shardedFanout).awaitIdle(Duration.ofMillis(100));
+        order.verify(socketIOServer).stop();
+
+        assertThat(meterRegistry.get("socketio.drain.state").gauge().value())
+                .isEqualTo(SocketIODrainer.State.DRAINED.ordinal());
+        assertThat(meterRegistry.get("socketio.drain.waves.completed").gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.get("socketio.drain.notified").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("드레인은 한 번만 실행되고 이후 호출은 같은 완료 결과를 받는다")
+    void drain_isIdempotent() throws Exception {
+        when(socketIOServer.getAllClients()).thenReturn(List.of());
+        when(roomEventDispatcher.awaitIdle(any())).thenReturn(true);
+
+        drainer.drain().get(5, TimeUnit.SECONDS);
+        drainer.drain().get(5, TimeUnit.SECONDS);
+
+        verify(socketIOServer, times(1)).stop();
+        verify(drainable, times(1)).drain();
+        assertThat(drainer.status()).containsEntry("state", SocketIODrainer.State.DRAINED);
+    }
+}
@@ -3,7 +3,6 @@ package com.ktb.chatapp.websocket.socketio.handler;
 import com.corundumstudio.socketio.SocketIOClient;
 import com.corundumstudio.socketio.SocketIOServer;
 import com.ktb.chatapp.dto.ChatMessageRequest;
-import com.ktb.chatapp.model.Room;
 import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.FileRepository;
 import com.ktb.chatapp.repository.MessageRepository;
@@ -14,9 +13,7 @@ import com.ktb.chatapp.util.BannedWordChecker;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -50,6 +47,8 @@ class ChatMessageHandlerTest {
   private BannedWordChecker bannedWordChecker;
   @Mock
   private RateLimitService rateLimitService;
+  @Mock
+  private RoomMessageBatcher roomMessageBatcher;
   private MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
   private ChatMessageHandler handler;
@@ -65,7 +64,8 @@ class ChatMessageHandlerTest {
         sessionService,
         bannedWordChecker,
         rateLimitService,
-        meterRegistry);
+        meterRegistry,
+        roomMessageBatcher);
   }
 
   @Test
@@ -88,10 +88,7 @@ class ChatMessageHandlerTest {
 //    when(userRepository.findById("user-1")).thenReturn(Optional.of(user));
     when(userService.getUserProfile("user-1")).thenReturn(user);
 
-    Room room = new Room();
-    room.setId("room-1");
-    room.setParticipantIds(new HashSet<>(java.util.List.of("user-1")));
-    when(roomRepository.findById("room-1")).thenReturn(Optional.of(room));
+    when(roomRepository.existsByIdAndParticipantIdsContains("room-1", "user-1")).thenReturn(true);
 
     ChatMessageRequest request = ChatMessageRequest.builder()
         .room("room-1")
@@ -109,5 +106,6 @@ class ChatMessageHandlerTest {
     org.junit.jupiter.api.Assertions.assertEquals("MESSAGE_REJECTED", payload.get("code"));
     verifyNoInteractions(messageRepository);
     verify(socketIOServer, never()).getRoomOperations(any());
+    verifyNoInteractions(roomMessageBatcher);
   }
 }
@@ -20,6 +20,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.IntStream;
@@ -182,4 +183,51 @@ class MessageLoaderTest {
         assertThat(result.getMessages()).isEmpty();
         assertThat(result.isHasMore()).isFalse();
     }
+    
+    @Test
+    @DisplayName("loadMessagesAfter: 커서 이후 메시지를 오름차순으로 반환")
+    void loadMessagesAfter_shouldReturnMissedMessagesInAscendingOrder() {
+        // Given: 커서 이후 누락된 10개 메시지 (DB는 ASC 정렬로 반환)
+        List<Message> missed = testMessages.subList(40, 50);
+        Pageable pageable = PageRequest.of(0, 100, Sort.by("timestamp").ascending());
+        
+        when(messageRepository.findByRoomIdAndIsDeletedAndTimestampGreaterThanEqual(
+                eq(roomId), eq(false), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(missed, pageable, missed.size()));
+        
+        long cursor = testMessages.get(39).toTimestampMillis();
+        FetchMessagesResponse result = messageLoader.loadMessagesAfter(roomId, cursor, 100, userId);
+        
+        assertThat(result.getMessages()).hasSize(10);
+        assertThat(result.isHasMore()).isFalse();
+        verifyAscending(result);
+    }
+    
+    @Test
+    @DisplayName("loadMessagesAfter: 같은 밀리초에 저장된 메시지를 놓치지 않도록 커서 시각을 포함해 조회")
+    void loadMessagesAfter_shouldIncludeCursorMillisecond() {
+        Message last = testMessages.get(39);
+        long cursor = last.toTimestampMillis();
+        when(messageRepository.findByRoomIdAndIsDeletedAndTimestampGreaterThanEqual(
+                eq(roomId), eq(false), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of()));
+        
+        messageLoader.loadMessagesAfter(roomId, cursor, 100, userId);
+        
+        verify(messageRepository).findByRoomIdAndIsDeletedAndTimestampGreaterThanEqual(
+                eq(roomId), eq(false), eq(last.getTimestamp().truncatedTo(ChronoUnit.MILLIS)), any(Pageable.class));
+    }
+    
+    @Test
+    @DisplayName("loadMessagesAfter: 에러 시 재로드 유도를 위해 hasMore=true")
+    void loadMessagesAfter_shouldRequestReloadOnError() {
+        when(messageRepository.findByRoomIdAndIsDeletedAndTimestampGreaterThanEqual(
+                any(), anyBoolean(), any(LocalDateTime.class), any(Pageable.class)))
+                .thenThrow(new RuntimeException("DB error"));
+        
+        FetchMessagesResponse result = messageLoader.loadMessagesAfter(roomId, 0L, 100, userId);
+        
+        assertThat(result.getMessages()).isEmpty();
+        assertThat(result.isHasMore()).isTrue();
+    }
 }
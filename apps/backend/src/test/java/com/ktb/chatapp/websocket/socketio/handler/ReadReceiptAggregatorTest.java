@@ -0,0 +1,92 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.BroadcastOperations;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.dto.ReadReceiptsResponse;
+import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.websocket.socketio.RoomParticipants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReadReceiptAggregatorTest {
+
+    @Mock
+    private SocketIOServer socketIOServer;
+
+    @Mock
+    private RoomParticipants roomParticipants;
+
+    @Mock
+    private BroadcastOperations roomOperations;
+
+    @Mock
+    private BroadcastOperations authorOperations;
+
+    private ReadReceiptAggregator aggregator(int authorOnlyThreshold) {
+        // 스케줄러를 시작하지 않으므로 flush는 테스트에서 직접 호출한다
+        return new ReadReceiptAggregator(
+                socketIOServer, roomParticipants, new SimpleMeterRegistry(), Duration.ofSeconds(1), authorOnlyThreshold);
+    }
+
+    private static Message message(String id, String senderId) {
+        return Message.builder().id(id).roomId("room-1").senderId(senderId).build();
+    }
+
+    private static ReadReceiptsResponse captureReceipts(BroadcastOperations operations) {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(operations).sendEvent(eq("readReceipts"), captor.capture());
+        return (ReadReceiptsResponse) captor.getValue();
+    }
+
+    @Test
+    @DisplayName("flush: 윈도우 동안의 읽음 이벤트를 사용자별 마지막 메시지로 합쳐 방에 한 번 보낸다")
+    void flush_mergesReadsIntoSingleRoomBroadcast() {
+        ReadReceiptAggregator aggregator = aggregator(0);
+        when(socketIOServer.getRoomOperations("room-1")).thenReturn(roomOperations);
+
+        aggregator.read("room-1", "u1", List.of(message("0001", "author"), message("0003", "author")));
+        aggregator.read("room-1", "u2", List.of(message("0002", "author")));
+        aggregator.read("room-1", "u1", List.of(message("0002", "author")));
+
+        aggregator.flush(List.of("room-1"));
+
+        ReadReceiptsResponse response = captureReceipts(roomOperations);
+        assertThat(response.getRoomId()).isEqualTo("room-1");
+        assertThat(response.getReads()).isEqualTo(Map.of("u1", "0003", "u2", "0002"));
+        verifyNoInteractions(roomParticipants);
+    }
+
+    @Test
+    @DisplayName("flush: 참여자 수가 임계치를 넘는 방은 작성자에게 자기 메시지의 읽음 상태만 보낸다")
+    void flush_sendsOnlyToAuthorsInLargeRooms() {
+        ReadReceiptAggregator aggregator = aggregator(100);
+        when(roomParticipants.get("room-1")).thenReturn(Collections.nCopies(500, UserResponse.builder().build()));
+        when(socketIOServer.getRoomOperations("user:alice")).thenReturn(authorOperations);
+        BroadcastOperations bobOperations = mock(BroadcastOperations.class);
+        when(socketIOServer.getRoomOperations("user:bob")).thenReturn(bobOperations);
+
+        aggregator.read("room-1", "u1", List.of(message("0001", "alice"), message("0002", "bob")));
+        aggregator.read("room-1", "alice", List.of(message("0001", "alice"), message("0002", "bob")));
+
+        aggregator.flush(List.of("room-1"));
+
+        assertThat(captureReceipts(authorOperations).getReads()).isEqualTo(Map.of("u1", "0001"));
+        assertThat(captureReceipts(bobOperations).getReads()).isEqualTo(Map.of("u1", "0002", "alice", "0002"));
+        verify(socketIOServer, never()).getRoomOperations("room-1");
+    }
+}
@@ -0,0 +1,167 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.BroadcastOperations;
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.dto.FetchMessagesRequest;
+import com.ktb.chatapp.dto.FetchMessagesResponse;
+import com.ktb.chatapp.dto.JoinRoomSuccessResponse;
+import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.model.User;
+import com.ktb.chatapp.repository.RoomRepository;
+import com.ktb.chatapp.service.UserService;
+import com.ktb.chatapp.websocket.socketio.RoomAffinity;
+import com.ktb.chatapp.websocket.socketio.RoomParticipants;
+import com.ktb.chatapp.websocket.socketio.SocketUser;
+import com.ktb.chatapp.websocket.socketio.UserRooms;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoomJoinHandlerTest {
+
+    @Mock
+    private SocketIOServer socketIOServer;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private UserRooms userRooms;
+
+    @Mock
+    private RoomParticipants roomParticipants;
+
+    @Mock
+    private MessageLoader messageLoader;
+
+    @Mock
+    private SystemMessageAggregator systemMessageAggregator;
+
+    @Mock
+    private RoomAffinity roomAffinity;
+
+    @Mock
+    private SocketIOClient client;
+
+    @Mock
+    private BroadcastOperations roomOperations;
+
+    private ExecutorService executor;
+    private RoomJoinHandler handler;
+
+    private final User alice = User.builder().id("user-1").name("alice").email("alice@test.com").build();
+    private final Room room = Room.builder().id("room-1").participantIds(Set.of("user-1")).build();
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        handler = new RoomJoinHandler(socketIOServer, roomRepository, userService, userRooms, roomParticipants,
+                messageLoader, systemMessageAggregator, roomAffinity, executor, new SimpleMeterRegistry());
+        lenient().when(client.get("user")).thenReturn(new SocketUser("user-1", "alice", "session-1", "socket-1"));
+        lenient().when(socketIOServer.getRoomOperations("room-1")).thenReturn(roomOperations);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("입장 시 참가자 추가, 히스토리, 참가자 스냅샷을 모아 응답하고 변경분만 브로드캐스트한다")
+    void joinRoom_sendsHistoryAndParticipants() {
+        UserResponse participant = UserResponse.from(alice);
+        when(userService.getUserProfile("user-1")).thenReturn(alice);
+        when(roomRepository.addParticipantAndGet("room-1", "user-1")).thenReturn(Optional.of(room));
+        when(messageLoader.loadMessages(any(FetchMessagesRequest.class), eq("user-1")))
+                .thenReturn(new FetchMessagesResponse(List.of(), true));
+        when(roomParticipants.add(eq(room), any(UserResponse.class))).thenReturn(List.of(participant));
+
+        handler.handleJoinRoom(client, "room-1");
+
+        ArgumentCaptor<JoinRoomSuccessResponse> response = ArgumentCaptor.forClass(JoinRoomSuccessResponse.class);
+        verify(client).sendEvent(eq(JOIN_ROOM_SUCCESS), response.capture());
+        assertThat(response.getValue().getRoomId()).isEqualTo("room-1");
+        assertThat(response.getValue().isHasMore()).isTrue();
+        assertThat(response.getValue().getParticipants()).extracting(UserResponse::getId).containsExactly("user-1");
+        verify(client).joinRoom("room-1");
+        verify(userRooms).add("user-1", "room-1");
+        verify(systemMessageAggregator).joined("room-1", "user-1", "alice");
+        verify(roomOperations).sendEvent(eq(PARTICIPANT_JOINED), any(UserResponse.class));
+        verify(roomAffinity).hint(client, "room-1");
+    }
+
+    @Test
+    @DisplayName("이미 참여 중인 방이면 조회/갱신 없이 성공만 응답한다")
+    void joinRoom_skipsPipelineWhenAlreadyJoined() {
+        when(userRooms.isInRoom("user-1", "room-1")).thenReturn(true);
+
+        handler.handleJoinRoom(client, "room-1");
+
+        verify(client).joinRoom("room-1");
+        verify(client).sendEvent(JOIN_ROOM_SUCCESS, Map.of("roomId", "room-1"));
+        verifyNoInteractions(userService, roomRepository, messageLoader, roomParticipants, systemMessageAggregator);
+    }
+
+    @Test
+    @DisplayName("사용자가 없으면 User not found 오류를 보내고 방을 갱신하지 않는다")
+    void joinRoom_reportsMissingUser() {
+        when(userService.getUserProfile("user-1")).thenThrow(new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
+
+        handler.handleJoinRoom(client, "room-1");
+
+        verify(client).sendEvent(JOIN_ROOM_ERROR, Map.of("message", "User not found"));
+        verifyNoInteractions(roomRepository, messageLoader, roomParticipants);
+    }
+
+    @Test
+    @DisplayName("방이 없으면 소켓 방에 참여시키지 않고 오류를 보낸다")
+    void joinRoom_reportsMissingRoom() {
+        when(userService.getUserProfile("user-1")).thenReturn(alice);
+        when(roomRepository.addParticipantAndGet("room-1", "user-1")).thenReturn(Optional.empty());
+
+        handler.handleJoinRoom(client, "room-1");
+
+        verify(client).sendEvent(JOIN_ROOM_ERROR, Map.of("message", "채팅방을 찾을 수 없습니다."));
+        verify(client, never()).joinRoom(anyString());
+        verify(userRooms, never()).add(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("병렬 하위 작업이 실패하면 원인 메시지로 오류를 보낸다")
+    void joinRoom_reportsParallelStageFailure() {
+        when(userService.getUserProfile("user-1")).thenReturn(alice);
+        when(roomRepository.addParticipantAndGet("room-1", "user-1")).thenReturn(Optional.of(room));
+        when(messageLoader.loadMessages(any(FetchMessagesRequest.class), eq("user-1")))
+                .thenThrow(new IllegalStateException("history failed"));
+        lenient().when(roomParticipants.add(eq(room), any(UserResponse.class))).thenReturn(List.of());
+
+        handler.handleJoinRoom(client, "room-1");
+
+        verify(client).sendEvent(JOIN_ROOM_ERROR, Map.of("message", "history failed"));
+        verify(client, never()).sendEvent(eq(JOIN_ROOM_SUCCESS), any());
+    }
+}
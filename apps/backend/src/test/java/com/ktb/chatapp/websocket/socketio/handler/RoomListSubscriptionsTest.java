@@ -0,0 +1,102 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.dto.RoomListSubscribeRequest;
+import com.ktb.chatapp.dto.RoomListUpdateResponse;
+import com.ktb.chatapp.dto.RoomResponse;
+import com.ktb.chatapp.websocket.socketio.SocketUser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoomListSubscriptionsTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RTopic deltaTopic;
+
+    private RoomListSubscriptions subscriptions;
+
+    @BeforeEach
+    void setUp() {
+        when(redissonClient.getTopic(anyString(), any())).thenReturn(deltaTopic);
+        // 스케줄러를 시작하지 않으므로 flush/deliver는 테스트에서 직접 호출한다
+        subscriptions = new RoomListSubscriptions(
+                new ObjectMapper(), redissonClient, new SimpleMeterRegistry(), Duration.ofSeconds(1));
+    }
+
+    private static RoomResponse room(String id, String name) {
+        return RoomResponse.builder().id(id).name(name).createdAtDateTime(LocalDateTime.now()).build();
+    }
+
+    private static SocketIOClient subscriber(RoomListSubscriptions subscriptions, RoomListSubscribeRequest request) {
+        SocketIOClient client = mock(SocketIOClient.class);
+        when(client.getSessionId()).thenReturn(UUID.randomUUID());
+        when(client.get("user")).thenReturn(new SocketUser("u1", "user", "session", "socket"));
+        subscriptions.handleSubscribe(client, request);
+        return client;
+    }
+
+    private static RoomListUpdateResponse captureUpdate(SocketIOClient client) {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(client).sendEvent(eq("roomListUpdate"), captor.capture());
+        return (RoomListUpdateResponse) captor.getValue();
+    }
+
+    @Test
+    @DisplayName("flush: 윈도우 동안의 방 생성/변경을 방별 마지막 상태로 합쳐 토픽에 한 번 발행한다")
+    void flush_publishesMergedDeltaOnce() throws Exception {
+        subscriptions.created(room("r1", "alpha"));
+        subscriptions.updated(room("r1", "alpha renamed"));
+        subscriptions.updated(room("r2", "beta"));
+        subscriptions.updated(room("r2", "beta"));
+
+        subscriptions.flush();
+        subscriptions.flush();
+
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(deltaTopic).publish(captor.capture());
+        RoomListUpdateResponse delta = new ObjectMapper().readValue(captor.getValue(), RoomListUpdateResponse.class);
+        assertThat(delta.created()).extracting(room -> room.get("name")).containsExactly("alpha renamed");
+        assertThat(delta.updated()).extracting(room -> room.get("_id")).containsExactly("r2");
+    }
+
+    @Test
+    @DisplayName("deliver: 구독 조건에 맞는 변경분만 보내고 구독하지 않았거나 해제한 소켓에는 보내지 않는다")
+    void deliver_sendsOnlyMatchingChangesToSubscribers() {
+        SocketIOClient lobby = subscriber(subscriptions, new RoomListSubscribeRequest(0, null, null, null));
+        SocketIOClient searching = subscriber(subscriptions, new RoomListSubscribeRequest(0, "createdAt", "desc", "ALP"));
+        SocketIOClient byName = subscriber(subscriptions, new RoomListSubscribeRequest(0, "name", "asc", ""));
+        SocketIOClient left = subscriber(subscriptions, new RoomListSubscribeRequest(0, null, null, null));
+        subscriptions.handleUnsubscribe(left);
+
+        Map<String, Object> alpha = Map.of("_id", "r1", "name", "alpha");
+        Map<String, Object> beta = Map.of("_id", "r2", "name", "beta");
+        subscriptions.deliver(new RoomListUpdateResponse(List.of(alpha), List.of(beta)));
+
+        assertThat(captureUpdate(lobby)).isEqualTo(new RoomListUpdateResponse(List.of(alpha), List.of(beta)));
+        assertThat(captureUpdate(searching)).isEqualTo(new RoomListUpdateResponse(List.of(alpha), List.of()));
+        assertThat(captureUpdate(byName)).isEqualTo(new RoomListUpdateResponse(List.of(), List.of(beta)));
+        verify(left, never()).sendEvent(anyString(), any());
+    }
+}
@@ -0,0 +1,103 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.BroadcastOperations;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.dto.MessageResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoomMessageBatcherTest {
+
+    @Mock
+    private SocketIOServer socketIOServer;
+
+    @Mock
+    private BroadcastOperations roomOperations;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RoomMessageBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(socketIOServer.getRoomOperations("room-1")).thenReturn(roomOperations);
+    }
+
+    @AfterEach
+    void tearDown() {
+        batcher.shutdown();
+    }
+
+    private static MessageResponse message(String id) {
+        MessageResponse response = new MessageResponse();
+        response.setId(id);
+        response.setRoomId("room-1");
+        return response;
+    }
+
+    @Test
+    @DisplayName("임계치 미만인 방은 메시지를 즉시 message 이벤트로 보낸다")
+    void publish_sendsImmediatelyForQuietRoom() {
+        batcher = new RoomMessageBatcher(socketIOServer, meterRegistry, 10, Duration.ofSeconds(10), 50);
+
+        batcher.publish("room-1", message("m1"));
+        batcher.publish("room-1", message("m2"));
+
+        verify(roomOperations, times(2)).sendEvent(eq("message"), any(Object[].class));
+        verify(roomOperations, never()).sendEvent(eq("messagesBatch"), any(Object[].class));
+        assertThat(meterRegistry.get("socketio.messages.outbound").tag("mode", "immediate").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("임계치를 넘은 방은 max-delay 동안 모아 순서대로 messagesBatch 하나로 보낸다")
+    @SuppressWarnings("unchecked")
+    void publish_batchesBusyRoomUntilMaxDelay() {
+        batcher = new RoomMessageBatcher(socketIOServer, meterRegistry, 2, Duration.ofMillis(50), 50);
+
+        batcher.publish("room-1", message("m1"));
+        batcher.publish("room-1", message("m2"));
+        batcher.publish("room-1", message("m3"));
+        batcher.publish("room-1", message("m4"));
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(roomOperations, timeout(1000)).sendEvent(eq("messagesBatch"), captor.capture());
+        assertThat((List<MessageResponse>) captor.getValue())
+                .extracting(MessageResponse::getId)
+                .containsExactly("m2", "m3", "m4");
+        verify(roomOperations, times(1)).sendEvent(eq("message"), any(Object[].class));
+        assertThat(meterRegistry.get("socketio.messages.batch.size").summary().max()).isEqualTo(3);
+        assertThat(meterRegistry.get("socketio.messages.batching.rooms").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("max-batch에 도달하면 max-delay를 기다리지 않고 바로 보낸다")
+    @SuppressWarnings("unchecked")
+    void publish_flushesWhenMaxBatchReached() {
+        batcher = new RoomMessageBatcher(socketIOServer, meterRegistry, 1, Duration.ofSeconds(10), 3);
+
+        batcher.publish("room-1", message("m1"));
+        batcher.publish("room-1", message("m2"));
+        batcher.publish("room-1", message("m3"));
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(roomOperations).sendEvent(eq("messagesBatch"), captor.capture());
+        assertThat((List<MessageResponse>) captor.getValue())
+                .extracting(MessageResponse::getId)
+                .containsExactly("m1", "m2", "m3");
+    }
+}
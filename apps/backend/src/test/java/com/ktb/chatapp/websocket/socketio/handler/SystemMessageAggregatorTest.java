@@ -0,0 +1,97 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.BroadcastOperations;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.repository.FileRepository;
+import com.ktb.chatapp.repository.MessageRepository;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SystemMessageAggregatorTest {
+
+    @Mock
+    private SocketIOServer socketIOServer;
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @Mock
+    private BroadcastOperations roomOperations;
+
+    private SystemMessageAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        // 스케줄러를 시작하지 않으므로 flush는 테스트에서 직접 호출한다
+        aggregator = new SystemMessageAggregator(
+                socketIOServer,
+                messageRepository,
+                new MessageResponseMapper(fileRepository),
+                Duration.ofSeconds(1),
+                50);
+        lenient().when(socketIOServer.getRoomOperations(anyString())).thenReturn(roomOperations);
+        lenient().when(messageRepository.insert(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("format: 표시 인원을 넘으면 외 N명으로 요약")
+    void format_summarizesRemainingNames() {
+        assertThat(SystemMessageAggregator.format(List.of("A"), "입장하였습니다."))
+                .isEqualTo("A님이 입장하였습니다.");
+        assertThat(SystemMessageAggregator.format(List.of("A", "B"), "입장하였습니다."))
+                .isEqualTo("A, B님이 입장하였습니다.");
+        assertThat(SystemMessageAggregator.format(List.of("A", "B", "C", "D", "E"), "입장하였습니다."))
+                .isEqualTo("A, B님 외 3명이 입장하였습니다.");
+    }
+
+    @Test
+    @DisplayName("flush: 여러 방의 입장/퇴장을 방별 메시지로 합쳐 한 번에 저장")
+    @SuppressWarnings("unchecked")
+    void flush_insertsCombinedMessagesInSingleBulkInsert() {
+        aggregator.joined("room-1", "u1", "A");
+        aggregator.joined("room-1", "u2", "B");
+        aggregator.joined("room-1", "u3", "C");
+        aggregator.left("room-1", "u4", "D");
+        aggregator.joined("room-2", "u5", "E");
+
+        aggregator.flush(List.of("room-1", "room-2"));
+
+        ArgumentCaptor<List<Message>> captor = ArgumentCaptor.forClass(List.class);
+        verify(messageRepository, times(1)).insert(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(Message::getRoomId, Message::getContent)
+                .containsExactly(
+                        tuple("room-1", "A, B님 외 1명이 입장하였습니다."),
+                        tuple("room-1", "D님이 퇴장하였습니다."),
+                        tuple("room-2", "E님이 입장하였습니다."));
+        verify(roomOperations, times(3)).sendEvent(eq("message"), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("flush: 같은 윈도우 안의 입장 후 퇴장은 상쇄되어 메시지가 없다")
+    void flush_cancelsJoinFollowedByLeave() {
+        aggregator.joined("room-1", "u1", "A");
+        aggregator.left("room-1", "u1", "A");
+
+        aggregator.flush(List.of("room-1"));
+
+        verifyNoInteractions(messageRepository);
+    }
+}
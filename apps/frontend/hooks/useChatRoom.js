@@ -46,6 +46,7 @@ export const useChatRoom = () => {
   const initialLoadCompletedRef = useRef(false);
   const processedMessageIds = useRef(new Set());
   const loadMoreTimeoutRef = useRef(null);
+  const lastMessageTimestampRef = useRef(null);
 
   // Socket handling setup
   const {
@@ -101,10 +102,14 @@ export const useChatRoom = () => {
 
       if (socketRef.current && reason !== 'RECONNECT') {
         socketRef.current.off('message');
+        socketRef.current.off('messagesBatch');
+        socketRef.current.off('resyncRequired');
         socketRef.current.off('previousMessages');
         socketRef.current.off('previousMessagesLoaded');
         socketRef.current.off('participantsUpdate');
-        socketRef.current.off('messagesRead');
+        socketRef.current.off('participantJoined');
+        socketRef.current.off('participantLeft');
+        socketRef.current.off('readReceipts');
         socketRef.current.off('messageReactionUpdate');
         socketRef.current.off('session_ended');
         socketRef.current.off('error');
@@ -219,50 +224,86 @@ export const useChatRoom = () => {
       }));
     });
 
-    // 읽음 상태 업데이트 이벤트 (메시지 목록의 readers 배열 업데이트)
-    socketRef.current.on('messagesRead', ({ userId, messageIds, timestamp }) => {
+    // 참가자 입장/퇴장 delta 이벤트
+    socketRef.current.on('participantJoined', (participant) => {
+      if (!mountedRef.current || !participant?.id) return;
+      setRoom(prev => {
+        const current = prev?.participants || [];
+        if (current.some(p => p.id === participant.id)) return prev;
+        return { ...prev, participants: [...current, participant] };
+      });
+    });
+
+    socketRef.current.on('participantLeft', ({ userId }) => {
       if (!mountedRef.current) return;
+      setRoom(prev => ({
+        ...prev,
+        participants: (prev?.participants || []).filter(p => p.id !== userId)
+      }));
+    });
+
+    // 읽음 상태 변경분 (userId → 마지막으로 읽은 메시지 ID, 그 이하의 메시지는 읽음으로 표시)
+    // 메시지 ID는 MongoDB ObjectId라 문자열 비교 순서가 생성 순서와 같다
+    socketRef.current.on('readReceipts', ({ roomId, reads }) => {
+      if (!mountedRef.current || !reads) return;
 
+      const readAt = new Date();
       setMessages(prev => prev.map(msg => {
-        // 해당 메시지가 읽음 처리된 메시지인지 확인
-        if (messageIds.includes(msg._id)) {
-          // 이미 읽은 사용자인지 확인
-          const alreadyRead = msg.readers?.some(reader => 
-            reader.userId === userId || reader._id === userId
-          );
-          
-          if (!alreadyRead) {
-            return {
-              ...msg,
-              readers: [
-                ...(msg.readers || []),
-                { userId, readAt: timestamp || new Date() }
-              ]
-            };
-          }
+        if (msg.room !== roomId) {
+          return msg;
+        }
+        const newReaders = Object.entries(reads)
+          .filter(([userId, lastReadId]) => msg._id <= lastReadId &&
+            !msg.readers?.some(reader => reader.userId === userId || reader._id === userId))
+          .map(([userId]) => ({ userId, readAt }));
+
+        if (newReaders.length === 0) {
+          return msg;
         }
-        return msg;
+        return {
+          ...msg,
+          readers: [...(msg.readers || []), ...newReaders]
+        };
       }));
     });
 
-    // 메시지 이벤트
-    socketRef.current.on('message', message => {
-      if (!message || !mountedRef.current || messageProcessingRef.current || !message._id) return;
-      
-      if (processedMessageIds.current.has(message._id)) {
-        return;
-      }
+    // 메시지 이벤트 (message: 단건, messagesBatch: 메시지가 몰리는 방에서 묶어서 전송)
+    const handleIncomingMessages = (incoming) => {
+      if (!mountedRef.current || messageProcessingRef.current) return;
 
-      processedMessageIds.current.add(message._id);
+      const newMessages = incoming.filter(message => {
+        if (!message?._id || processedMessageIds.current.has(message._id)) {
+          return false;
+        }
+        processedMessageIds.current.add(message._id);
+        return true;
+      });
+      if (newMessages.length === 0) return;
 
       setMessages(prev => {
-        const isDuplicate = prev.some(msg => msg._id === message._id);
+        const existingIds = new Set(prev.map(msg => msg._id));
+        const unique = newMessages.filter(msg => !existingIds.has(msg._id));
 
-        if (isDuplicate) {
+        if (unique.length === 0) {
           return prev;
         }
-        return [...prev, message];
+        return [...prev, ...unique];
       });
+    };
+
+    socketRef.current.on('message', message => {
+      if (!message) return;
+      handleIncomingMessages([message]);
+    });
+
+    socketRef.current.on('messagesBatch', messages => {
+      if (!Array.isArray(messages)) return;
+      handleIncomingMessages(messages);
+    });
+
+    // 송신 지연으로 서버가 연결을 끊기 전 알림: 읽음/리액션 이벤트가 누락됐을 수 있으므로 재연결 시 전체 재입장
+    socketRef.current.on('resyncRequired', () => {
+      lastMessageTimestampRef.current = null;
     });
 
     // 이전 메시지 이벤트 (previousMessages와 previousMessagesLoaded 둘 다 처리)
@@ -393,12 +434,37 @@ export const useChatRoom = () => {
       setConnected(true);
       setError('');
 
-      // 재연결 시 채팅방 재접속
-      if (router.query.room) {
-        setupRoom().catch(() => {
-          setError('채팅방 재연결에 실패했습니다.');
-        });
+      if (!router.query.room) return;
+
+      const roomId = router.query.room;
+      const cursor = lastMessageTimestampRef.current;
+      const rejoin = () => setupRoom().catch(() => {
+        setError('채팅방 재연결에 실패했습니다.');
+      });
+
+      // 받은 메시지가 없으면 전체 재입장
+      if (!cursor) {
+        rejoin();
+        return;
       }
+
+      // 재연결 시 누락된 메시지만 복구, 실패하거나 누락분이 많으면 재입장
+      socketRef.current.once('resumeRoomsSuccess', ({ rooms = [], failedRoomIds = [] }) => {
+        if (!mountedRef.current) return;
+        const resumed = rooms.find(r => r.roomId === roomId);
+        if (!resumed || failedRoomIds.includes(roomId) || resumed.hasMore) {
+          rejoin();
+          return;
+        }
+
+        const missed = (resumed.messages || []).filter(msg => !processedMessageIds.current.has(msg._id));
+        missed.forEach(msg => processedMessageIds.current.add(msg._id));
+        if (missed.length > 0) {
+          setMessages(prev => [...prev, ...missed]);
+        }
+        setupCompleteRef.current = true;
+      });
+      socketRef.current.emit('resumeRooms', { cursors: { [roomId]: cursor } });
     };
 
     socketRef.current.on('connect', handleConnect);
@@ -420,6 +486,12 @@ export const useChatRoom = () => {
     };
   }, [router.query.room, setupRoom, setConnected, currentUser, isInitialized, setError]);
 
+  // 재연결 시 resumeRooms 커서로 사용할 마지막 메시지 timestamp
+  useEffect(() => {
+    const last = messages[messages.length - 1];
+    lastMessageTimestampRef.current = last ? new Date(last.timestamp).getTime() : null;
+  }, [messages]);
+
   // Component initialization and cleanup
   useEffect(() => {
     const initializeChat = async () => {
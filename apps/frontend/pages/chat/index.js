@@ -167,6 +167,7 @@ function ChatRoomsComponent() {
   const isLoadingRef = useRef(false);
   const previousRoomsRef = useRef([]);
   const lastLoadedPageRef = useRef(0);
+  const roomListFilterRef = useRef(null);
 
   const getRetryDelay = useCallback((retryCount) => {
     const delay = RETRY_CONFIG.baseDelay *
@@ -456,6 +457,18 @@ function ChatRoomsComponent() {
     }
   }, [fetchRooms]);
 
+  // 로비에서 보고 있는 목록 조건으로 방 목록 변경분을 구독 (조건이 바뀌면 다시 보내 덮어씀)
+  useEffect(() => {
+    roomListFilterRef.current = {
+      page: 0,
+      sortField: sorting[0]?.id,
+      sortOrder: sorting[0]?.desc ? 'desc' : 'asc'
+    };
+    if (socketRef.current?.connected) {
+      socketRef.current.emit('subscribeRoomList', roomListFilterRef.current);
+    }
+  }, [sorting]);
+
   useEffect(() => {
     if (!currentUser?.token) return;
 
@@ -480,7 +493,7 @@ function ChatRoomsComponent() {
         const handlers = {
           connect: () => {
             setConnectionStatus(CONNECTION_STATUS.CONNECTED);
-            socket.emit('joinRoomList');
+            socket.emit('subscribeRoomList', roomListFilterRef.current);
           },
           disconnect: (reason) => {
             setConnectionStatus(CONNECTION_STATUS.DISCONNECTED);
@@ -488,9 +501,16 @@ function ChatRoomsComponent() {
           error: (error) => {
             setConnectionStatus(CONNECTION_STATUS.ERROR);
           },
-          roomCreated: (newRoom) => {
+          roomListUpdate: ({ created = [], updated = [] }) => {
             setRooms(prev => {
-              const updatedRooms = [newRoom, ...prev];
+              const existingIds = new Set(prev.map(room => room._id));
+              const updatedById = new Map(updated.map(room => [room._id, room]));
+              // created는 생성 순서이므로 최신순 목록 앞에 역순으로 붙인다
+              const newRooms = created.filter(room => !existingIds.has(room._id)).reverse();
+              const updatedRooms = [
+                ...newRooms,
+                ...prev.map(room => updatedById.get(room._id) || room)
+              ];
               previousRoomsRef.current = updatedRooms;
               return updatedRooms;
             });
@@ -534,6 +554,7 @@ function ChatRoomsComponent() {
     return () => {
       isSubscribed = false;
       if (socketRef.current) {
+        socketRef.current.emit('unsubscribeRoomList');
         socketRef.current.disconnect();
         socketRef.current = null;
       }
@@ -80,6 +80,10 @@ class SocketService {
 
     this.socket.on('disconnect', (reason) => {
       this.connected = false;
+      // 서버/네트워크로 끊긴 경우 이후 재접속 핸드셰이크는 우선 처리 대상임을 알린다
+      if (reason !== 'io client disconnect') {
+        this.socket.auth = { ...this.socket.auth, resume: true };
+      }
       this.cleanup(CLEANUP_REASONS.DISCONNECT);
     });
 
@@ -89,6 +93,16 @@ class SocketService {
         reject(error);
         return;
       }
+      // 서버 과부하로 핸드셰이크가 거절되면 자동 재접속되지 않으므로 안내받은 시간 후 직접 다시 시도한다
+      if (error.message === 'Server overloaded') {
+        const retryAfter = error.data?.retryAfter ?? this.retryDelay;
+        setTimeout(() => {
+          if (this.socket && !this.socket.connected) {
+            this.socket.connect();
+          }
+        }, retryAfter);
+        return;
+      }
       if (error.message === 'websocket error') {
         this.reconnectAttempts++;
       }
@@ -99,6 +113,27 @@ class SocketService {
       }
     });
 
+    // 서버가 배포로 드레인 중이면 안내받은 시간 후 연결을 끊어 다른 노드로 자동 재접속한다
+    // (transport를 닫으면 disconnect 핸들러가 resume을 표시하고 Manager가 재접속을 시도한다)
+    this.socket.on('serverDraining', (data) => {
+      setTimeout(() => {
+        if (this.socket?.connected) {
+          this.socket.io.engine?.close();
+        }
+      }, data?.reconnectAfter ?? 0);
+    });
+
+    // 입장한 방의 소유 노드가 다르면 room query로 재접속해 NginX가 소유 노드로 연결하게 한다
+    // (이미 같은 방 query로 연결된 경우 다시 옮기지 않아 라우팅이 맞지 않아도 반복되지 않는다)
+    this.socket.on('roomAffinity', ({ roomId, local }) => {
+      const query = this.socket.io.opts.query || {};
+      if (local || !roomId || query.room === roomId) return;
+      this.socket.io.opts.query = { ...query, room: roomId };
+      if (this.socket.connected) {
+        this.socket.io.engine?.close();
+      }
+    });
+
     // duplicate_login 이벤트 수신
     // type: 'new_login_attempt' - 새로 로그인한 디바이스
     // type: 'existing_session' - 기존 세션이 있던 디바이스 (다른 곳에서 로그인함)